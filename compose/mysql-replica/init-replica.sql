@@ -0,0 +1,9 @@
+-- mysql 서비스를 GTID 기반으로 복제한다. 처음 컨테이너를 만들 때 한 번만 실행된다.
+CHANGE REPLICATION SOURCE TO
+    SOURCE_HOST = 'mysql',
+    SOURCE_PORT = 3306,
+    SOURCE_USER = 'root',
+    SOURCE_PASSWORD = 'verysecret',
+    SOURCE_AUTO_POSITION = 1,
+    GET_SOURCE_PUBLIC_KEY = 1;
+START REPLICA;
@@ -0,0 +1,37 @@
+package dev.sijunyang.celog.api;
+
+import dev.sijunyang.celog.core.domain.follow.FollowService;
+import dev.sijunyang.celog.core.domain.user.RequestUser;
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/v1/users/{userId}/follow")
+@RequiredArgsConstructor
+public class FollowController {
+
+    private final AuthenticatedUserManager authenticatedUserManager;
+
+    private final FollowService followService;
+
+    @PutMapping
+    public ResponseEntity<Void> follow(@PathVariable Long userId) {
+        RequestUser requestUser = this.authenticatedUserManager.getRequestUser();
+        this.followService.follow(requestUser, userId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @DeleteMapping
+    public ResponseEntity<Void> unfollow(@PathVariable Long userId) {
+        RequestUser requestUser = this.authenticatedUserManager.getRequestUser();
+        this.followService.unfollow(requestUser, userId);
+        return ResponseEntity.noContent().build();
+    }
+
+}
@@ -1,25 +1,54 @@
 package dev.sijunyang.celog.api;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.sijunyang.celog.core.domain.post.AutosaveDraftRequest;
 import dev.sijunyang.celog.core.domain.post.CreatePostRequest;
+import dev.sijunyang.celog.core.domain.post.DraftAutosaveDto;
+import dev.sijunyang.celog.core.domain.post.PatchPostRequest;
+import dev.sijunyang.celog.core.domain.post.PopularPostDto;
+import dev.sijunyang.celog.core.domain.post.PostDraftDto;
 import dev.sijunyang.celog.core.domain.post.PostDto;
+import dev.sijunyang.celog.core.domain.post.PostHtmlService;
+import dev.sijunyang.celog.core.domain.post.PostImportService;
 import dev.sijunyang.celog.core.domain.post.PostService;
 import dev.sijunyang.celog.core.domain.post.PostSummaryDto;
+import dev.sijunyang.celog.core.domain.post.PostVersionDto;
 import dev.sijunyang.celog.core.domain.post.UpdatePostRequest;
+import dev.sijunyang.celog.core.domain.search.PostSearchResultDto;
+import dev.sijunyang.celog.core.domain.search.PostSearchService;
+import dev.sijunyang.celog.core.domain.trending.TrendingPostDto;
+import dev.sijunyang.celog.core.domain.trending.TrendingService;
 import dev.sijunyang.celog.core.domain.user.RequestUser;
+import dev.sijunyang.celog.core.global.pagination.CursorPage;
+import dev.sijunyang.celog.core.global.pagination.CursorRequest;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/v1/posts")
@@ -30,6 +59,16 @@ public class PostController {
 
     private final PostService postService;
 
+    private final PostHtmlService postHtmlService;
+
+    private final PostImportService postImportService;
+
+    private final PostSearchService postSearchService;
+
+    private final TrendingService trendingService;
+
+    private final ObjectMapper objectMapper;
+
     @PostMapping
     public ResponseEntity<Void> createPost(@RequestBody CreatePostRequest createPostRequest) {
         RequestUser requestUser = this.authenticatedUserManager.getRequestUser();
@@ -37,6 +76,20 @@ public class PostController {
         return ResponseEntity.status(HttpStatus.CREATED).build();
     }
 
+    // 다른 블로그의 게시글과 댓글을 한 번에 가져온다. 요청 본문은 게시글 JSON 배열이며, 묶음이 커밋될 때마다 진행 상황을 NDJSON 한 줄로 응답한다.
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> importPosts(HttpServletRequest request) throws IOException {
+        RequestUser requestUser = this.authenticatedUserManager.getRequestUser();
+        InputStream inputStream = request.getInputStream();
+        StreamingResponseBody body = (outputStream) -> this.postImportService.importPosts(requestUser, inputStream,
+                (progress) -> {
+                    writeNdjsonLine(outputStream, progress);
+                    flush(outputStream);
+                });
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
     @PutMapping("/{postId}")
     public ResponseEntity<Void> updatePost(@PathVariable Long postId,
             @RequestBody UpdatePostRequest updatePostRequest) {
@@ -45,6 +98,27 @@ public class PostController {
         return ResponseEntity.ok().build();
     }
 
+    @PatchMapping("/{postId}")
+    public ResponseEntity<Void> patchPost(@PathVariable Long postId, @RequestBody PatchPostRequest patchPostRequest) {
+        RequestUser requestUser = this.authenticatedUserManager.getRequestUser();
+        this.postService.patchPost(requestUser, postId, patchPostRequest);
+        return ResponseEntity.ok().build();
+    }
+
+    // 편집기의 자동 저장 요청이다. 저장한 내용은 주기적으로 한 번에 반영되며, 기준 버전이 현재 버전과 다르면 409 를 응답한다.
+    @PutMapping("/{postId}/draft")
+    public ResponseEntity<DraftAutosaveDto> autosaveDraft(@PathVariable Long postId,
+            @RequestBody AutosaveDraftRequest autosaveDraftRequest) {
+        RequestUser requestUser = this.authenticatedUserManager.getRequestUser();
+        return ResponseEntity.ok(this.postService.autosaveDraft(requestUser, postId, autosaveDraftRequest));
+    }
+
+    @GetMapping("/{postId}/draft")
+    public ResponseEntity<PostDraftDto> getDraft(@PathVariable Long postId) {
+        RequestUser requestUser = this.authenticatedUserManager.getRequestUser();
+        return ResponseEntity.ok(this.postService.getDraft(requestUser, postId));
+    }
+
     @DeleteMapping("/{postId}")
     public ResponseEntity<Void> deletePost(@PathVariable Long postId) {
         RequestUser requestUser = this.authenticatedUserManager.getRequestUser();
@@ -53,14 +127,70 @@ public class PostController {
     }
 
     @GetMapping("/{postId}")
-    public ResponseEntity<PostDto> getPost(@PathVariable Long postId) {
+    public ResponseEntity<PostDto> getPost(@PathVariable Long postId, WebRequest webRequest) {
         RequestUser requestUser = this.authenticatedUserManager.getRequestUser();
-        return ResponseEntity.ok().body(this.postService.getPost(requestUser, postId));
+        // 본문 없이 버전만 읽어 접근 권한을 확인하고, 304 로 응답할 때는 게시글 본문을 읽지 않는다.
+        PostVersionDto version = this.postService.getPostVersion(requestUser, postId);
+        // 접근 권한이 확인된 조회만 센다. 304 응답도 사용자가 게시글을 다시 연 것이므로 조회수에 포함한다. 응답에는 반영된 조회수만 담기므로, 먼저
+        // 세어도 이번 응답의 ETag 는 바뀌지 않는다.
+        this.postService.increaseViewCount(postId);
+        // 응답 본문은 수정 시간과 반영된 조회수로 정해지므로 둘 다 ETag 에 담는다. 수정 시간만 비교하는 Last-Modified 는 조회수가 바뀐 것을 알 수
+        // 없으므로 사용하지 않는다.
+        String eTag = "\"" + postId + "-" + toEpochMilli(version.modifiedAt()) + "-" + version.viewCount() + "\"";
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        // ETag 헤더는 checkNotModified 에서 이미 설정된다. 접근 권한을 확인한 버전을 그대로 넘겨 다시 확인하지 않는다.
+        return ResponseEntity.ok().body(this.postService.getPost(version));
+    }
+
+    // 서버에서 미리 렌더링한 HTML 을 그대로 응답한다. 원본 마크다운과 표현이 다르므로 ETag 도 구분한다.
+    @GetMapping(value = "/{postId}/html", produces = MediaType.TEXT_HTML_VALUE)
+    public ResponseEntity<byte[]> getPostHtml(@PathVariable Long postId, WebRequest webRequest) {
+        RequestUser requestUser = this.authenticatedUserManager.getRequestUser();
+        // HTML 에는 조회수가 없으므로 수정 시간만으로 변경 여부를 판단한다. 접근 권한을 확인한 버전을 그대로 넘겨 다시 확인하지 않는다.
+        PostVersionDto version = this.postService.getPostVersion(requestUser, postId);
+        long lastModified = toEpochMilli(version.modifiedAt());
+        this.postService.increaseViewCount(postId);
+        String eTag = "\"" + postId + "-" + lastModified + "-html\"";
+        if (webRequest.checkNotModified(eTag, lastModified)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+            .contentType(new MediaType(MediaType.TEXT_HTML, StandardCharsets.UTF_8))
+            .body(this.postHtmlService.getPostHtml(version));
     }
 
     @GetMapping("/published")
-    public ResponseEntity<List<PostSummaryDto>> getAllPublishedPosts() {
-        return ResponseEntity.ok().body(this.postService.getAllPublishedPosts());
+    public ResponseEntity<CursorPage<PostSummaryDto>> getPublishedPosts(CursorRequest cursorRequest) {
+        return ResponseEntity.ok().body(this.postService.getPublishedPosts(cursorRequest));
+    }
+
+    @GetMapping("/popular")
+    public ResponseEntity<List<PopularPostDto>> getMostViewedPosts(@RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok().body(this.postService.getMostViewedPosts(size));
+    }
+
+    @GetMapping("/trending")
+    public ResponseEntity<List<TrendingPostDto>> getTrendingPosts(@RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok().body(this.trendingService.getTrendingPosts(size));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<PostSearchResultDto> searchPosts(@RequestParam String q,
+            @RequestParam(defaultValue = "0") int page, @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok().body(this.postSearchService.search(q, page, size));
+    }
+
+    // 야간 백업과 검색 재색인 작업을 위해 공개된 모든 게시글을 NDJSON(한 줄에 게시글 하나)으로 스트리밍한다.
+    @GetMapping(value = "/published/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportPublishedPosts() {
+        StreamingResponseBody body = (outputStream) -> {
+            OutputStream bufferedOutputStream = new BufferedOutputStream(outputStream);
+            this.postService.exportPublishedPosts((post) -> writeNdjsonLine(bufferedOutputStream, post));
+            bufferedOutputStream.flush();
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
     }
 
     // TODO @GetMapping("/v1/users/{userId}/posts")로 하고 싶은데, 그럼 User 컨트롤러로 가거나 새로운 컨트롤러를
@@ -72,4 +202,27 @@ public class PostController {
         return ResponseEntity.ok().body(this.postService.getAllPostsByUserId(requestUser, userId));
     }
 
+    private void writeNdjsonLine(OutputStream outputStream, Object value) {
+        try {
+            outputStream.write(this.objectMapper.writeValueAsBytes(value));
+            outputStream.write('\n');
+        }
+        catch (IOException ex) {
+            throw new UncheckedIOException("NDJSON 응답을 작성할 수 없습니다.", ex);
+        }
+    }
+
+    private void flush(OutputStream outputStream) {
+        try {
+            outputStream.flush();
+        }
+        catch (IOException ex) {
+            throw new UncheckedIOException("NDJSON 응답을 전송할 수 없습니다.", ex);
+        }
+    }
+
+    private long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
 }
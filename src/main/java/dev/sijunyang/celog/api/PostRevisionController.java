@@ -0,0 +1,39 @@
+package dev.sijunyang.celog.api;
+
+import java.util.List;
+
+import dev.sijunyang.celog.core.domain.revision.PostRevisionDto;
+import dev.sijunyang.celog.core.domain.revision.PostRevisionService;
+import dev.sijunyang.celog.core.domain.revision.PostRevisionSummaryDto;
+import dev.sijunyang.celog.core.domain.user.RequestUser;
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/v1/posts/{postId}/revisions")
+@RequiredArgsConstructor
+public class PostRevisionController {
+
+    private final AuthenticatedUserManager authenticatedUserManager;
+
+    private final PostRevisionService postRevisionService;
+
+    @GetMapping
+    public ResponseEntity<List<PostRevisionSummaryDto>> getRevisions(@PathVariable Long postId) {
+        RequestUser requestUser = this.authenticatedUserManager.getRequestUser();
+        return ResponseEntity.ok(this.postRevisionService.getRevisions(requestUser, postId));
+    }
+
+    @GetMapping("/{revisionNumber}")
+    public ResponseEntity<PostRevisionDto> getRevision(@PathVariable Long postId,
+            @PathVariable Integer revisionNumber) {
+        RequestUser requestUser = this.authenticatedUserManager.getRequestUser();
+        return ResponseEntity.ok(this.postRevisionService.getRevision(requestUser, postId, revisionNumber));
+    }
+
+}
@@ -3,22 +3,33 @@ package dev.sijunyang.celog.api;
 import java.util.List;
 
 import dev.sijunyang.celog.core.domain.reply.CreateReplyRequest;
+import dev.sijunyang.celog.core.domain.reply.PatchReplyRequest;
 import dev.sijunyang.celog.core.domain.reply.ReplyDto;
+import dev.sijunyang.celog.core.domain.reply.ReplyListVersionDto;
 import dev.sijunyang.celog.core.domain.reply.ReplyService;
+import dev.sijunyang.celog.core.domain.reply.ReplyStreamService;
+import dev.sijunyang.celog.core.domain.reply.ReplyThreadDto;
 import dev.sijunyang.celog.core.domain.reply.UpdateReplyRequest;
 import dev.sijunyang.celog.core.domain.user.RequestUser;
+import dev.sijunyang.celog.core.global.pagination.CursorPage;
+import dev.sijunyang.celog.core.global.pagination.CursorRequest;
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/v1/posts/{postId}/replies")
@@ -29,6 +40,8 @@ public class ReplyController {
 
     private final ReplyService replyService;
 
+    private final ReplyStreamService replyStreamService;
+
     @PostMapping
     public ResponseEntity<ReplyDto> createReply(@PathVariable Long postId, @RequestBody CreateReplyRequest request) {
         RequestUser requestUser = this.authenticatedUserManager.getRequestUser();
@@ -44,6 +57,14 @@ public class ReplyController {
         return ResponseEntity.ok().build();
     }
 
+    @PatchMapping("/{replyId}")
+    public ResponseEntity<Void> patchReply(@PathVariable Long postId, @PathVariable Long replyId,
+            @RequestBody PatchReplyRequest request) {
+        RequestUser requestUser = this.authenticatedUserManager.getRequestUser();
+        this.replyService.patchReply(requestUser, postId, replyId, request);
+        return ResponseEntity.ok().build();
+    }
+
     @DeleteMapping("/{replyId}")
     public ResponseEntity<Void> deleteReply(@PathVariable Long postId, @PathVariable Long replyId) {
         RequestUser requestUser = this.authenticatedUserManager.getRequestUser();
@@ -52,17 +73,91 @@ public class ReplyController {
     }
 
     @GetMapping("/{replyId}/children")
-    public ResponseEntity<List<ReplyDto>> getChildReplies(@PathVariable Long postId, @PathVariable Long replyId) {
+    public ResponseEntity<CursorPage<ReplyDto>> getChildReplies(@PathVariable Long postId, @PathVariable Long replyId,
+            CursorRequest cursorRequest, WebRequest webRequest) {
         RequestUser requestUser = this.authenticatedUserManager.getRequestUser();
-        List<ReplyDto> replies = this.replyService.getChildRepliesById(requestUser, postId, replyId);
+        ReplyListVersionDto version = this.replyService.getReplyListVersion(requestUser, postId);
+        String representation = "children-" + replyId + "-" + toCursorRepresentation(cursorRequest);
+        if (isReplyListNotModified(version, representation, webRequest)) {
+            return null;
+        }
+        CursorPage<ReplyDto> replies = this.replyService.getChildRepliesById(version, replyId, cursorRequest);
         return ResponseEntity.ok(replies);
     }
 
     @GetMapping("/roots")
-    public ResponseEntity<List<ReplyDto>> getRootReplies(@PathVariable Long postId) {
+    public ResponseEntity<CursorPage<ReplyDto>> getRootReplies(@PathVariable Long postId, CursorRequest cursorRequest,
+            WebRequest webRequest) {
         RequestUser requestUser = this.authenticatedUserManager.getRequestUser();
-        List<ReplyDto> replies = this.replyService.getRootRepliesByPostId(requestUser, postId);
+        ReplyListVersionDto version = this.replyService.getReplyListVersion(requestUser, postId);
+        if (isReplyListNotModified(version, "roots-" + toCursorRepresentation(cursorRequest), webRequest)) {
+            return null;
+        }
+        CursorPage<ReplyDto> replies = this.replyService.getRootRepliesByPostId(version, cursorRequest);
         return ResponseEntity.ok(replies);
     }
 
+    @GetMapping("/thread")
+    public ResponseEntity<List<ReplyThreadDto>> getReplyThread(@PathVariable Long postId,
+            @RequestParam(required = false) Integer maxDepth, @RequestParam(required = false) Integer limitPerLevel,
+            WebRequest webRequest) {
+        RequestUser requestUser = this.authenticatedUserManager.getRequestUser();
+        ReplyListVersionDto version = this.replyService.getReplyListVersion(requestUser, postId);
+        if (isReplyListNotModified(version, "thread-" + maxDepth + "-" + limitPerLevel, webRequest)) {
+            return null;
+        }
+        List<ReplyThreadDto> thread = this.replyService.getReplyThread(version, maxDepth, limitPerLevel);
+        return ResponseEntity.ok(thread);
+    }
+
+    @GetMapping("/{replyId}/thread")
+    public ResponseEntity<List<ReplyThreadDto>> getReplySubtree(@PathVariable Long postId, @PathVariable Long replyId,
+            @RequestParam(required = false) Integer maxDepth, @RequestParam(required = false) Integer limitPerLevel,
+            WebRequest webRequest) {
+        RequestUser requestUser = this.authenticatedUserManager.getRequestUser();
+        ReplyListVersionDto version = this.replyService.getReplyListVersion(requestUser, postId);
+        String representation = "subtree-" + replyId + "-" + maxDepth + "-" + limitPerLevel;
+        if (isReplyListNotModified(version, representation, webRequest)) {
+            return null;
+        }
+        List<ReplyThreadDto> subtree = this.replyService.getReplySubtree(version, replyId, maxDepth, limitPerLevel);
+        return ResponseEntity.ok(subtree);
+    }
+
+    @GetMapping("/{replyId}/ancestors")
+    public ResponseEntity<List<ReplyDto>> getAncestors(@PathVariable Long postId, @PathVariable Long replyId,
+            WebRequest webRequest) {
+        RequestUser requestUser = this.authenticatedUserManager.getRequestUser();
+        ReplyListVersionDto version = this.replyService.getReplyListVersion(requestUser, postId);
+        if (isReplyListNotModified(version, "ancestors-" + replyId, webRequest)) {
+            return null;
+        }
+        List<ReplyDto> ancestors = this.replyService.getAncestors(version, replyId);
+        return ResponseEntity.ok(ancestors);
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamReplies(@PathVariable Long postId) {
+        RequestUser requestUser = this.authenticatedUserManager.getRequestUser();
+        return this.replyStreamService.subscribe(requestUser, postId);
+    }
+
+    // 댓글을 읽기 전에 게시글에 유지하는 댓글 수와 댓글 버전으로 만든 약한 ETag 로 변경 여부를 확인한다. 둘 다 게시글 행에서 기본 키로 읽으므로
+    // 댓글이 많은 게시글도 댓글을 훑지 않는다. 댓글 버전만으로 순서를 알 수 없으므로 Last-Modified 는 사용하지 않는다.
+    // 응답 형태마다 ETag 가 달라야 하므로 representation 값을 함께 사용한다. 버전을 읽을 때 접근 권한도 확인하므로, 본문을 조회할 때는 같은 버전을
+    // 넘겨 다시 확인하지 않는다.
+    private boolean isReplyListNotModified(ReplyListVersionDto version, String representation, WebRequest webRequest) {
+        String eTag = "W/\"" + version.postId() + "-" + representation + "-" + version.replyCount() + "-"
+                + version.replyVersion() + "\"";
+        return webRequest.checkNotModified(eTag);
+    }
+
+    // 커서와 페이지 크기마다 응답하는 페이지가 다르므로 ETag 에 함께 넣는다.
+    private String toCursorRepresentation(CursorRequest cursorRequest) {
+        if (cursorRequest.isFirstPage()) {
+            return "first-" + cursorRequest.size();
+        }
+        return cursorRequest.cursorCreatedAt() + "-" + cursorRequest.cursorId() + "-" + cursorRequest.size();
+    }
+
 }
@@ -0,0 +1,30 @@
+package dev.sijunyang.celog.api;
+
+import dev.sijunyang.celog.core.domain.post.PostSummaryDto;
+import dev.sijunyang.celog.core.domain.timeline.TimelineService;
+import dev.sijunyang.celog.core.domain.user.RequestUser;
+import dev.sijunyang.celog.core.global.pagination.CursorPage;
+import dev.sijunyang.celog.core.global.pagination.CursorRequest;
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/v1/timeline")
+@RequiredArgsConstructor
+public class TimelineController {
+
+    private final AuthenticatedUserManager authenticatedUserManager;
+
+    private final TimelineService timelineService;
+
+    @GetMapping
+    public ResponseEntity<CursorPage<PostSummaryDto>> getHomeTimeline(CursorRequest cursorRequest) {
+        RequestUser requestUser = this.authenticatedUserManager.getRequestUser();
+        return ResponseEntity.ok(this.timelineService.getHomeTimeline(requestUser, cursorRequest));
+    }
+
+}
@@ -7,6 +7,7 @@ import dev.sijunyang.celog.core.global.error.NotFoundException;
 import dev.sijunyang.celog.core.global.error.UnauthenticatedException;
 import dev.sijunyang.celog.core.global.error.nextVer.InsufficientPermissionException;
 import dev.sijunyang.celog.core.global.error.nextVer.InvalidInputException;
+import dev.sijunyang.celog.core.global.error.nextVer.ResourceConflictException;
 import dev.sijunyang.celog.core.global.error.nextVer.ResourceNotFoundException;
 
 import org.springframework.http.HttpStatus;
@@ -142,4 +143,17 @@ public class RestExceptionHandlerAdvice extends ResponseEntityExceptionHandler {
         return response;
     }
 
+    /**
+     * {@link ResourceConflictException} 발생 시 처리하는 핸들러 메서드입니다. 409 Conflict 응답을 반환합니다.
+     * @param ex 발생한 예외 객체
+     * @return 예외 정보를 담은 ProblemDetail 객체
+     */
+    @ExceptionHandler(ResourceConflictException.class)
+    public ProblemDetail handleException(ResourceConflictException ex) {
+        ProblemDetail response = ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT, ex.getLocalizedMessage());
+        response.setTitle(ex.getTitle());
+        // TODO response.setType(URI.create());
+        return response;
+    }
+
 }
@@ -0,0 +1,60 @@
+package dev.sijunyang.celog.core.domain.follow;
+
+import dev.sijunyang.celog.core.global.jpa.BaseCreateTimeEntity;
+import dev.sijunyang.celog.core.global.jpa.IdGenerators;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.validation.constraints.NotNull;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 한 사용자가 다른 사용자를 팔로우하는 관계를 저장하는 엔티티 클래스입니다.
+ *
+ * @author Sijun Yang
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity(name = "follow")
+// 팔로우는 사용자 쌍마다 하나이며, 팔로우한 사용자 기준 조회에 사용한다.
+// 게시글을 팔로워들의 타임라인에 넣을 때 팔로워를 ID 순서로 나누어 읽는다.
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_follow_follower_id_followee_id",
+        columnNames = { "follower_id", "followee_id" }),
+        indexes = @Index(name = "idx_follow_followee_id_id", columnList = "followee_id, id"))
+public class FollowEntity extends BaseCreateTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = IdGenerators.FOLLOW)
+    @TableGenerator(name = IdGenerators.FOLLOW, table = IdGenerators.TABLE, pkColumnName = IdGenerators.SEGMENT_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = IdGenerators.FOLLOW,
+            allocationSize = IdGenerators.ALLOCATION_SIZE)
+    private Long id;
+
+    /**
+     * 팔로우한 사용자 ID입니다.
+     */
+    @NotNull
+    private Long followerId;
+
+    /**
+     * 팔로우된 사용자 ID입니다.
+     */
+    @NotNull
+    private Long followeeId;
+
+    @Builder
+    public FollowEntity(Long id, Long followerId, Long followeeId) {
+        this.id = id;
+        this.followerId = followerId;
+        this.followeeId = followeeId;
+    }
+
+}
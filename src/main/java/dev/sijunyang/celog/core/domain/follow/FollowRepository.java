@@ -0,0 +1,41 @@
+package dev.sijunyang.celog.core.domain.follow;
+
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * {@link FollowEntity}를 처리하는 JpaRepository입니다.
+ *
+ * @author Sijun Yang
+ */
+public interface FollowRepository extends JpaRepository<FollowEntity, Long> {
+
+    boolean existsByFollowerIdAndFolloweeId(Long followerId, Long followeeId);
+
+    @Modifying
+    @Query("DELETE FROM follow f WHERE f.followerId = :followerId AND f.followeeId = :followeeId")
+    int deleteByFollowerIdAndFolloweeId(@Param("followerId") Long followerId, @Param("followeeId") Long followeeId);
+
+    @Query("""
+            SELECT new dev.sijunyang.celog.core.domain.follow.FollowerDto(f.id, f.followerId)
+            FROM follow f
+            WHERE f.followeeId = :followeeId AND f.id > :afterFollowId
+            ORDER BY f.id
+            """)
+    List<FollowerDto> findFollowersAfter(@Param("followeeId") Long followeeId,
+            @Param("afterFollowId") Long afterFollowId, Pageable pageable);
+
+    @Query("""
+            SELECT f.followeeId
+            FROM follow f JOIN users u ON u.id = f.followeeId
+            WHERE f.followerId = :followerId AND u.followerCount >= :minFollowerCount
+            """)
+    List<Long> findFolloweeIdsWithFollowerCountAtLeast(@Param("followerId") Long followerId,
+            @Param("minFollowerCount") long minFollowerCount);
+
+}
@@ -0,0 +1,117 @@
+package dev.sijunyang.celog.core.domain.follow;
+
+import java.util.List;
+
+import dev.sijunyang.celog.core.domain.user.RequestUser;
+import dev.sijunyang.celog.core.domain.user.UserService;
+import dev.sijunyang.celog.core.global.error.nextVer.InvalidInputException;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * 사용자 팔로우를 처리하는 서비스 클래스입니다. 팔로우할 때마다 팔로우된 사용자의 팔로워 수를 함께 증감합니다.
+ *
+ * @author Sijun Yang
+ */
+@Service
+@Validated
+@RequiredArgsConstructor
+public class FollowService {
+
+    private final FollowRepository followRepository;
+
+    private final UserService userService;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 다른 사용자를 팔로우합니다. 이미 팔로우한 사용자라면 아무것도 하지 않으며, 같은 팔로우 요청이 동시에 들어와도 한 번만 팔로우됩니다.
+     * @param requester 팔로우하는 사용자 정보
+     * @param followeeId 팔로우할 사용자 ID
+     */
+    public void follow(@NotNull @Valid RequestUser requester, long followeeId) {
+        validateFollowable(requester, followeeId);
+        try {
+            this.transactionTemplate.executeWithoutResult((status) -> {
+                if (this.followRepository.existsByFollowerIdAndFolloweeId(requester.userId(), followeeId)) {
+                    return;
+                }
+                FollowEntity followEntity = FollowEntity.builder()
+                    .followerId(requester.userId())
+                    .followeeId(followeeId)
+                    .build();
+                this.followRepository.saveAndFlush(followEntity);
+                this.userService.addFollowerCount(followeeId, 1);
+            });
+        }
+        catch (DataIntegrityViolationException ex) {
+            // 확인과 저장 사이에 같은 팔로우가 먼저 저장되면 유니크 제약에 걸린다. 이미 팔로우한 것과 같으므로 성공으로 처리한다.
+            if (!isFollowing(requester.userId(), followeeId)) {
+                throw ex;
+            }
+        }
+    }
+
+    /**
+     * 팔로우를 취소합니다. 팔로우하지 않은 사용자라면 아무것도 하지 않습니다.
+     * @param requester 팔로우를 취소하는 사용자 정보
+     * @param followeeId 팔로우를 취소할 사용자 ID
+     */
+    @Transactional
+    public void unfollow(@NotNull @Valid RequestUser requester, long followeeId) {
+        validateFollowable(requester, followeeId);
+        int deletedCount = this.followRepository.deleteByFollowerIdAndFolloweeId(requester.userId(), followeeId);
+        if (deletedCount == 0) {
+            return;
+        }
+        this.userService.addFollowerCount(followeeId, -deletedCount);
+        this.eventPublisher.publishEvent(new UnfollowedEvent(requester.userId(), followeeId));
+    }
+
+    /**
+     * 사용자의 팔로워를 팔로우 ID 순서로 일정 수만큼 가져옵니다.
+     * @param followeeId 팔로우된 사용자 ID
+     * @param afterFollowId 이전 묶음의 마지막 팔로우 ID, 처음이라면 0
+     * @param size 가져올 팔로워 수
+     * @return 팔로워 리스트
+     */
+    public List<FollowerDto> getFollowersAfter(long followeeId, long afterFollowId, int size) {
+        return this.followRepository.findFollowersAfter(followeeId, afterFollowId, PageRequest.of(0, size));
+    }
+
+    /**
+     * 사용자가 팔로우한 사용자 중 팔로워가 일정 수 이상인 사용자의 ID를 가져옵니다.
+     * @param followerId 팔로우한 사용자 ID
+     * @param minFollowerCount 최소 팔로워 수
+     * @return 팔로워가 많은 팔로우 대상 사용자 ID 리스트
+     */
+    public List<Long> getFolloweeIdsWithFollowerCountAtLeast(long followerId, long minFollowerCount) {
+        return this.followRepository.findFolloweeIdsWithFollowerCountAtLeast(followerId, minFollowerCount);
+    }
+
+    // 다른 트랜잭션이 커밋한 팔로우를 확인해야 하므로 주 데이터베이스에서 새 트랜잭션으로 읽는다.
+    private boolean isFollowing(long followerId, long followeeId) {
+        return Boolean.TRUE.equals(this.transactionTemplate
+            .execute((status) -> this.followRepository.existsByFollowerIdAndFolloweeId(followerId, followeeId)));
+    }
+
+    private void validateFollowable(RequestUser requester, long followeeId) {
+        this.userService.validateUserExistence(requester.userId());
+        this.userService.validateUserExistence(followeeId);
+        if (requester.userId() == followeeId) {
+            throw new InvalidInputException("자기 자신은 팔로우할 수 없습니다. userId: " + followeeId);
+        }
+    }
+
+}
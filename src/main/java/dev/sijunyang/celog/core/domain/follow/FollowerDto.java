@@ -0,0 +1,12 @@
+package dev.sijunyang.celog.core.domain.follow;
+
+/**
+ * 팔로워를 ID 순서로 나누어 읽을 때 사용하는 DTO입니다.
+ *
+ * @param followId 팔로우 ID, 다음 묶음을 읽을 때 커서로 사용합니다.
+ * @param followerId 팔로워 ID
+ * @author Sijun Yang
+ */
+public record FollowerDto(Long followId, Long followerId) {
+
+}
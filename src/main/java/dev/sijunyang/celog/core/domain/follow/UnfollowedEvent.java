@@ -0,0 +1,12 @@
+package dev.sijunyang.celog.core.domain.follow;
+
+/**
+ * 팔로우가 취소되었을 때 발행되는 이벤트입니다.
+ *
+ * @param followerId 팔로우를 취소한 사용자 ID
+ * @param followeeId 팔로우가 취소된 사용자 ID
+ * @author Sijun Yang
+ */
+public record UnfollowedEvent(Long followerId, Long followeeId) {
+
+}
@@ -0,0 +1,4 @@
+/**
+ * 사용자 사이의 팔로우 관계를 관리하는 패키지입니다.
+ */
+package dev.sijunyang.celog.core.domain.follow;
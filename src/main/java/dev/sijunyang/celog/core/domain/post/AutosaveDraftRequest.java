@@ -0,0 +1,16 @@
+package dev.sijunyang.celog.core.domain.post;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * 작성 중인 게시글 자동 저장 요청입니다.
+ *
+ * @param title 제목
+ * @param content 내용
+ * @param baseVersion 편집을 시작한 임시 저장 버전, 직전 자동 저장 응답의 버전이거나 처음이라면 게시글 조회 응답의 수정 시간으로 만든 버전
+ * @author Sijun Yang
+ */
+public record AutosaveDraftRequest(@NotEmpty String title, @NotEmpty String content, @NotNull Long baseVersion) {
+
+}
@@ -0,0 +1,27 @@
+package dev.sijunyang.celog.core.domain.post;
+
+import java.time.LocalDateTime;
+
+import dev.sijunyang.celog.core.global.enums.PublicationStatus;
+
+/**
+ * 게시글 캐시에 저장하는 게시글 정보입니다. 자주 바뀌는 조회수는 담지 않고, 조회할 때 게시글 버전과 함께 읽은 조회수를 합칩니다. 그래서 조회수가
+ * 반영되어도 캐시를 비우지 않습니다.
+ *
+ * @author Sijun Yang
+ */
+record CachedPost(Long postId, String title, String content, PublicationStatus readStatus, Long userId,
+        LocalDateTime modifiedAt, LocalDateTime createdAt) {
+
+    static CachedPost from(PostEntity postEntity) {
+        return new CachedPost(postEntity.getId(), postEntity.getTitle(), postEntity.getContent(),
+                postEntity.getReadStatus(), postEntity.getUserId(), postEntity.getModifiedAt(),
+                postEntity.getCreatedAt());
+    }
+
+    PostDto toPostDto(long viewCount) {
+        return new PostDto(this.postId, this.title, this.content, this.readStatus, this.userId, this.modifiedAt,
+                this.createdAt, viewCount);
+    }
+
+}
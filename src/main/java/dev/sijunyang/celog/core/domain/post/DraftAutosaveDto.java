@@ -0,0 +1,11 @@
+package dev.sijunyang.celog.core.domain.post;
+
+/**
+ * 자동 저장 결과를 나타내는 DTO입니다.
+ *
+ * @param version 저장된 임시 저장 버전, 다음 자동 저장 요청의 기준 버전으로 사용합니다.
+ * @author Sijun Yang
+ */
+public record DraftAutosaveDto(long version) {
+
+}
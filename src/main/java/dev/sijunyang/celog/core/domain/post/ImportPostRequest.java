@@ -0,0 +1,23 @@
+package dev.sijunyang.celog.core.domain.post;
+
+import java.util.List;
+
+import dev.sijunyang.celog.core.global.enums.PublicationStatus;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import org.springframework.lang.Nullable;
+
+public record ImportPostRequest(@NotEmpty String title, @NotEmpty String content,
+        @NotNull PublicationStatus readStatus, @Nullable List<@Valid @NotNull ImportReplyRequest> replies) {
+
+    /**
+     * 이 게시글을 저장할 때 추가되는 행 수(게시글 1개와 모든 하위 댓글 수의 합)를 계산합니다.
+     * @return 추가되는 행 수
+     */
+    public int countRows() {
+        return 1 + ImportReplyRequest.countAll(this.replies);
+    }
+
+}
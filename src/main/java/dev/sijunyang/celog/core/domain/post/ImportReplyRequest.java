@@ -0,0 +1,26 @@
+package dev.sijunyang.celog.core.domain.post;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import org.springframework.lang.Nullable;
+
+public record ImportReplyRequest(@NotEmpty @Size(max = 4096) String content,
+        @Nullable List<@Valid @NotNull ImportReplyRequest> replies) {
+
+    static int countAll(@Nullable List<ImportReplyRequest> replies) {
+        if (replies == null) {
+            return 0;
+        }
+        int count = 0;
+        for (ImportReplyRequest reply : replies) {
+            count += 1 + countAll(reply.replies());
+        }
+        return count;
+    }
+
+}
@@ -0,0 +1,16 @@
+package dev.sijunyang.celog.core.domain.post;
+
+import dev.sijunyang.celog.core.global.enums.PublicationStatus;
+import jakarta.validation.constraints.Size;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * 게시글 부분 수정 요청입니다. null 인 값은 변경하지 않습니다.
+ *
+ * @author Sijun Yang
+ */
+public record PatchPostRequest(@Nullable @Size(min = 1) String title, @Nullable @Size(min = 1) String content,
+        @Nullable PublicationStatus readStatus) {
+
+}
@@ -0,0 +1,12 @@
+package dev.sijunyang.celog.core.domain.post;
+
+import java.time.LocalDateTime;
+
+/**
+ * 조회수 순위에 사용하는 요약 게시글 DTO입니다.
+ *
+ * @author Sijun Yang
+ */
+public record PopularPostDto(Long postId, String title, Long userId, long viewCount, LocalDateTime createdAt) {
+
+}
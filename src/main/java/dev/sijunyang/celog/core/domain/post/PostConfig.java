@@ -0,0 +1,15 @@
+package dev.sijunyang.celog.core.domain.post;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * {@link PostContentCompressionProperties}를 활성화합니다.
+ *
+ * @author Sijun Yang
+ */
+@Configuration
+@EnableConfigurationProperties({ PostContentCompressionProperties.class })
+public class PostConfig {
+
+}
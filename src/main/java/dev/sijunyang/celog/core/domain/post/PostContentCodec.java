@@ -0,0 +1,67 @@
+package dev.sijunyang.celog.core.domain.post;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 게시글 내용을 압축하고 해제하는 클래스입니다.
+ *
+ * <p>
+ * 쓰기 지연을 최소화하기 위해 압축률보다 속도를 우선하는 {@link Deflater#BEST_SPEED} 수준을 사용합니다.
+ *
+ * @author Sijun Yang
+ */
+final class PostContentCodec {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private PostContentCodec() {
+        // 인스턴스 생성을 방지하기 위한 private 생성자
+    }
+
+    static byte[] compress(String content) {
+        byte[] input = content.getBytes(StandardCharsets.UTF_8);
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(input);
+            deflater.finish();
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream(input.length / 2 + 16);
+            byte[] buffer = new byte[BUFFER_SIZE];
+            while (!deflater.finished()) {
+                int length = deflater.deflate(buffer);
+                outputStream.write(buffer, 0, length);
+            }
+            return outputStream.toByteArray();
+        }
+        finally {
+            deflater.end();
+        }
+    }
+
+    static String decompress(byte[] compressedContent) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressedContent);
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream(compressedContent.length * 3);
+            byte[] buffer = new byte[BUFFER_SIZE];
+            while (!inflater.finished()) {
+                int length = inflater.inflate(buffer);
+                if (length == 0 && !inflater.finished() && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalStateException("압축된 게시글 내용이 손상되었습니다.");
+                }
+                outputStream.write(buffer, 0, length);
+            }
+            return outputStream.toString(StandardCharsets.UTF_8);
+        }
+        catch (DataFormatException ex) {
+            throw new IllegalStateException("압축된 게시글 내용을 해제할 수 없습니다.", ex);
+        }
+        finally {
+            inflater.end();
+        }
+    }
+
+}
@@ -0,0 +1,50 @@
+package dev.sijunyang.celog.core.domain.post;
+
+import java.util.List;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 압축 저장을 켜기 전에 저장된 게시글 내용을 조금씩 압축하는 백그라운드 작업입니다.
+ *
+ * <p>
+ * 한 번에 {@link PostContentCompressionProperties#migrationBatchSize()}개의 게시글만 처리하여 트랜잭션과 잠금을 짧게 유지합니다. 게시글의 수정
+ * 시간은 바뀌지 않으므로 캐시와 ETag 는 그대로 유효합니다.
+ *
+ * @author Sijun Yang
+ */
+@Component
+@ConditionalOnProperty(prefix = "celog.post.content-compression", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class PostContentCompressionMigrator {
+
+    private final PostRepository postRepository;
+
+    private final PostContentCompressionProperties properties;
+
+    /**
+     * 아직 압축되지 않은 게시글 내용을 한 묶음 압축합니다.
+     * @return 압축된 게시글 수
+     */
+    @Transactional
+    @Scheduled(fixedDelayString = "${celog.post.content-compression.migration-interval:PT1M}")
+    public int compressNextBatch() {
+        List<UncompressedPostContentDto> contents = this.postRepository.findUncompressedContents(
+                this.properties.minLength(), PageRequest.of(0, this.properties.migrationBatchSize()));
+
+        int compressedCount = 0;
+        for (UncompressedPostContentDto content : contents) {
+            byte[] compressedContent = PostContentCodec.compress(content.content());
+            compressedCount += this.postRepository.updateCompressedContent(content.postId(), compressedContent,
+                    content.modifiedAt());
+        }
+        return compressedCount;
+    }
+
+}
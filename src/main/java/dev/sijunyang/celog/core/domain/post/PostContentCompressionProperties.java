@@ -0,0 +1,27 @@
+package dev.sijunyang.celog.core.domain.post;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 게시글 내용 압축 저장 설정입니다.
+ *
+ * @param enabled 새로 저장하는 게시글 내용을 압축할지 여부, 기존 게시글의 압축 작업도 이 값이 true 일 때만 실행된다.
+ * @param minLength 압축할 게시글 내용의 최소 길이, 이보다 짧은 내용은 압축해도 크기가 거의 줄지 않으므로 그대로 저장한다.
+ * @param migrationBatchSize 기존 게시글을 압축할 때 한 번에 처리할 게시글 수
+ * @author Sijun Yang
+ */
+@ConfigurationProperties(prefix = "celog.post.content-compression")
+public record PostContentCompressionProperties(@DefaultValue("false") boolean enabled,
+        @DefaultValue("1024") int minLength, @DefaultValue("500") int migrationBatchSize) {
+
+    /**
+     * 게시글 내용을 압축해서 저장해야 하는지 확인합니다.
+     * @param content 저장할 게시글 내용
+     * @return 압축해서 저장해야 한다면 true
+     */
+    public boolean shouldCompress(String content) {
+        return this.enabled && content != null && content.length() >= this.minLength;
+    }
+
+}
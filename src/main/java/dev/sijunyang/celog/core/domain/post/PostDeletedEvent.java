@@ -0,0 +1,11 @@
+package dev.sijunyang.celog.core.domain.post;
+
+/**
+ * 게시글이 삭제되었을 때 발행되는 이벤트입니다.
+ *
+ * @param postId 게시글 ID
+ * @author Sijun Yang
+ */
+public record PostDeletedEvent(Long postId) {
+
+}
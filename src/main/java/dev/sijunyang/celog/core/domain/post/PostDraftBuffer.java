@@ -0,0 +1,234 @@
+package dev.sijunyang.celog.core.domain.post;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import dev.sijunyang.celog.core.global.cache.CacheNames;
+import dev.sijunyang.celog.core.global.enums.PublicationStatus;
+import dev.sijunyang.celog.core.global.error.nextVer.InsufficientPermissionException;
+import dev.sijunyang.celog.core.global.error.nextVer.InvalidInputException;
+import dev.sijunyang.celog.core.global.error.nextVer.ResourceConflictException;
+import dev.sijunyang.celog.core.global.error.nextVer.ResourceNotFoundException;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 작성 중인 게시글의 자동 저장 내용을 메모리에 모았다가 주기적으로 데이터베이스에 반영하는 클래스입니다.
+ *
+ * <p>
+ * 편집기는 몇 초마다 자동 저장하므로, 요청마다 게시글을 UPDATE 하지 않고 게시글별 마지막 내용만 남겨두었다가 반영 주기마다 게시글 하나에 UPDATE 한
+ * 번씩 실행합니다. 자동 저장 버전은 게시글 수정 시간을 마이크로초 단위의 숫자로 나타낸 값이며, 요청의 기준 버전이 현재 버전과 다르면 다른 곳에서 먼저
+ * 저장한 것으로 보고 {@link ResourceConflictException}을 던집니다. 반영할 때는 마지막으로 반영한 수정 시간을 조건으로 UPDATE 하므로, 그 사이
+ * 게시글이 수정/발행/삭제되었다면 자동 저장 내용을 반영하지 않고 충돌로 표시합니다. 충돌로 표시된 게시글에 이어서 자동 저장하면
+ * {@link ResourceConflictException}을 던져, 편집기에 남아 있는 내용이 반영되지 않았음을 알립니다. 애플리케이션이 종료될 때도 남은 내용을
+ * 반영하지만, 비정상 종료 시에는 마지막 반영 이후의 자동 저장 내용이 유실될 수 있습니다.
+ *
+ * <p>
+ * 자동 저장 내용은 이 인스턴스의 메모리에만 있습니다. 여러 인스턴스로 실행한다면 같은 게시글의 자동 저장 요청이 같은 인스턴스로 가도록 라우팅해야 하며,
+ * 그렇지 않으면 다른 인스턴스가 먼저 반영한 게시글은 수정 시간이 달라 충돌로 표시됩니다.
+ *
+ * @author Sijun Yang
+ */
+@Component
+@RequiredArgsConstructor
+public class PostDraftBuffer {
+
+    private static final String SAVE_DRAFT_SQL = """
+            UPDATE post SET title = ?, content = ?, compressed_content = ?, modified_at = ?
+            WHERE id = ? AND read_status = 'DRAFTING' AND modified_at = ?
+            """;
+
+    private static final LocalDateTime VERSION_EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final Map<Long, PendingDraft> pendingDrafts = new ConcurrentHashMap<>();
+
+    private final PostRepository postRepository;
+
+    private final PostContentCompressionProperties contentCompressionProperties;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final CacheManager cacheManager;
+
+    /**
+     * 게시글 수정 시간을 자동 저장 버전으로 변환합니다.
+     * @param modifiedAt 게시글 수정 시간
+     * @return 자동 저장 버전
+     */
+    public static long toVersion(LocalDateTime modifiedAt) {
+        return ChronoUnit.MICROS.between(VERSION_EPOCH, modifiedAt);
+    }
+
+    /**
+     * 작성 중인 게시글의 제목과 내용을 자동 저장합니다. 저장한 내용은 다음 반영 주기에 데이터베이스에 반영됩니다. 게시글별로 처음 자동 저장할 때만
+     * 게시글의 작성자와 수정 시간을 조회합니다.
+     * @param userId 자동 저장을 요청한 사용자 ID
+     * @param postId 작성 중인 게시글 ID
+     * @param autosaveRequest 자동 저장할 내용과 기준 버전
+     * @return 새 자동 저장 버전
+     */
+    public DraftAutosaveDto autosave(long userId, long postId, AutosaveDraftRequest autosaveRequest) {
+        // 데이터베이스 조회는 맵 잠금 밖에서 하고, 교체할 때 읽은 내용이 그대로인지 확인한다. 그 사이 다른 요청이 먼저 저장했다면 다시 읽어 확인하므로
+        // 기준 버전 확인과 저장 사이에 다른 요청이 끼어들 수 없다.
+        while (true) {
+            PendingDraft current = this.pendingDrafts.get(postId);
+            if (current != null && current.conflicted()) {
+                resolveConflict(userId, postId, current, autosaveRequest.baseVersion());
+                current = null;
+            }
+            PendingDraft base = (current != null) ? current : loadBase(postId);
+            validateUserIsOwner(userId, postId, base);
+            long currentVersion = toVersion(base.modifiedAt());
+            if (autosaveRequest.baseVersion() != currentVersion) {
+                throw new ResourceConflictException("다른 곳에서 먼저 저장된 게시글입니다. postId: " + postId + ", baseVersion: "
+                        + autosaveRequest.baseVersion() + ", currentVersion: " + currentVersion);
+            }
+            PendingDraft saved = new PendingDraft(userId, autosaveRequest.title(), autosaveRequest.content(),
+                    nextModifiedAt(base.modifiedAt()), base.persistedModifiedAt(), false);
+            boolean replaced = (current != null) ? this.pendingDrafts.replace(postId, current, saved)
+                    : this.pendingDrafts.putIfAbsent(postId, saved) == null;
+            if (replaced) {
+                return new DraftAutosaveDto(toVersion(saved.modifiedAt()));
+            }
+        }
+    }
+
+    /**
+     * 아직 데이터베이스에 반영되지 않은 자동 저장 내용을 조회합니다.
+     * @param userId 조회를 요청한 사용자 ID
+     * @param postId 게시글 ID
+     * @return 반영되지 않은 자동 저장 내용, 없다면 null
+     */
+    @Nullable
+    public PostDraftDto getPendingDraft(long userId, long postId) {
+        PendingDraft draft = this.pendingDrafts.get(postId);
+        // 충돌로 표시된 내용은 반영할 수 없으므로 데이터베이스의 현재 내용을 이어서 작성하게 한다.
+        if (draft == null || draft.conflicted()) {
+            return null;
+        }
+        validateUserIsOwner(userId, postId, draft);
+        return new PostDraftDto(postId, draft.title(), draft.content(), toVersion(draft.modifiedAt()));
+    }
+
+    // 자동 저장이 아닌 수정이나 삭제가 커밋되면, 그 이전 상태를 기준으로 한 자동 저장 내용은 버린다.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handlePostUpdated(PostUpdatedEvent event) {
+        this.pendingDrafts.remove(event.postId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handlePostDeleted(PostDeletedEvent event) {
+        this.pendingDrafts.remove(event.postId());
+    }
+
+    /**
+     * 모아둔 자동 저장 내용을 데이터베이스에 반영합니다. 반영에 실패한 게시글은 다음 주기에 다시 시도하고, 그 사이 게시글이 바뀌어 UPDATE 된 행이
+     * 없다면 충돌로 표시합니다. Scheduled 와 PreDestroy 로만 호출되며, 게시글마다 별도의 UPDATE 로 반영합니다.
+     */
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${celog.post.draft-autosave.flush-interval:PT5S}")
+    public void flush() {
+        Cache postCache = this.cacheManager.getCache(CacheNames.POSTS);
+        RuntimeException failure = null;
+        for (Map.Entry<Long, PendingDraft> entry : this.pendingDrafts.entrySet()) {
+            Long postId = entry.getKey();
+            PendingDraft draft = entry.getValue();
+            if (draft.conflicted()) {
+                continue;
+            }
+            boolean saved;
+            try {
+                saved = save(postId, draft);
+            }
+            catch (RuntimeException ex) {
+                failure = ex;
+                continue;
+            }
+            // 반영하는 동안 새로 자동 저장되었다면 다음 반영의 기준 수정 시간만 바꾸고, 아니라면 메모리에서 제거한다.
+            // 반영하지 못했다면 내용은 버리고, 이어지는 자동 저장 요청에 알릴 수 있도록 충돌로 표시해 둔다.
+            this.pendingDrafts.computeIfPresent(postId, (key, current) -> {
+                if (!saved) {
+                    return new PendingDraft(current.userId(), null, null, current.modifiedAt(),
+                            current.persistedModifiedAt(), true);
+                }
+                if (current.modifiedAt().equals(draft.modifiedAt())) {
+                    return null;
+                }
+                return new PendingDraft(current.userId(), current.title(), current.content(), current.modifiedAt(),
+                        draft.modifiedAt(), false);
+            });
+            if (saved) {
+                postCache.evict(postId);
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private boolean save(Long postId, PendingDraft draft) {
+        boolean compress = this.contentCompressionProperties.shouldCompress(draft.content());
+        int updatedRows = this.jdbcTemplate.update(SAVE_DRAFT_SQL, draft.title(), compress ? null : draft.content(),
+                compress ? PostContentCodec.compress(draft.content()) : null, draft.modifiedAt(), postId,
+                draft.persistedModifiedAt());
+        return updatedRows == 1;
+    }
+
+    private PendingDraft loadBase(long postId) {
+        PostVersionDto version = this.postRepository.findVersionById(postId)
+            .orElseThrow(() -> new ResourceNotFoundException("ID에 해당되는 PostEntity를 찾을 수 없습니다. postId: " + postId));
+        if (version.readStatus() != PublicationStatus.DRAFTING) {
+            throw new InvalidInputException("작성 중인 게시글만 자동 저장할 수 있습니다. postId: " + postId);
+        }
+        return new PendingDraft(version.userId(), null, null, version.modifiedAt(), version.modifiedAt(), false);
+    }
+
+    // 충돌로 표시된 뒤 처음 받은 요청이 반영하지 못한 내용에 이어서 저장하려는 것이라면 알리고, 그 뒤로는 데이터베이스의 현재 내용을 기준으로 한다.
+    private void resolveConflict(long userId, long postId, PendingDraft conflicted, long baseVersion) {
+        validateUserIsOwner(userId, postId, conflicted);
+        this.pendingDrafts.remove(postId, conflicted);
+        if (baseVersion == toVersion(conflicted.modifiedAt())) {
+            throw new ResourceConflictException("자동 저장 내용을 반영하기 전에 게시글이 다른 곳에서 수정되었습니다. postId: " + postId
+                    + ", baseVersion: " + baseVersion);
+        }
+    }
+
+    private void validateUserIsOwner(long userId, long postId, PendingDraft draft) {
+        if (userId != draft.userId()) {
+            throw new InsufficientPermissionException(
+                    "게시글을 소유한 사용자만 수행할 수 있습니다. requestUserId: " + userId + ", postId: " + postId);
+        }
+    }
+
+    // 자동 저장할 때마다 버전이 커지도록, 같은 마이크로초 안의 저장은 1 마이크로초 뒤의 시간으로 기록한다.
+    private LocalDateTime nextModifiedAt(LocalDateTime modifiedAt) {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        return now.isAfter(modifiedAt) ? now : modifiedAt.plus(1, ChronoUnit.MICROS);
+    }
+
+    /**
+     * 반영을 기다리는 자동 저장 내용입니다.
+     *
+     * @param userId 게시글 작성자 ID
+     * @param title 제목
+     * @param content 내용
+     * @param modifiedAt 반영할 때 기록할 수정 시간, 자동 저장 버전이 됩니다.
+     * @param persistedModifiedAt 데이터베이스에 마지막으로 반영된 수정 시간
+     * @param conflicted 게시글이 다른 곳에서 바뀌어 반영하지 못했는지 여부, 충돌로 표시되면 제목과 내용은 null 입니다.
+     */
+    private record PendingDraft(long userId, @Nullable String title, @Nullable String content,
+            LocalDateTime modifiedAt, LocalDateTime persistedModifiedAt, boolean conflicted) {
+
+    }
+
+}
@@ -0,0 +1,14 @@
+package dev.sijunyang.celog.core.domain.post;
+
+/**
+ * 편집기에서 이어서 작성할 게시글 임시 저장 상태를 나타내는 DTO입니다.
+ *
+ * @param postId 게시글 ID
+ * @param title 제목
+ * @param content 내용
+ * @param version 임시 저장 버전, 다음 자동 저장 요청의 기준 버전으로 사용합니다.
+ * @author Sijun Yang
+ */
+public record PostDraftDto(Long postId, String title, String content, long version) {
+
+}
@@ -2,6 +2,7 @@ package dev.sijunyang.celog.core.domain.post;
 
 import dev.sijunyang.celog.core.global.enums.PublicationStatus;
 import dev.sijunyang.celog.core.global.jpa.BaseTimeEntity;
+import dev.sijunyang.celog.core.global.jpa.IdGenerators;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -9,11 +10,16 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
+import jakarta.validation.constraints.AssertTrue;
 import jakarta.validation.constraints.NotNull;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 /**
  * 포스트(게시글) 정보를 저장하는 엔티티 클래스입니다.
@@ -23,13 +29,25 @@ import lombok.NoArgsConstructor;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity(name = "post")
+// 부분 수정 시 변경된 컬럼만 UPDATE 하여, 제목만 바꿀 때 용량이 큰 본문을 다시 쓰지 않는다.
+@DynamicUpdate
+// 공개 게시글 피드를 (createdAt, id) 커서로 조회하고, 사용자별 요약 게시글을 공개 상태로 거르거나 (createdAt, id) 커서로 조회하고,
+// 조회수 순위를 구하기 위한 복합 인덱스
+@Table(indexes = {
+        @Index(name = "idx_post_read_status_created_at_id", columnList = "read_status, created_at, id"),
+        @Index(name = "idx_post_user_id_read_status_created_at_id",
+                columnList = "user_id, read_status, created_at, id"),
+        @Index(name = "idx_post_read_status_view_count", columnList = "read_status, view_count") })
 public class PostEntity extends BaseTimeEntity {
 
     /**
      * 포스트의 고유 식별자입니다.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = IdGenerators.POST)
+    @TableGenerator(name = IdGenerators.POST, table = IdGenerators.TABLE, pkColumnName = IdGenerators.SEGMENT_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = IdGenerators.POST,
+            allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long id;
 
     /**
@@ -39,12 +57,17 @@ public class PostEntity extends BaseTimeEntity {
     private String title;
 
     /**
-     * 포스트 내용입니다.
+     * 포스트 내용입니다. 내용이 압축되어 저장된 경우 null 입니다.
      */
-    @NotNull
     @Column(columnDefinition = "TEXT")
     private String content;
 
+    /**
+     * 압축된 포스트 내용입니다. 내용이 압축되지 않은 경우 null 입니다.
+     */
+    @Column(columnDefinition = "MEDIUMBLOB")
+    private byte[] compressedContent;
+
     /**
      * 포스트 공개 상태를 나타냅니다.
      */
@@ -58,23 +81,89 @@ public class PostEntity extends BaseTimeEntity {
     @NotNull
     private Long userId;
 
+    /**
+     * 포스트 조회수입니다. {@link PostViewCounter}가 모아서 반영하므로, 엔티티를 저장할 때는 이 값을 쓰지 않습니다.
+     */
+    @Column(insertable = false, updatable = false, columnDefinition = "BIGINT NOT NULL DEFAULT 0")
+    private long viewCount;
+
+    /**
+     * 포스트에 달린 전체 댓글 수입니다. 댓글을 생성하거나 삭제하는 트랜잭션에서 UPDATE 로 더하므로, 엔티티를 저장할 때는 이 값을 쓰지 않습니다.
+     */
+    @Column(insertable = false, updatable = false, columnDefinition = "BIGINT NOT NULL DEFAULT 0")
+    private long replyCount;
+
+    /**
+     * 포스트에 달린 댓글이 생성, 수정, 삭제될 때마다 1씩 커지는 값입니다. 댓글을 읽지 않고 댓글 목록이 바뀌었는지 판단할 때 사용하며, 댓글 수와 같이
+     * UPDATE 로 더하므로 엔티티를 저장할 때는 이 값을 쓰지 않습니다.
+     */
+    @Column(insertable = false, updatable = false, columnDefinition = "BIGINT NOT NULL DEFAULT 0")
+    private long replyVersion;
+
     @Builder
-    public PostEntity(Long id, String title, String content, PublicationStatus readStatus, Long userId) {
+    public PostEntity(Long id, String title, String content, PublicationStatus readStatus, Long userId,
+            boolean compressContent) {
         this.id = id;
         this.title = title;
-        this.content = content;
+        if (compressContent && content != null) {
+            this.compressedContent = PostContentCodec.compress(content);
+        }
+        else {
+            this.content = content;
+        }
         this.readStatus = readStatus;
         this.userId = userId;
     }
 
+    public void changeTitle(String title) {
+        this.title = title;
+    }
+
+    /**
+     * 포스트 내용을 변경합니다. 압축 여부에 따라 두 컬럼 중 하나에만 저장합니다.
+     * @param content 변경할 내용
+     * @param compressContent 내용을 압축해서 저장할지 여부
+     */
+    public void changeContent(String content, boolean compressContent) {
+        if (compressContent) {
+            this.content = null;
+            this.compressedContent = PostContentCodec.compress(content);
+        }
+        else {
+            this.content = content;
+            this.compressedContent = null;
+        }
+    }
+
+    public void changeReadStatus(PublicationStatus readStatus) {
+        this.readStatus = readStatus;
+    }
+
+    /**
+     * 포스트 내용을 반환합니다. 내용이 압축되어 저장된 경우 호출할 때마다 압축을 해제하므로, 목록 조회처럼 내용이 필요 없는 곳에서는 호출하지 않아야
+     * 합니다.
+     * @return 포스트 내용
+     */
+    public String getContent() {
+        if (this.compressedContent != null) {
+            return PostContentCodec.decompress(this.compressedContent);
+        }
+        return this.content;
+    }
+
+    @AssertTrue(message = "게시글 내용은 압축된 내용과 압축되지 않은 내용 중 하나로만 저장되어야 합니다.")
+    boolean isContentStoredOnce() {
+        return (this.content == null) != (this.compressedContent == null);
+    }
+
     public PostDto mapToPostDto() {
         return new PostDto(this.getId(), this.getTitle(), this.getContent(), this.getReadStatus(), this.getUserId(),
-                this.getModifiedAt(), this.getCreatedAt());
+                this.getModifiedAt(), this.getCreatedAt(), this.getViewCount());
     }
 
     public PostSummaryDto mapToPostSummaryDto() {
         return new PostSummaryDto(this.getId(), this.getTitle(), this.getUserId(), this.getModifiedAt(),
-                this.getCreatedAt());
+                this.getCreatedAt(), this.getReplyCount());
     }
 
 }
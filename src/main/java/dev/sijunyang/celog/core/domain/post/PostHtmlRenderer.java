@@ -0,0 +1,35 @@
+package dev.sijunyang.celog.core.domain.post;
+
+import java.nio.charset.StandardCharsets;
+
+import org.commonmark.parser.Parser;
+import org.commonmark.renderer.html.HtmlRenderer;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * 마크다운으로 작성된 게시글 내용을 HTML 로 렌더링하는 클래스입니다.
+ *
+ * <p>
+ * 게시글에 직접 작성한 HTML 태그는 실행되지 않도록 이스케이프하고, {@code javascript:} 와 같이 허용되지 않은 스킴의 링크는 제거합니다.
+ * {@link Parser}와 {@link HtmlRenderer}는 스레드에 안전하므로 하나의 인스턴스를 공유합니다.
+ *
+ * @author Sijun Yang
+ */
+@Component
+public class PostHtmlRenderer {
+
+    private final Parser parser = Parser.builder().build();
+
+    private final HtmlRenderer htmlRenderer = HtmlRenderer.builder().escapeHtml(true).sanitizeUrls(true).build();
+
+    /**
+     * 마크다운을 HTML 로 렌더링합니다.
+     * @param markdown 렌더링할 마크다운
+     * @return UTF-8 로 인코딩된 HTML
+     */
+    public byte[] render(String markdown) {
+        return this.htmlRenderer.render(this.parser.parse(markdown)).getBytes(StandardCharsets.UTF_8);
+    }
+
+}
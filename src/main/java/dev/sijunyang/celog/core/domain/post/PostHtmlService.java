@@ -0,0 +1,94 @@
+package dev.sijunyang.celog.core.domain.post;
+
+import dev.sijunyang.celog.core.domain.user.RequestUser;
+import dev.sijunyang.celog.core.global.cache.CacheNames;
+import dev.sijunyang.celog.core.global.cache.ReplicaReads;
+import jakarta.validation.constraints.NotNull;
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * 게시글 내용을 HTML 로 렌더링해서 제공하는 서비스 클래스입니다.
+ *
+ * <p>
+ * 게시글이 생성/수정되면 커밋 이후 요청 스레드와 분리된 스레드에서 미리 렌더링해 캐시에 저장합니다. 조회 시에는 캐시된 HTML 의 수정 시간이 게시글과
+ * 같을 때만 그대로 반환하고, 캐시에 없거나 오래된 HTML 이라면 요청 스레드에서 렌더링합니다.
+ *
+ * @author Sijun Yang
+ */
+@Service
+@Validated
+@RequiredArgsConstructor
+public class PostHtmlService {
+
+    private final PostService postService;
+
+    private final PostRepository postRepository;
+
+    private final PostHtmlRenderer postHtmlRenderer;
+
+    private final CacheManager cacheManager;
+
+    /**
+     * 게시글 내용을 렌더링한 HTML 을 조회합니다. 게시글 조회와 같은 접근 권한이 필요하며, 권한은
+     * {@link PostService#getPostVersion(RequestUser, long)}로 버전을 조회할 때 확인합니다. 이 메서드는 넘겨받은 버전으로 권한을 다시 확인하지
+     * 않습니다.
+     * @param version 접근 권한을 확인하고 조회한 게시글 버전
+     * @return UTF-8 로 인코딩된 HTML
+     */
+    @Transactional(readOnly = true)
+    public byte[] getPostHtml(@NotNull PostVersionDto version) {
+        // 수정 시간만으로 캐시된 HTML 이 최신인지 확인하고, 최신이라면 게시글 내용을 읽지 않는다.
+        RenderedPostHtml cached = getPostHtmlCache().get(version.postId(), RenderedPostHtml.class);
+        if (cached != null && cached.modifiedAt().equals(version.modifiedAt())) {
+            return cached.html();
+        }
+        return renderAndCache(this.postService.getPost(version));
+    }
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handlePostCreated(PostCreatedEvent event) {
+        prerender(event.postId());
+    }
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handlePostUpdated(PostUpdatedEvent event) {
+        prerender(event.postId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handlePostDeleted(PostDeletedEvent event) {
+        getPostHtmlCache().evict(event.postId());
+    }
+
+    private void prerender(Long postId) {
+        if (postId == null) {
+            return;
+        }
+        this.postRepository.findById(postId).map(PostEntity::mapToPostDto).ifPresent(this::renderAndCache);
+    }
+
+    private byte[] renderAndCache(PostDto post) {
+        byte[] html = this.postHtmlRenderer.render(post.content());
+        // 복제 데이터베이스에서 읽은 게시글은 지연된 내용일 수 있으므로 캐시에 넣지 않는다. 미리 렌더링은 트랜잭션 밖에서 주 데이터베이스를 읽으므로
+        // 캐시에 넣는다.
+        if (!ReplicaReads.isCurrentTransactionReadFromReplica()) {
+            getPostHtmlCache().put(post.postId(), new RenderedPostHtml(post.modifiedAt(), html));
+        }
+        return html;
+    }
+
+    private Cache getPostHtmlCache() {
+        return this.cacheManager.getCache(CacheNames.POST_HTML);
+    }
+
+}
@@ -0,0 +1,17 @@
+package dev.sijunyang.celog.core.domain.post;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * 게시글 가져오기 진행 상황을 나타내는 DTO입니다. 커밋된 게시글과 댓글 수만 포함합니다.
+ *
+ * @param importedPosts 지금까지 저장된 게시글 수
+ * @param importedReplies 지금까지 저장된 댓글 수
+ * @param completed 모든 게시글을 저장했는지 여부
+ * @param error 가져오기가 실패했다면 실패 이유, 아니라면 null
+ * @author Sijun Yang
+ */
+public record PostImportProgressDto(long importedPosts, long importedReplies, boolean completed,
+        @Nullable String error) {
+
+}
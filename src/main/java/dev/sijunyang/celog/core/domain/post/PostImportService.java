@@ -0,0 +1,226 @@
+package dev.sijunyang.celog.core.domain.post;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.sijunyang.celog.core.domain.reply.ReplyCountRepairer;
+import dev.sijunyang.celog.core.domain.reply.ReplyEntity;
+import dev.sijunyang.celog.core.domain.user.RequestUser;
+import dev.sijunyang.celog.core.domain.user.UserService;
+import dev.sijunyang.celog.core.global.error.nextVer.InvalidInputException;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Valid;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.NotNull;
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * 다른 블로그의 게시글과 댓글을 한 번에 가져오는 서비스 클래스입니다.
+ *
+ * <p>
+ * 요청 본문의 JSON 배열을 게시글 하나씩 읽으므로 전체 요청을 메모리에 올리지 않습니다. 작성자는 처음에 한 번만 검증하고, 게시글과 댓글은
+ * {@value #CHUNK_ROWS}행 이상 모일 때마다 하나의 트랜잭션에서 배치 INSERT 로 저장합니다. 묶음 단위로 커밋하므로 중간에 실패하면 앞서 커밋된 묶음은
+ * 남아 있으며, 진행 상황으로 전달된 수만큼 건너뛰고 다시 요청하면 됩니다. 이미 진행 상황을 보낸 뒤에 실패하면 오류 메시지를 담은 진행 상황을 마지막으로
+ * 보냅니다.
+ *
+ * @author Sijun Yang
+ */
+@Service
+@Validated
+@RequiredArgsConstructor
+public class PostImportService {
+
+    static final int CHUNK_ROWS = 1_000;
+
+    private final UserService userService;
+
+    private final PostContentCompressionProperties contentCompressionProperties;
+
+    private final ObjectMapper objectMapper;
+
+    private final Validator validator;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final EntityManager entityManager;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final ReplyCountRepairer replyCountRepairer;
+
+    /**
+     * JSON 배열로 전달된 게시글과 하위 댓글을 요청한 사용자의 글로 저장합니다.
+     * @param requester 게시글을 가져오는 사용자 정보, 모든 게시글과 댓글의 작성자가 됩니다.
+     * @param inputStream {@link ImportPostRequest}의 JSON 배열
+     * @param progressListener 묶음이 커밋될 때마다 진행 상황을 전달받는 함수
+     * @return 최종 진행 상황
+     */
+    public PostImportProgressDto importPosts(@NotNull @Valid RequestUser requester, @NotNull InputStream inputStream,
+            @NotNull Consumer<PostImportProgressDto> progressListener) {
+        this.userService.validateUserExistence(requester.userId());
+
+        long importedPosts = 0;
+        long importedReplies = 0;
+        try {
+            List<ImportPostRequest> chunk = new ArrayList<>();
+            int chunkRows = 0;
+            try (MappingIterator<ImportPostRequest> posts = this.objectMapper.readerFor(ImportPostRequest.class)
+                .readValues(inputStream)) {
+                while (posts.hasNextValue()) {
+                    ImportPostRequest post = posts.nextValue();
+                    validate(post, importedPosts + chunk.size());
+                    chunk.add(post);
+                    chunkRows += post.countRows();
+                    if (chunkRows >= CHUNK_ROWS) {
+                        importedReplies += saveChunk(requester.userId(), chunk);
+                        importedPosts += chunk.size();
+                        chunk.clear();
+                        chunkRows = 0;
+                        progressListener.accept(new PostImportProgressDto(importedPosts, importedReplies, false, null));
+                    }
+                }
+            }
+            catch (IOException ex) {
+                throw new InvalidInputException("가져올 게시글 JSON 을 읽을 수 없습니다. 이미 저장된 게시글 수: " + importedPosts, ex);
+            }
+
+            if (!chunk.isEmpty()) {
+                importedReplies += saveChunk(requester.userId(), chunk);
+                importedPosts += chunk.size();
+            }
+        }
+        catch (RuntimeException ex) {
+            // 진행 상황을 보낸 뒤에는 응답 상태를 바꿀 수 없으므로, 커밋된 수와 실패 이유를 마지막 줄로 보낸다.
+            if (importedPosts > 0) {
+                reportFailure(progressListener, new PostImportProgressDto(importedPosts, importedReplies, false,
+                        getFailureMessage(ex)), ex);
+            }
+            throw ex;
+        }
+        PostImportProgressDto result = new PostImportProgressDto(importedPosts, importedReplies, true, null);
+        progressListener.accept(result);
+        return result;
+    }
+
+    // 연결이 끊겨 실패 기록을 보내지 못하더라도 원래 예외를 던진다.
+    private static void reportFailure(Consumer<PostImportProgressDto> progressListener, PostImportProgressDto failure,
+            RuntimeException cause) {
+        try {
+            progressListener.accept(failure);
+        }
+        catch (RuntimeException ex) {
+            cause.addSuppressed(ex);
+        }
+    }
+
+    // 입력 오류는 고칠 수 있도록 그대로 알리고, 그 밖의 오류는 내부 정보를 드러내지 않는다.
+    private static String getFailureMessage(RuntimeException ex) {
+        if (ex instanceof InvalidInputException) {
+            return ex.getMessage();
+        }
+        return "게시글을 저장하지 못했습니다.";
+    }
+
+    private void validate(ImportPostRequest post, long index) {
+        Set<ConstraintViolation<ImportPostRequest>> violations = this.validator.validate(post);
+        if (!violations.isEmpty()) {
+            String reason = violations.stream()
+                .map((violation) -> violation.getPropertyPath() + " " + violation.getMessage())
+                .collect(Collectors.joining(", "));
+            throw new InvalidInputException(index + "번째 게시글이 유효하지 않습니다. " + reason);
+        }
+    }
+
+    // 저장한 댓글 수를 반환한다. ID는 persist 시점에 미리 할당되므로 INSERT 전에 하위 댓글의 상위 댓글 ID를 채울 수 있다.
+    private long saveChunk(long userId, List<ImportPostRequest> chunk) {
+        List<Long> postIds = new ArrayList<>(chunk.size());
+        Long replyCount = this.transactionTemplate.execute((status) -> {
+            BatchPersister persister = new BatchPersister();
+            long savedReplies = 0;
+            for (ImportPostRequest post : chunk) {
+                PostEntity postEntity = PostEntity.builder()
+                    .title(post.title())
+                    .content(post.content())
+                    .compressContent(this.contentCompressionProperties.shouldCompress(post.content()))
+                    .readStatus(post.readStatus())
+                    .userId(userId)
+                    .build();
+                persister.persist(postEntity);
+                postIds.add(postEntity.getId());
+                savedReplies += saveReplies(persister, userId, postEntity.getId(), null, "", post.replies());
+            }
+            persister.flush();
+            // 댓글 수 컬럼은 INSERT 할 때 쓰지 않으므로, 저장한 댓글로 한 번에 센다.
+            if (savedReplies > 0) {
+                this.replyCountRepairer.repair(postIds);
+            }
+            // 검색 색인 등 게시글 생성 이벤트를 받는 곳은 이 묶음이 커밋된 뒤에 처리한다.
+            postIds.forEach((postId) -> this.eventPublisher.publishEvent(new PostCreatedEvent(postId)));
+            return savedReplies;
+        });
+        return replyCount;
+    }
+
+    // 상위 댓글은 ID와 경로만 사용하므로, 중간에 영속성 컨텍스트를 비워 분리된 엔티티여도 된다.
+    private long saveReplies(BatchPersister persister, long userId, Long postId, @Nullable Long superReplyId,
+            String path, @Nullable List<ImportReplyRequest> replies) {
+        if (replies == null) {
+            return 0;
+        }
+        if (path.length() > ReplyEntity.MAX_PATH_LENGTH) {
+            throw new InvalidInputException("댓글이 너무 깊게 중첩되어 있습니다. superReplyId: " + superReplyId);
+        }
+        long savedReplies = 0;
+        for (ImportReplyRequest reply : replies) {
+            ReplyEntity replyEntity = ReplyEntity.builder()
+                .content(reply.content())
+                .userId(userId)
+                .postId(postId)
+                .superReplyId(superReplyId)
+                .path(path)
+                .build();
+            persister.persist(replyEntity);
+            savedReplies += 1 + saveReplies(persister, userId, postId, replyEntity.getId(),
+                    replyEntity.getDescendantPathPrefix(), reply.replies());
+        }
+        return savedReplies;
+    }
+
+    /**
+     * 영속성 컨텍스트에 쌓인 엔티티가 {@value #CHUNK_ROWS}개가 될 때마다 INSERT 를 실행하고 비웁니다. 게시글 경계와 관계없이 비우므로 댓글이 아주 많은
+     * 게시글 하나도 일정한 메모리로 저장합니다.
+     */
+    private final class BatchPersister {
+
+        private int pendingRows;
+
+        private void persist(Object entity) {
+            PostImportService.this.entityManager.persist(entity);
+            if (++this.pendingRows >= CHUNK_ROWS) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            PostImportService.this.entityManager.flush();
+            PostImportService.this.entityManager.clear();
+            this.pendingRows = 0;
+        }
+
+    }
+
+}
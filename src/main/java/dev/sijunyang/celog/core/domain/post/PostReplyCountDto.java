@@ -0,0 +1,12 @@
+package dev.sijunyang.celog.core.domain.post;
+
+/**
+ * 게시글의 댓글 수만 조회할 때 사용하는 DTO입니다.
+ *
+ * @param postId 게시글 ID
+ * @param replyCount 게시글에 달린 전체 댓글 수
+ * @author Sijun Yang
+ */
+public record PostReplyCountDto(Long postId, long replyCount) {
+
+}
@@ -1,16 +1,187 @@
 package dev.sijunyang.celog.core.domain.post;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
+import dev.sijunyang.celog.core.global.enums.PublicationStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 /**
  * {@link PostEntity}를 처리하는 JpaRepository입니다.
  *
+ * <p>
+ * 요약 목록 조회는 용량이 큰 content 컬럼을 읽지 않도록 {@link PostSummaryDto}로 바로 프로젝션합니다.
+ *
  * @author Sijun Yang
  */
 public interface PostRepository extends JpaRepository<PostEntity, Long> {
 
-    List<PostEntity> findAllByUserId(Long userId);
+    @Query("""
+            SELECT new dev.sijunyang.celog.core.domain.post.PostVersionDto(p.id, p.userId, p.readStatus, p.modifiedAt,
+                p.viewCount, p.replyCount, p.replyVersion)
+            FROM post p
+            WHERE p.id = :id
+            """)
+    Optional<PostVersionDto> findVersionById(@Param("id") Long id);
+
+    // 공유 잠금(FOR SHARE)으로 읽는다. 게시글을 삭제 중인 트랜잭션이 있다면 커밋을 기다린 뒤 최신 상태를 읽고, 읽은 게시글은 이 트랜잭션이 끝날
+    // 때까지 삭제되지 않는다.
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT p FROM post p WHERE p.id = :id")
+    Optional<PostEntity> findWithShareLockById(@Param("id") Long id);
+
+    @Query("""
+            SELECT new dev.sijunyang.celog.core.domain.post.PostSummaryDto(p.id, p.title, p.userId, p.modifiedAt,
+                p.createdAt, p.replyCount)
+            FROM post p
+            WHERE p.userId = :userId
+            """)
+    List<PostSummaryDto> findAllSummariesByUserId(@Param("userId") Long userId);
+
+    @Query("""
+            SELECT new dev.sijunyang.celog.core.domain.post.PostSummaryDto(p.id, p.title, p.userId, p.modifiedAt,
+                p.createdAt, p.replyCount)
+            FROM post p
+            WHERE p.userId = :userId AND p.readStatus = :readStatus
+            """)
+    List<PostSummaryDto> findAllSummariesByUserIdAndReadStatus(@Param("userId") Long userId,
+            @Param("readStatus") PublicationStatus readStatus);
+
+    // (read_status, created_at, id) 인덱스를 타도록 최신순 첫 페이지를 가져온다.
+    @Query("""
+            SELECT new dev.sijunyang.celog.core.domain.post.PostSummaryDto(p.id, p.title, p.userId, p.modifiedAt,
+                p.createdAt, p.replyCount)
+            FROM post p
+            WHERE p.readStatus = :readStatus
+            ORDER BY p.createdAt DESC, p.id DESC
+            """)
+    List<PostSummaryDto> findSummariesByReadStatus(@Param("readStatus") PublicationStatus readStatus,
+            Pageable pageable);
+
+    // 커서 (createdAt, id) 보다 오래된 게시글을 최신순으로 가져온다.
+    @Query("""
+            SELECT new dev.sijunyang.celog.core.domain.post.PostSummaryDto(p.id, p.title, p.userId, p.modifiedAt,
+                p.createdAt, p.replyCount)
+            FROM post p
+            WHERE p.readStatus = :readStatus
+                AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id))
+            ORDER BY p.createdAt DESC, p.id DESC
+            """)
+    List<PostSummaryDto> findSummariesByReadStatusBefore(@Param("readStatus") PublicationStatus readStatus,
+            @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    @Query("""
+            SELECT new dev.sijunyang.celog.core.domain.post.PostSummaryDto(p.id, p.title, p.userId, p.modifiedAt,
+                p.createdAt, p.replyCount)
+            FROM post p
+            WHERE p.id IN :ids AND p.readStatus = :readStatus
+            """)
+    List<PostSummaryDto> findSummariesByIdInAndReadStatus(@Param("ids") Collection<Long> ids,
+            @Param("readStatus") PublicationStatus readStatus);
+
+    // 팔로워가 많아 타임라인에 넣지 않은 사용자들의 게시글을 타임라인을 조회할 때 읽는다.
+    @Query("""
+            SELECT new dev.sijunyang.celog.core.domain.post.PostSummaryDto(p.id, p.title, p.userId, p.modifiedAt,
+                p.createdAt, p.replyCount)
+            FROM post p
+            WHERE p.userId IN :userIds AND p.readStatus = :readStatus
+            ORDER BY p.createdAt DESC, p.id DESC
+            """)
+    List<PostSummaryDto> findSummariesByUserIdInAndReadStatus(@Param("userIds") Collection<Long> userIds,
+            @Param("readStatus") PublicationStatus readStatus, Pageable pageable);
+
+    @Query("""
+            SELECT new dev.sijunyang.celog.core.domain.post.PostSummaryDto(p.id, p.title, p.userId, p.modifiedAt,
+                p.createdAt, p.replyCount)
+            FROM post p
+            WHERE p.userId IN :userIds AND p.readStatus = :readStatus
+                AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id))
+            ORDER BY p.createdAt DESC, p.id DESC
+            """)
+    List<PostSummaryDto> findSummariesByUserIdInAndReadStatusBefore(@Param("userIds") Collection<Long> userIds,
+            @Param("readStatus") PublicationStatus readStatus, @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id, Pageable pageable);
+
+    // (read_status, view_count) 인덱스를 역순으로 읽어 조회수가 많은 게시글부터 가져온다.
+    @Query("""
+            SELECT new dev.sijunyang.celog.core.domain.post.PopularPostDto(p.id, p.title, p.userId, p.viewCount,
+                p.createdAt)
+            FROM post p
+            WHERE p.readStatus = :readStatus
+            ORDER BY p.viewCount DESC, p.id DESC
+            """)
+    List<PopularPostDto> findPopularPostsByReadStatus(@Param("readStatus") PublicationStatus readStatus,
+            Pageable pageable);
+
+    // MySQL Connector/J 는 fetch size 가 Integer.MIN_VALUE 일 때 결과를 모두 버퍼링하지 않고 한 행씩 스트리밍한다.
+    // 읽기 전용 힌트로 변경 감지용 스냅샷도 만들지 않는다. 반드시 트랜잭션 안에서 사용하고 Stream 을 닫아야 한다.
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true") })
+    @Query("SELECT p FROM post p WHERE p.readStatus = :readStatus")
+    Stream<PostEntity> streamAllByReadStatus(@Param("readStatus") PublicationStatus readStatus);
+
+    // 압축 저장을 켜기 전에 저장된 게시글 중 압축할 만큼 긴 게시글을 가져온다.
+    @Query("""
+            SELECT new dev.sijunyang.celog.core.domain.post.UncompressedPostContentDto(p.id, p.content, p.modifiedAt)
+            FROM post p
+            WHERE p.compressedContent IS NULL AND LENGTH(p.content) >= :minLength
+            ORDER BY p.id
+            """)
+    List<UncompressedPostContentDto> findUncompressedContents(@Param("minLength") int minLength, Pageable pageable);
+
+    // 벌크 업데이트이므로 수정 시간이 바뀌지 않는다. 읽은 뒤에 게시글이 수정되었다면 수정 시간이 달라지므로 갱신하지 않는다.
+    @Modifying
+    @Query("""
+            UPDATE post p
+            SET p.content = NULL, p.compressedContent = :compressedContent
+            WHERE p.id = :id AND p.modifiedAt = :modifiedAt AND p.compressedContent IS NULL
+            """)
+    int updateCompressedContent(@Param("id") Long id, @Param("compressedContent") byte[] compressedContent,
+            @Param("modifiedAt") LocalDateTime modifiedAt);
+
+    // 벌크 업데이트이므로 수정 시간이 바뀌지 않는다. 같은 게시글의 댓글을 동시에 생성해도 행 잠금으로 차례대로 더해진다.
+    @Modifying
+    @Query("""
+            UPDATE post p
+            SET p.replyCount = p.replyCount + :delta, p.replyVersion = p.replyVersion + 1
+            WHERE p.id = :id
+            """)
+    int addReplyCount(@Param("id") Long id, @Param("delta") long delta);
+
+    @Modifying
+    @Query("UPDATE post p SET p.replyVersion = p.replyVersion + 1 WHERE p.id = :id")
+    int increaseReplyVersion(@Param("id") Long id);
+
+    @Query("""
+            SELECT new dev.sijunyang.celog.core.domain.post.PostReplyCountDto(p.id, p.replyCount)
+            FROM post p
+            WHERE p.id IN :ids
+            """)
+    List<PostReplyCountDto> findReplyCountsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT p.id FROM post p WHERE p.id > :afterId ORDER BY p.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 유지하던 댓글 수가 실제 댓글 수와 달라졌을 때 다시 센다. (post_id, created_at, id) 인덱스로 게시글마다 댓글 수를 센다.
+    @Modifying
+    @Query(value = """
+            UPDATE post p
+            SET p.reply_count = (SELECT COUNT(*) FROM reply r WHERE r.post_id = p.id)
+            WHERE p.id IN (:ids)
+            """, nativeQuery = true)
+    int recountReplies(@Param("ids") Collection<Long> ids);
 
 }
@@ -1,21 +1,36 @@
 package dev.sijunyang.celog.core.domain.post;
 
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import dev.sijunyang.celog.core.domain.reply.ReplyService;
 import dev.sijunyang.celog.core.domain.user.RequestUser;
 import dev.sijunyang.celog.core.domain.user.UserService;
+import dev.sijunyang.celog.core.global.cache.CacheNames;
+import dev.sijunyang.celog.core.global.cache.ReplicaReads;
 import dev.sijunyang.celog.core.global.enums.PublicationStatus;
 import dev.sijunyang.celog.core.global.enums.Role;
 import dev.sijunyang.celog.core.global.error.nextVer.InsufficientPermissionException;
 import dev.sijunyang.celog.core.global.error.nextVer.ResourceNotFoundException;
-import jakarta.transaction.Transactional;
+import dev.sijunyang.celog.core.global.pagination.CursorPage;
+import dev.sijunyang.celog.core.global.pagination.CursorRequest;
+import dev.sijunyang.celog.core.global.pagination.PaginationProperties;
+import jakarta.persistence.EntityManager;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
 
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.validation.annotation.Validated;
 
 @Service
@@ -29,6 +44,22 @@ public class PostService {
 
     private final ReplyService replyService;
 
+    private final PaginationProperties paginationProperties;
+
+    private final PostContentCompressionProperties contentCompressionProperties;
+
+    private final CacheManager cacheManager;
+
+    private final EntityManager entityManager;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final PostViewCounter postViewCounter;
+
+    private final PostDraftBuffer postDraftBuffer;
+
+    private final TransactionTemplate transactionTemplate;
+
     /**
      * 새로운 게시글을 생성합니다.
      * @param requester 게시글을 작성할 사용자 정보
@@ -40,10 +71,12 @@ public class PostService {
             .id(null)
             .title(createPostRequest.title())
             .content(createPostRequest.content())
+            .compressContent(this.contentCompressionProperties.shouldCompress(createPostRequest.content()))
             .readStatus(createPostRequest.readStatus())
             .userId(requester.userId())
             .build();
         this.postRepository.save(postEntity);
+        this.eventPublisher.publishEvent(new PostCreatedEvent(postEntity.getId()));
     }
 
     /**
@@ -56,76 +89,215 @@ public class PostService {
             @NotNull @Valid UpdatePostRequest updateRequest) {
         validateUserById(requester.userId());
         PostEntity oldPostEntity = getById(postId);
-
-        if (requester.userId() != oldPostEntity.getUserId()) {
-            throw new InsufficientPermissionException(
-                    "게시글을 소유한 사용자만 수행할 수 있습니다. requestUserId: " + requester.userId() + ", postId: " + postId);
-        }
+        validateUserIsOwner(requester, oldPostEntity);
 
         PostEntity newPostEntity = PostEntity.builder()
             .id(oldPostEntity.getId())
             .title(updateRequest.title())
             .content(updateRequest.content())
+            .compressContent(this.contentCompressionProperties.shouldCompress(updateRequest.content()))
             .readStatus(updateRequest.readStatus())
             .userId(oldPostEntity.getUserId())
             .build();
 
         this.postRepository.save(newPostEntity);
+        getPostCache().evict(postId);
+        this.eventPublisher.publishEvent(
+                new PostUpdatedEvent(postId, oldPostEntity.getReadStatus(), newPostEntity.getReadStatus()));
     }
 
     /**
-     * 게시글을 삭제합니다. 게시글의 댓글도 함꼐 삭제됩니다. 어드민 혹은 글을 소유한 사용자만 수행할 수 있습니다.
+     * 게시글의 일부 정보만 수정합니다. 게시글을 소유한 사용자만 수행할 수 있습니다. 영속 상태의 엔티티를 변경하므로 변경 감지로 바뀐 컬럼만 UPDATE 되며,
+     * 값이 같다면 UPDATE 하지 않습니다.
+     * @param requester 게시글을 수정하려는 사용자 정보
+     * @param postId 수정할 게시글 ID
+     * @param patchRequest 수정할 게시글 정보, null 인 값은 변경하지 않음
+     */
+    @Transactional
+    public void patchPost(@NotNull @Valid RequestUser requester, long postId,
+            @NotNull @Valid PatchPostRequest patchRequest) {
+        validateUserById(requester.userId());
+        PostEntity postEntity = getById(postId);
+        validateUserIsOwner(requester, postEntity);
+
+        PublicationStatus previousReadStatus = postEntity.getReadStatus();
+        boolean changed = false;
+        if (patchRequest.title() != null && !patchRequest.title().equals(postEntity.getTitle())) {
+            postEntity.changeTitle(patchRequest.title());
+            changed = true;
+        }
+        if (patchRequest.content() != null && !patchRequest.content().equals(postEntity.getContent())) {
+            postEntity.changeContent(patchRequest.content(),
+                    this.contentCompressionProperties.shouldCompress(patchRequest.content()));
+            changed = true;
+        }
+        if (patchRequest.readStatus() != null && patchRequest.readStatus() != postEntity.getReadStatus()) {
+            postEntity.changeReadStatus(patchRequest.readStatus());
+            changed = true;
+        }
+        if (!changed) {
+            return;
+        }
+        getPostCache().evict(postId);
+        this.eventPublisher.publishEvent(new PostUpdatedEvent(postId, previousReadStatus, postEntity.getReadStatus()));
+    }
+
+    /**
+     * 작성 중인 게시글을 자동 저장합니다. 게시글을 소유한 사용자만 수행할 수 있습니다. 저장한 내용은 메모리에 모았다가 주기적으로 한 번에 반영하므로, 이
+     * 메서드는 게시글별 첫 자동 저장이 아니라면 게시글을 조회하거나 수정하지 않습니다.
+     * @param requester 게시글을 작성 중인 사용자 정보
+     * @param postId 작성 중인 게시글 ID
+     * @param autosaveRequest 자동 저장할 내용과 기준 버전
+     * @return 새 자동 저장 버전
+     */
+    public DraftAutosaveDto autosaveDraft(@NotNull @Valid RequestUser requester, long postId,
+            @NotNull @Valid AutosaveDraftRequest autosaveRequest) {
+        validateUserById(requester.userId());
+        return this.postDraftBuffer.autosave(requester.userId(), postId, autosaveRequest);
+    }
+
+    /**
+     * 편집기에서 이어서 작성할 게시글의 임시 저장 상태를 조회합니다. 아직 반영되지 않은 자동 저장 내용이 있다면 그 내용을 반환합니다. 게시글을 소유한
+     * 사용자만 수행할 수 있습니다.
+     * @param requester 게시글을 작성 중인 사용자 정보
+     * @param postId 작성 중인 게시글 ID
+     * @return 게시글의 임시 저장 상태
+     */
+    @Transactional(readOnly = true)
+    public PostDraftDto getDraft(@NotNull @Valid RequestUser requester, long postId) {
+        validateUserById(requester.userId());
+        PostDraftDto pendingDraft = this.postDraftBuffer.getPendingDraft(requester.userId(), postId);
+        if (pendingDraft != null) {
+            return pendingDraft;
+        }
+        PostEntity postEntity = getById(postId);
+        validateUserIsOwner(requester, postEntity);
+        return new PostDraftDto(postId, postEntity.getTitle(), postEntity.getContent(),
+                PostDraftBuffer.toVersion(postEntity.getModifiedAt()));
+    }
+
+    /**
+     * 게시글을 삭제합니다. 게시글의 댓글도 함꼐 삭제됩니다. 어드민 혹은 글을 소유한 사용자만 수행할 수 있습니다. 댓글은 묶음마다 트랜잭션을 나누어 먼저
+     * 지우고, 게시글은 마지막 트랜잭션에서 지웁니다. 중간에 실패해도 게시글이 남아 있으므로 다시 요청하면 이어서 지웁니다.
      * @param requester 게시글을 삭제하려는 사용자 정보
      * @param postId 삭제할 게시글 ID
      */
-    @Transactional
     public void deletePost(@NotNull @Valid RequestUser requester, long postId) {
         validateUserById(requester.userId());
         PostEntity postEntity = getById(postId);
-        validateUserPostAccess(requester, postId);
+        validatePostAccessible(requester, postEntity.getId(), postEntity.getUserId(), postEntity.getReadStatus());
         this.replyService.deleteAllByPostId(requester, postId);
-        this.postRepository.delete(postEntity);
+        this.transactionTemplate.executeWithoutResult((status) -> {
+            this.postRepository.delete(postEntity);
+            getPostCache().evict(postId);
+            this.eventPublisher.publishEvent(new PostDeletedEvent(postId));
+        });
     }
 
     /**
-     * 게시글 정보를 조회합니다. 공개되지 않은 글은 어드민이나 본인만 확인 가능합니다.
+     * 게시글 정보를 조회합니다. 공개되지 않은 글은 어드민이나 본인만 확인 가능합니다. 접근 권한은 본문 없이 따로 읽은 게시글의 버전으로 요청마다 판단하며,
+     * 캐시된 게시글은 버전의 수정 시간과 같을 때만 사용합니다. 그래서 다른 인스턴스에서 게시글을 수정하거나 비공개로 바꾸어도 지난 게시글이나 지난 공개 상태를
+     * 내보내지 않습니다. 조회수는 캐시하지 않고 버전과 함께 읽은, 데이터베이스에 반영된 값을 사용합니다.
      * @param requester 게시글을 조회하려는 사용자 정보
      * @param postId 조회할 게시글 ID
      * @return 게시글 DTO
      */
+    @Transactional(readOnly = true)
     public PostDto getPost(@NotNull @Valid RequestUser requester, long postId) {
         validateUserById(requester.userId());
-        validateUserPostAccess(requester, postId);
+        PostVersionDto version = getPostVersion(postId);
+        validatePostAccessible(requester, postId, version.userId(), version.readStatus());
+        return getCachedPost(version).toPostDto(version.viewCount());
+    }
 
-        PostEntity postEntity = getById(postId);
-        return postEntity.mapToPostDto();
+    /**
+     * 접근 권한을 이미 확인한 게시글 버전의 게시글 정보를 조회합니다. 사용자 검증과 접근 권한 확인을 다시 하지 않으므로,
+     * {@link #getPostVersion(RequestUser, long)}로 조회한 버전만 넘겨야 합니다. 버전을 읽은 뒤 게시글이 수정되었다면 더 최신 게시글을 반환하며,
+     * 이 게시글은 캐시에 넣지 않습니다.
+     * @param version 접근 권한을 확인하고 조회한 게시글 버전
+     * @return 게시글 DTO
+     */
+    @Transactional(readOnly = true)
+    public PostDto getPost(@NotNull PostVersionDto version) {
+        return getCachedPost(version).toPostDto(version.viewCount());
+    }
+
+    /**
+     * 게시글 조회수를 1 증가시키고 조회 이벤트를 발행합니다. 조회수는 메모리에 모았다가 주기적으로 반영되므로, 이 메서드는 데이터베이스에 접근하지 않습니다.
+     * @param postId 조회된 게시글 ID
+     */
+    public void increaseViewCount(long postId) {
+        this.postViewCounter.increment(postId);
+        this.eventPublisher.publishEvent(new PostViewedEvent(postId));
     }
 
     /**
-     * 해당 게시글에 접근 가능한 유저인지 확인합니다.
+     * 게시글의 댓글 수를 더하고 댓글 버전을 올립니다. 댓글을 생성하거나 삭제하는 트랜잭션 안에서 호출해야 댓글과 댓글 수가 함께 반영됩니다.
+     * @param postId 댓글이 달린 게시글 ID
+     * @param delta 더할 댓글 수, 삭제할 때는 음수
+     */
+    public void addReplyCount(long postId, long delta) {
+        this.postRepository.addReplyCount(postId, delta);
+    }
+
+    /**
+     * 게시글의 댓글 버전을 올립니다. 댓글을 수정하는 트랜잭션 안에서 호출해야 댓글과 댓글 버전이 함께 반영됩니다.
+     * @param postId 수정된 댓글이 달린 게시글 ID
+     */
+    public void increaseReplyVersion(long postId) {
+        this.postRepository.increaseReplyVersion(postId);
+    }
+
+    /**
+     * 조회수가 가장 많은 공개된 게시글을 가져옵니다. 조회수는 마지막으로 반영된 값을 기준으로 합니다.
+     * @param size 가져올 게시글 수, 지정하지 않으면 기본 크기를 사용
+     * @return 조회수가 많은 순서의 게시글 리스트
+     */
+    @Transactional(readOnly = true)
+    public List<PopularPostDto> getMostViewedPosts(@Nullable Integer size) {
+        Pageable limit = PageRequest.of(0, this.paginationProperties.resolveSize(size));
+        return this.postRepository.findPopularPostsByReadStatus(PublicationStatus.PUBLIC_PUBLISHED, limit);
+    }
+
+    /**
+     * 게시글의 버전을 조회합니다. 본문을 읽지 않으므로, 조건부 요청에서 게시글 전체를 읽기 전에 변경 여부를 판단할 때 사용합니다. 공개되지 않은 글은
+     * 어드민이나 본인만 확인 가능합니다.
      * @param requester 게시글을 조회하려는 사용자 정보
      * @param postId 조회할 게시글 ID
+     * @return 게시글의 마지막 수정 시간, 반영된 조회수, 댓글 수와 댓글 버전
      */
-    public void validateUserPostAccess(@NotNull @Valid RequestUser requester, long postId) {
+    @Transactional(readOnly = true)
+    public PostVersionDto getPostVersion(@NotNull @Valid RequestUser requester, long postId) {
         validateUserById(requester.userId());
-        PostEntity postEntity = getById(postId);
+        PostVersionDto version = getPostVersion(postId);
+        validatePostAccessible(requester, postId, version.userId(), version.readStatus());
+        return version;
+    }
 
-        if (!isPostAccessible(requester, postEntity)) {
-            throw new InsufficientPermissionException(
-                    "공개되지 않은 글은 어드민이나 본인만 확인 가능합니다. requestUserId: " + requester.userId() + ", postId: " + postId);
-        }
+    /**
+     * 해당 게시글에 접근 가능한 유저인지 확인합니다. 게시글 본문은 읽지 않으며, 캐시된 게시글이 아닌 데이터베이스의 공개 상태로 판단합니다.
+     * @param requester 게시글을 조회하려는 사용자 정보
+     * @param postId 조회할 게시글 ID
+     */
+    @Transactional(readOnly = true)
+    public void validateUserPostAccess(@NotNull @Valid RequestUser requester, long postId) {
+        validateUserById(requester.userId());
+        PostVersionDto version = getPostVersion(postId);
+        validatePostAccessible(requester, postId, version.userId(), version.readStatus());
     }
 
     /**
-     * 공개된 모든 요약 게시글을 가져옵니다.
-     * @return 공개된 요약 게시글 리스트
+     * 공개된 요약 게시글을 최신순으로 커서 페이지 단위로 가져옵니다.
+     * @param cursorRequest 커서 페이지 요청 정보
+     * @return 공개된 요약 게시글 페이지
      */
-    public List<PostSummaryDto> getAllPublishedPosts() {
-        return this.postRepository.findAll()
-            .stream()
-            .filter(this::isPublished)
-            .map(PostEntity::mapToPostSummaryDto)
-            .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public CursorPage<PostSummaryDto> getPublishedPosts(@NotNull CursorRequest cursorRequest) {
+        int size = this.paginationProperties.resolveSize(cursorRequest.size());
+        // 다음 페이지 존재 여부를 알기 위해 하나 더 조회한다.
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<PostSummaryDto> summaries = findPublishedSummaries(cursorRequest, limit);
+        return CursorPage.of(summaries, size, PostSummaryDto::createdAt, PostSummaryDto::postId);
     }
 
     /**
@@ -133,12 +305,9 @@ public class PostService {
      * @param userId 조회하고자 하는 사용자 ID
      * @return 특정 사용자의 공개된 요약 게시글 리스트
      */
+    @Transactional(readOnly = true)
     public List<PostSummaryDto> getAllPublishedPostsByUserId(long userId) {
-        return this.postRepository.findAllByUserId(userId)
-            .stream()
-            .filter(this::isPublished)
-            .map(PostEntity::mapToPostSummaryDto)
-            .collect(Collectors.toList());
+        return this.postRepository.findAllSummariesByUserIdAndReadStatus(userId, PublicationStatus.PUBLIC_PUBLISHED);
     }
 
     /**
@@ -147,14 +316,27 @@ public class PostService {
      * @param userId 조회하고자 하는 사용자 ID
      * @return 사용자가 작성한 요약 게시글 리스트
      */
+    @Transactional(readOnly = true)
     public List<PostSummaryDto> getAllPostsByUserId(@NotNull @Valid RequestUser requester, long userId) {
         validateUserById(userId);
         validateUserById(requester.userId());
         validateUserIsSelfOrAdmin(requester, userId);
-        return this.postRepository.findAllByUserId(userId)
-            .stream()
-            .map(PostEntity::mapToPostSummaryDto)
-            .collect(Collectors.toList());
+        return this.postRepository.findAllSummariesByUserId(userId);
+    }
+
+    /**
+     * 공개된 모든 게시글을 한 건씩 읽어 전달합니다. 결과를 메모리에 모으지 않고 스트리밍하며, 전달한 게시글은 영속성 컨텍스트에서 분리하므로 게시글 수와
+     * 관계없이 일정한 메모리만 사용합니다.
+     * @param consumer 읽은 게시글을 처리할 함수
+     */
+    @Transactional(readOnly = true)
+    public void exportPublishedPosts(@NotNull Consumer<PostDto> consumer) {
+        try (Stream<PostEntity> posts = this.postRepository.streamAllByReadStatus(PublicationStatus.PUBLIC_PUBLISHED)) {
+            posts.forEach((post) -> {
+                consumer.accept(post.mapToPostDto());
+                this.entityManager.detach(post);
+            });
+        }
     }
 
     /**
@@ -167,31 +349,71 @@ public class PostService {
         }
     }
 
-    /**
-     * 게시글이 공개된 상태인지 확인합니다.
-     * @param post 게시글 엔티티
-     * @return 게시글이 공개된 상태라면 True, 공개되지 않았다면 False 반환
-     */
-    private boolean isPublished(@NotNull PostEntity post) {
-        return post.getReadStatus().equals(PublicationStatus.PUBLIC_PUBLISHED);
+    private void validateUserIsOwner(RequestUser requester, PostEntity postEntity) {
+        if (requester.userId() != postEntity.getUserId()) {
+            throw new InsufficientPermissionException("게시글을 소유한 사용자만 수행할 수 있습니다. requestUserId: " + requester.userId()
+                    + ", postId: " + postEntity.getId());
+        }
+    }
+
+    private void validatePostAccessible(RequestUser requester, long postId, long ownerId,
+            PublicationStatus readStatus) {
+        if (!isPostAccessible(requester, ownerId, readStatus)) {
+            throw new InsufficientPermissionException(
+                    "공개되지 않은 글은 어드민이나 본인만 확인 가능합니다. requestUserId: " + requester.userId() + ", postId: " + postId);
+        }
     }
 
-    private boolean isPostAccessible(@NotNull @Valid RequestUser requester, @NotNull PostEntity postEntity) {
+    private boolean isPostAccessible(RequestUser requester, long ownerId, PublicationStatus readStatus) {
         // when admin
         if (requester.userRole().equals(Role.ADMIN)) {
             return true;
         }
         // when owner
-        if (requester.userId() == postEntity.getUserId()) {
+        if (requester.userId() == ownerId) {
             return true;
         }
         // when published
-        if (isPublished(postEntity)) {
+        if (readStatus == PublicationStatus.PUBLIC_PUBLISHED) {
             return true;
         }
         return false;
     }
 
+    private List<PostSummaryDto> findPublishedSummaries(CursorRequest cursorRequest, Pageable limit) {
+        if (cursorRequest.isFirstPage()) {
+            return this.postRepository.findSummariesByReadStatus(PublicationStatus.PUBLIC_PUBLISHED, limit);
+        }
+        return this.postRepository.findSummariesByReadStatusBefore(PublicationStatus.PUBLIC_PUBLISHED,
+                cursorRequest.cursorCreatedAt(), cursorRequest.cursorId(), limit);
+    }
+
+    // 캐시된 게시글은 버전과 수정 시간이 같을 때만 사용한다. 수정 전에 읽은 요청이 무효화 뒤에 지난 게시글을 다시 넣더라도, 이후 요청의 버전과 달라
+    // 사용되지 않고 다시 읽힌다. 같은 읽기 트랜잭션에서 읽은 게시글만 버전과 같을 수 있으며, 버전과 다른 게시글은 캐시에 넣지 않는다. 복제
+    // 데이터베이스에서 읽은 게시글도 지연된 값일 수 있으므로 캐시에 넣지 않는다.
+    private CachedPost getCachedPost(PostVersionDto version) {
+        Cache postCache = getPostCache();
+        CachedPost cachedPost = postCache.get(version.postId(), CachedPost.class);
+        if (cachedPost != null && Objects.equals(cachedPost.modifiedAt(), version.modifiedAt())) {
+            return cachedPost;
+        }
+        CachedPost post = CachedPost.from(getById(version.postId()));
+        if (Objects.equals(post.modifiedAt(), version.modifiedAt())
+                && !ReplicaReads.isCurrentTransactionReadFromReplica()) {
+            postCache.put(version.postId(), post);
+        }
+        return post;
+    }
+
+    private PostVersionDto getPostVersion(long postId) {
+        return this.postRepository.findVersionById(postId)
+            .orElseThrow(() -> new ResourceNotFoundException("ID에 해당되는 PostEntity를 찾을 수 없습니다. postId: " + postId));
+    }
+
+    private Cache getPostCache() {
+        return this.cacheManager.getCache(CacheNames.POSTS);
+    }
+
     private PostEntity getById(long postId) {
         return this.postRepository.findById(postId)
             .orElseThrow(() -> new ResourceNotFoundException("ID에 해당되는 PostEntity를 찾을 수 없습니다. postId: " + postId));
@@ -3,6 +3,10 @@ package dev.sijunyang.celog.core.domain.post;
 import java.time.LocalDateTime;
 
 public record PostSummaryDto(Long postId, String title, Long userId, LocalDateTime modifiedAt,
-        LocalDateTime createdAt) {
+        LocalDateTime createdAt, long replyCount) {
+
+    public PostSummaryDto withReplyCount(long replyCount) {
+        return new PostSummaryDto(this.postId, this.title, this.userId, this.modifiedAt, this.createdAt, replyCount);
+    }
 
 }
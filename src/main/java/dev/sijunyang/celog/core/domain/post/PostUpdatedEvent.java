@@ -0,0 +1,15 @@
+package dev.sijunyang.celog.core.domain.post;
+
+import dev.sijunyang.celog.core.global.enums.PublicationStatus;
+
+/**
+ * 게시글이 수정되었을 때 발행되는 이벤트입니다.
+ *
+ * @param postId 게시글 ID
+ * @param previousReadStatus 수정되기 전의 공개 상태
+ * @param readStatus 수정된 뒤의 공개 상태
+ * @author Sijun Yang
+ */
+public record PostUpdatedEvent(Long postId, PublicationStatus previousReadStatus, PublicationStatus readStatus) {
+
+}
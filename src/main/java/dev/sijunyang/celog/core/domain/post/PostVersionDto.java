@@ -0,0 +1,16 @@
+package dev.sijunyang.celog.core.domain.post;
+
+import java.time.LocalDateTime;
+
+import dev.sijunyang.celog.core.global.enums.PublicationStatus;
+
+/**
+ * 게시글 본문 없이 접근 권한 확인과 변경 여부 확인에 필요한 정보만 담는 DTO입니다. 조회수는 데이터베이스에 반영된 값이며, 수정 시간과 함께 응답이
+ * 변경되었는지 판단하는 데 사용합니다. 댓글 수와 댓글 버전은 댓글을 읽지 않고 댓글 목록이 변경되었는지 판단하는 데 사용합니다.
+ *
+ * @author Sijun Yang
+ */
+public record PostVersionDto(Long postId, Long userId, PublicationStatus readStatus, LocalDateTime modifiedAt,
+        long viewCount, long replyCount, long replyVersion) {
+
+}
@@ -0,0 +1,95 @@
+package dev.sijunyang.celog.core.domain.post;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 게시글 조회수를 메모리에 모았다가 주기적으로 데이터베이스에 반영하는 클래스입니다.
+ *
+ * <p>
+ * 조회할 때마다 {@code UPDATE post SET view_count = view_count + 1} 을 실행하면 많이 조회되는 게시글의 행 잠금에 요청이 몰립니다. 그래서
+ * 게시글별 {@link LongAdder}에 잠금 없이 조회수를 더해두고, 반영 주기마다 게시글 하나에 UPDATE 한 번씩 배치로 실행합니다. 애플리케이션이
+ * 종료될 때도 남은 조회수를 반영하지만, 비정상 종료 시에는 마지막 반영 이후의 조회수가 유실될 수 있습니다.
+ *
+ * <p>
+ * 게시글 조회 응답에는 반영된 조회수만 담깁니다. 그래서 응답의 ETag 는 반영 주기마다 한 번만 바뀌고, 게시글 캐시는 조회수를 담지 않으므로 반영할 때
+ * 비우지 않습니다.
+ *
+ * @author Sijun Yang
+ */
+@Component
+@RequiredArgsConstructor
+public class PostViewCounter {
+
+    private static final String INCREASE_VIEW_COUNT_SQL = "UPDATE post SET view_count = view_count + ? WHERE id = ?";
+
+    private final Map<Long, LongAdder> pendingViewCounts = new ConcurrentHashMap<>();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 게시글 조회수를 1 증가시킵니다. 증가한 조회수는 다음 반영 주기에 데이터베이스에 저장됩니다.
+     * @param postId 조회된 게시글 ID
+     */
+    public void increment(long postId) {
+        this.pendingViewCounts.computeIfAbsent(postId, (key) -> new LongAdder()).increment();
+    }
+
+    long getPendingCount(long postId) {
+        LongAdder adder = this.pendingViewCounts.get(postId);
+        return (adder != null) ? adder.sum() : 0;
+    }
+
+    /**
+     * 모아둔 조회수를 데이터베이스에 반영합니다. 반영에 실패하면 조회수를 되돌려 다음 주기에 다시 시도합니다. Scheduled 와 PreDestroy 로만
+     * 호출되므로 트랜잭션은 직접 시작합니다.
+     */
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${celog.post.view-count.flush-interval:PT10S}")
+    public void flush() {
+        List<Object[]> increments = new ArrayList<>();
+        this.pendingViewCounts.forEach((postId, adder) -> {
+            long count = adder.sumThenReset();
+            if (count > 0) {
+                increments.add(new Object[] { count, postId });
+            }
+            else {
+                // 한 주기 동안 조회되지 않은 게시글은 메모리에서 제거한다. 제거하는 순간에 더해진 조회수는 드물게 유실될 수 있다.
+                this.pendingViewCounts.remove(postId, adder);
+            }
+        });
+        if (increments.isEmpty()) {
+            return;
+        }
+        // 여러 인스턴스가 동시에 반영할 때 교착 상태가 생기지 않도록 항상 같은 순서로 행을 잠근다.
+        increments.sort(Comparator.comparing((increment) -> (Long) increment[1]));
+
+        try {
+            // 일부만 반영된 채로 실패하면 되돌린 조회수가 중복으로 더해지므로, 하나의 트랜잭션으로 반영한다.
+            this.transactionTemplate
+                .executeWithoutResult((status) -> this.jdbcTemplate.batchUpdate(INCREASE_VIEW_COUNT_SQL, increments));
+        }
+        catch (RuntimeException ex) {
+            increments.forEach((increment) -> this.pendingViewCounts
+                .computeIfAbsent((Long) increment[1], (key) -> new LongAdder())
+                .add((Long) increment[0]));
+            throw ex;
+        }
+
+    }
+
+}
@@ -0,0 +1,14 @@
+package dev.sijunyang.celog.core.domain.post;
+
+import java.time.LocalDateTime;
+
+/**
+ * 렌더링된 게시글 HTML 과 렌더링에 사용한 게시글의 수정 시간을 함께 저장하는 레코드입니다. 수정 시간이 다르다면 오래된 HTML 입니다.
+ *
+ * @param modifiedAt 렌더링한 게시글의 수정 시간
+ * @param html UTF-8 로 인코딩된 HTML
+ * @author Sijun Yang
+ */
+record RenderedPostHtml(LocalDateTime modifiedAt, byte[] html) {
+
+}
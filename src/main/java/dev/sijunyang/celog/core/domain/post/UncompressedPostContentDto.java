@@ -0,0 +1,12 @@
+package dev.sijunyang.celog.core.domain.post;
+
+import java.time.LocalDateTime;
+
+/**
+ * 아직 압축되지 않은 게시글 내용을 압축하기 위해 필요한 정보만 담는 DTO입니다.
+ *
+ * @author Sijun Yang
+ */
+public record UncompressedPostContentDto(Long postId, String content, LocalDateTime modifiedAt) {
+
+}
@@ -0,0 +1,14 @@
+package dev.sijunyang.celog.core.domain.reply;
+
+import jakarta.validation.constraints.Size;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * 댓글 부분 수정 요청입니다. null 인 값은 변경하지 않습니다.
+ *
+ * @author Sijun Yang
+ */
+public record PatchReplyRequest(@Nullable @Size(min = 1, max = 4096) String content) {
+
+}
@@ -0,0 +1,76 @@
+package dev.sijunyang.celog.core.domain.reply;
+
+import java.util.Collection;
+import java.util.List;
+
+import dev.sijunyang.celog.core.domain.post.PostRepository;
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 게시글의 댓글 수와 댓글의 하위 댓글 수를 실제 댓글로 다시 세는 백그라운드 작업입니다.
+ *
+ * <p>
+ * 댓글 수는 댓글을 생성하고 삭제하는 트랜잭션에서 함께 더하지만, 데이터베이스를 직접 수정하거나 카운터를 추가하기 전에 저장된 댓글은 반영되지 않습니다. 그래서
+ * 주기적으로 모든 게시글을 ID 순서로 {@value #BATCH_SIZE}개씩 나누어 다시 세고, 묶음마다 트랜잭션을 커밋하여 잠금을 짧게 유지합니다.
+ *
+ * @author Sijun Yang
+ */
+@Component
+@RequiredArgsConstructor
+public class ReplyCountRepairer {
+
+    static final int BATCH_SIZE = 500;
+
+    private final PostRepository postRepository;
+
+    private final ReplyRepository replyRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 모든 게시글의 댓글 수를 다시 셉니다. Scheduled 로만 호출되므로 트랜잭션은 묶음마다 직접 시작합니다.
+     * @return 다시 센 게시글 수
+     */
+    @Scheduled(cron = "${celog.reply.count-repair.cron:0 0 4 * * *}")
+    public long repairAll() {
+        long repairedCount = 0;
+        long afterPostId = 0;
+        List<Long> postIds;
+        do {
+            postIds = this.postRepository.findIdsAfter(afterPostId, PageRequest.of(0, BATCH_SIZE));
+            if (postIds.isEmpty()) {
+                break;
+            }
+            List<Long> batch = postIds;
+            this.transactionTemplate.executeWithoutResult((status) -> repair(batch));
+            repairedCount += postIds.size();
+            afterPostId = postIds.get(postIds.size() - 1);
+        }
+        while (postIds.size() == BATCH_SIZE);
+        return repairedCount;
+    }
+
+    /**
+     * 지정한 게시글들의 댓글 수와 그 댓글들의 하위 댓글 수를 다시 셉니다. 댓글을 한 번에 저장한 뒤 같은 트랜잭션에서 호출할 수 있습니다.
+     * @param postIds 다시 셀 게시글 ID 리스트
+     */
+    @Transactional
+    public void repair(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return;
+        }
+        this.postRepository.recountReplies(postIds);
+        this.replyRepository.recountChildRepliesByPostIdIn(postIds);
+        this.eventPublisher.publishEvent(new ReplyCountsRepairedEvent(List.copyOf(postIds)));
+    }
+
+}
@@ -0,0 +1,13 @@
+package dev.sijunyang.celog.core.domain.reply;
+
+import java.util.Collection;
+
+/**
+ * 게시글의 댓글 수를 실제 댓글로 다시 세었을 때 발행되는 이벤트입니다.
+ *
+ * @param postIds 댓글 수를 다시 센 게시글 ID 리스트
+ * @author Sijun Yang
+ */
+public record ReplyCountsRepairedEvent(Collection<Long> postIds) {
+
+}
@@ -0,0 +1,12 @@
+package dev.sijunyang.celog.core.domain.reply;
+
+/**
+ * 새로운 댓글이 생성되었을 때 발행되는 이벤트입니다.
+ *
+ * @param replyId 댓글 ID
+ * @param postId 댓글이 달린 게시글 ID
+ * @author Sijun Yang
+ */
+public record ReplyCreatedEvent(Long replyId, Long postId) {
+
+}
@@ -0,0 +1,12 @@
+package dev.sijunyang.celog.core.domain.reply;
+
+/**
+ * 댓글이 삭제되었을 때 발행되는 이벤트입니다. 함께 삭제된 하위 댓글마다 발행하지는 않습니다.
+ *
+ * @param replyId 삭제된 댓글 ID
+ * @param postId 댓글이 달렸던 게시글 ID
+ * @author Sijun Yang
+ */
+public record ReplyDeletedEvent(Long replyId, Long postId) {
+
+}
@@ -18,18 +18,21 @@ public final class ReplyDto {
 
     private Long superReplyId;
 
+    private long childReplyCount;
+
     private LocalDateTime modifiedAt;
 
     private LocalDateTime createdAt;
 
     @Builder
-    public ReplyDto(Long replyId, String content, Long userId, Long postId, Long superReplyId, LocalDateTime modifiedAt,
-            LocalDateTime createdAt) {
+    public ReplyDto(Long replyId, String content, Long userId, Long postId, Long superReplyId, long childReplyCount,
+            LocalDateTime modifiedAt, LocalDateTime createdAt) {
         this.replyId = replyId;
         this.content = content;
         this.userId = userId;
         this.postId = postId;
         this.superReplyId = superReplyId;
+        this.childReplyCount = childReplyCount;
         this.modifiedAt = modifiedAt;
         this.createdAt = createdAt;
     }
@@ -1,17 +1,25 @@
 package dev.sijunyang.celog.core.domain.reply;
 
+import java.util.Arrays;
+import java.util.List;
+
 import dev.sijunyang.celog.core.domain.post.PostEntity;
 import dev.sijunyang.celog.core.global.jpa.BaseTimeEntity;
+import dev.sijunyang.celog.core.global.jpa.IdGenerators;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import jakarta.validation.constraints.NotNull;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 import org.springframework.lang.Nullable;
 
@@ -23,10 +31,27 @@ import org.springframework.lang.Nullable;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity(name = "reply")
+// 부분 수정 시 변경된 컬럼만 UPDATE 한다.
+@DynamicUpdate
+// 게시글의 전체 댓글 스레드를 작성순으로 한 번에 조회하고, 최상위 댓글과 하위 댓글을 (createdAt, id) 커서로 조회하고,
+// 경로가 채워지지 않은 댓글의 하위 댓글을 상위 댓글 ID로 찾고, 모든 하위 댓글을 경로 접두사 범위로 찾기 위한 인덱스
+@Table(indexes = { @Index(name = "idx_reply_post_id_created_at_id", columnList = "post_id, created_at, id"),
+        @Index(name = "idx_reply_post_id_super_reply_id_created_at_id",
+                columnList = "post_id, super_reply_id, created_at, id"),
+        @Index(name = "idx_reply_super_reply_id", columnList = "super_reply_id"),
+        @Index(name = "idx_reply_post_id_path", columnList = "post_id, path") })
 public class ReplyEntity extends BaseTimeEntity {
 
+    /**
+     * 경로의 최대 길이입니다. (post_id, path) 인덱스가 InnoDB 의 인덱스 키 크기 제한을 넘지 않는 길이입니다.
+     */
+    public static final int MAX_PATH_LENGTH = 512;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = IdGenerators.REPLY)
+    @TableGenerator(name = IdGenerators.REPLY, table = IdGenerators.TABLE, pkColumnName = IdGenerators.SEGMENT_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = IdGenerators.REPLY,
+            allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long id;
 
     /**
@@ -54,13 +79,54 @@ public class ReplyEntity extends BaseTimeEntity {
     @Nullable
     private Long superReplyId;
 
+    /**
+     * 최상위 댓글부터 상위 댓글까지의 ID를 {@code "1/5/"} 처럼 순서대로 이어 붙인 경로입니다. 최상위 댓글은 빈 문자열이고, 경로를 채우기 전에 저장된
+     * 댓글은 null 입니다. 어떤 댓글의 모든 하위 댓글은 {@link #getDescendantPathPrefix()}로 시작하는 경로를 가지므로 한 번의 인덱스 범위 조회로 찾을 수
+     * 있습니다. 댓글은 다른 댓글 아래로 옮길 수 없으므로 저장한 뒤에는 바뀌지 않습니다.
+     */
+    @Nullable
+    @Column(length = MAX_PATH_LENGTH, updatable = false)
+    private String path;
+
+    /**
+     * 바로 아래 단계의 하위 댓글 수입니다. 하위 댓글을 생성하거나 삭제하는 트랜잭션에서 UPDATE 로 더하므로, 엔티티를 저장할 때는 이 값을 쓰지 않습니다.
+     */
+    @Column(insertable = false, updatable = false, columnDefinition = "BIGINT NOT NULL DEFAULT 0")
+    private long childReplyCount;
+
     @Builder
-    public ReplyEntity(Long id, String content, Long userId, Long postId, @Nullable Long superReplyId) {
+    public ReplyEntity(Long id, String content, Long userId, Long postId, @Nullable Long superReplyId,
+            @Nullable String path) {
         this.id = id;
         this.content = content;
         this.userId = userId;
         this.postId = postId;
         this.superReplyId = superReplyId;
+        this.path = path;
+    }
+
+    public void changeContent(String content) {
+        this.content = content;
+    }
+
+    /**
+     * 이 댓글의 하위 댓글들이 가지는 경로의 접두사를 반환합니다. 하위 댓글을 저장할 때 경로로 사용합니다.
+     * @return 하위 댓글 경로의 접두사, 이 댓글의 경로가 채워지지 않았다면 null
+     */
+    @Nullable
+    public String getDescendantPathPrefix() {
+        return (this.path != null) ? this.path + this.id + "/" : null;
+    }
+
+    /**
+     * 경로에 담긴 상위 댓글 ID를 최상위 댓글부터 순서대로 반환합니다.
+     * @return 상위 댓글 ID 리스트, 최상위 댓글이라면 빈 리스트
+     */
+    public List<Long> getAncestorIds() {
+        if (this.path == null || this.path.isEmpty()) {
+            return List.of();
+        }
+        return Arrays.stream(this.path.split("/")).map(Long::valueOf).toList();
     }
 
     public ReplyDto tooReplyDto() {
@@ -70,6 +136,7 @@ public class ReplyEntity extends BaseTimeEntity {
             .userId(this.getUserId())
             .postId(this.getPostId())
             .superReplyId(this.getSuperReplyId())
+            .childReplyCount(this.getChildReplyCount())
             .modifiedAt(this.getModifiedAt())
             .createdAt(this.getCreatedAt())
             .build();
@@ -0,0 +1,14 @@
+package dev.sijunyang.celog.core.domain.reply;
+
+/**
+ * 게시글에 달린 댓글 목록의 변경 여부를 확인하기 위한 DTO입니다. 댓글을 읽지 않고 게시글에 유지하는 값만으로 만들며, 댓글이 생성, 수정, 삭제될 때마다
+ * 댓글 버전이 커집니다. 접근 권한을 확인한 뒤에만 만들어지므로, 댓글 목록을 조회할 때 권한을 다시 확인하지 않는 데도 사용합니다.
+ *
+ * @param postId 게시글 ID
+ * @param replyCount 게시글의 댓글 수
+ * @param replyVersion 게시글의 댓글 버전
+ * @author Sijun Yang
+ */
+public record ReplyListVersionDto(Long postId, long replyCount, long replyVersion) {
+
+}
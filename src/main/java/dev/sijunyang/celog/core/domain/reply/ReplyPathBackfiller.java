@@ -0,0 +1,51 @@
+package dev.sijunyang.celog.core.domain.reply;
+
+import java.util.List;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 경로 컬럼을 추가하기 전에 저장된 댓글의 경로를 조금씩 채우는 백그라운드 작업입니다.
+ *
+ * <p>
+ * 한 번에 {@value #BATCH_SIZE}개의 댓글만 처리하여 트랜잭션과 잠금을 짧게 유지합니다. 최상위 댓글부터 채우고, 상위 댓글의 경로가 채워진 하위 댓글을 한
+ * 단계씩 채우므로 가장 깊은 스레드의 깊이만큼 실행되면 끝납니다. 상위 댓글이 삭제된 댓글은 경로가 채워지지 않습니다. 경로가 없는 댓글이 남아 있는
+ * 게시글은 하위 댓글을 조회하거나 삭제할 때 경로 대신 상위 댓글 ID를 따라가므로, 채우는 도중에도 하위 댓글이 빠지지 않습니다. 경로를 다 채운 뒤에는 이
+ * 작업을 꺼둡니다.
+ *
+ * @author Sijun Yang
+ */
+@Component
+@ConditionalOnProperty(prefix = "celog.reply.path-backfill", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class ReplyPathBackfiller {
+
+    static final int BATCH_SIZE = 1000;
+
+    private final ReplyRepository replyRepository;
+
+    /**
+     * 아직 경로가 없는 댓글의 경로를 한 묶음 채웁니다.
+     * @return 경로를 채운 댓글 수
+     */
+    @Transactional
+    @Scheduled(fixedDelayString = "${celog.reply.path-backfill.interval:PT1M}")
+    public int fillNextBatch() {
+        int filledCount = this.replyRepository.fillRootPaths(BATCH_SIZE);
+        if (filledCount == BATCH_SIZE) {
+            return filledCount;
+        }
+        List<Long> childIds = this.replyRepository.findIdsWithFillableChildPath(ReplyEntity.MAX_PATH_LENGTH,
+                BATCH_SIZE - filledCount);
+        if (!childIds.isEmpty()) {
+            filledCount += this.replyRepository.fillChildPathsByIdIn(childIds);
+        }
+        return filledCount;
+    }
+
+}
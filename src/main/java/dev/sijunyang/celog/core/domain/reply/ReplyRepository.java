@@ -1,8 +1,14 @@
 package dev.sijunyang.celog.core.domain.reply;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 /**
  * {@link ReplyEntity}를 처리하는 JpaRepository입니다.
@@ -11,11 +17,119 @@ import org.springframework.data.jpa.repository.JpaRepository;
  */
 public interface ReplyRepository extends JpaRepository<ReplyEntity, Long> {
 
-    List<ReplyEntity> deleteAllByPostId(Long postId);
+    // 파생 delete 쿼리는 엔티티를 모두 읽은 뒤 한 건씩 지우므로, MySQL 의 DELETE ... LIMIT 으로 지정한 개수씩 한 번에 지운다.
+    // ORDER BY 가 없는 LIMIT 은 지울 행이 정해지지 않아 문장 기반 복제에서 안전하지 않으므로 ID 순서로 지운다.
+    @Modifying
+    @Query(value = "DELETE FROM reply WHERE post_id = :postId ORDER BY id LIMIT :limit", nativeQuery = true)
+    int deleteChunkByPostId(@Param("postId") Long postId, @Param("limit") int limit);
 
-    // depth 0 댓글을 가져온다.
-    List<ReplyEntity> findAllByPostIdAndSuperReplyIdIsNull(Long postId);
+    // 경로는 숫자와 '/' 로만 이루어지므로 LIKE 의 와일드카드 문자가 섞이지 않는다. (post_id, path) 인덱스의 범위로 지운다.
+    // 위와 같은 이유로 ID 순서로 지운다.
+    @Modifying
+    @Query(value = """
+            DELETE FROM reply
+            WHERE post_id = :postId AND path LIKE CONCAT(:pathPrefix, '%')
+            ORDER BY id
+            LIMIT :limit
+            """, nativeQuery = true)
+    int deleteChunkByPostIdAndPathStartingWith(@Param("postId") Long postId, @Param("pathPrefix") String pathPrefix,
+            @Param("limit") int limit);
 
-    List<ReplyEntity> findAllBySuperReplyId(Long superReplyId);
+    @Modifying
+    @Query("DELETE FROM reply r WHERE r.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 경로가 아직 채워지지 않은 댓글이 게시글에 남아 있는지 (post_id, path) 인덱스로 확인한다.
+    boolean existsByPostIdAndPathIsNull(Long postId);
+
+    @Query("SELECT r.id FROM reply r WHERE r.superReplyId IN :superReplyIds")
+    List<Long> findIdsBySuperReplyIdIn(@Param("superReplyIds") Collection<Long> superReplyIds);
+
+    // depth 0 댓글을 작성순으로 가져온다. (post_id, super_reply_id, created_at, id) 인덱스를 정렬 순서대로 읽는다.
+    @Query("""
+            SELECT r FROM reply r
+            WHERE r.postId = :postId AND r.superReplyId IS NULL
+            ORDER BY r.createdAt, r.id
+            """)
+    List<ReplyEntity> findRootsByPostId(@Param("postId") Long postId, Pageable pageable);
+
+    @Query("""
+            SELECT r FROM reply r
+            WHERE r.postId = :postId AND r.superReplyId IS NULL
+                AND (r.createdAt > :createdAt OR (r.createdAt = :createdAt AND r.id > :id))
+            ORDER BY r.createdAt, r.id
+            """)
+    List<ReplyEntity> findRootsByPostIdAfter(@Param("postId") Long postId, @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id, Pageable pageable);
+
+    // 하위 댓글도 게시글 ID를 함께 조건으로 주어 같은 인덱스를 사용한다.
+    @Query("""
+            SELECT r FROM reply r
+            WHERE r.postId = :postId AND r.superReplyId = :superReplyId
+            ORDER BY r.createdAt, r.id
+            """)
+    List<ReplyEntity> findChildrenByPostIdAndSuperReplyId(@Param("postId") Long postId,
+            @Param("superReplyId") Long superReplyId, Pageable pageable);
+
+    @Query("""
+            SELECT r FROM reply r
+            WHERE r.postId = :postId AND r.superReplyId = :superReplyId
+                AND (r.createdAt > :createdAt OR (r.createdAt = :createdAt AND r.id > :id))
+            ORDER BY r.createdAt, r.id
+            """)
+    List<ReplyEntity> findChildrenByPostIdAndSuperReplyIdAfter(@Param("postId") Long postId,
+            @Param("superReplyId") Long superReplyId, @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+            Pageable pageable);
+
+    // 댓글의 모든 하위 댓글을 (post_id, path) 인덱스의 범위 조회 한 번으로 가져온다.
+    @Query("""
+            SELECT r FROM reply r
+            WHERE r.postId = :postId AND r.path LIKE CONCAT(:pathPrefix, '%')
+            ORDER BY r.createdAt, r.id
+            """)
+    List<ReplyEntity> findDescendantsByPostIdAndPathPrefix(@Param("postId") Long postId,
+            @Param("pathPrefix") String pathPrefix);
+
+    // 게시글의 모든 댓글을 한 번에 가져온다. 트리 조립은 애플리케이션에서 수행한다.
+    List<ReplyEntity> findAllByPostIdOrderByCreatedAtAscIdAsc(Long postId);
+
+    @Modifying
+    @Query("UPDATE reply r SET r.childReplyCount = r.childReplyCount + :delta WHERE r.id = :id")
+    int addChildReplyCount(@Param("id") Long id, @Param("delta") long delta);
+
+    // 같은 테이블을 UPDATE 하면서 서브쿼리로 읽을 수 없으므로, GROUP BY 로 먼저 구체화한 하위 댓글 수를 조인한다.
+    @Modifying
+    @Query(value = """
+            UPDATE reply r
+            LEFT JOIN (
+                SELECT super_reply_id, COUNT(*) AS child_reply_count FROM reply
+                WHERE post_id IN (:postIds) AND super_reply_id IS NOT NULL
+                GROUP BY super_reply_id) c ON c.super_reply_id = r.id
+            SET r.child_reply_count = COALESCE(c.child_reply_count, 0)
+            WHERE r.post_id IN (:postIds)
+            """, nativeQuery = true)
+    int recountChildRepliesByPostIdIn(@Param("postIds") Collection<Long> postIds);
+
+    // 경로를 채우기 전에 저장된 최상위 댓글의 경로를 빈 문자열로 채운다.
+    @Modifying
+    @Query(value = "UPDATE reply SET path = '' WHERE path IS NULL AND super_reply_id IS NULL LIMIT :limit",
+            nativeQuery = true)
+    int fillRootPaths(@Param("limit") int limit);
+
+    // 상위 댓글의 경로가 채워져 있어 바로 경로를 채울 수 있는 하위 댓글을 찾는다. 최대 길이를 넘는 댓글은 경로 없이 남긴다.
+    @Query(value = """
+            SELECT c.id FROM reply c JOIN reply p ON p.id = c.super_reply_id
+            WHERE c.path IS NULL AND p.path IS NOT NULL AND CHAR_LENGTH(CONCAT(p.path, p.id, '/')) <= :maxLength
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<Long> findIdsWithFillableChildPath(@Param("maxLength") int maxLength, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = """
+            UPDATE reply c JOIN reply p ON p.id = c.super_reply_id
+            SET c.path = CONCAT(p.path, p.id, '/')
+            WHERE c.id IN (:ids) AND c.path IS NULL AND p.path IS NOT NULL
+            """, nativeQuery = true)
+    int fillChildPathsByIdIn(@Param("ids") Collection<Long> ids);
 
 }
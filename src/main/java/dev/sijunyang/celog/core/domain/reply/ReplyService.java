@@ -1,44 +1,83 @@
 package dev.sijunyang.celog.core.domain.reply;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.IntSupplier;
 
 import dev.sijunyang.celog.core.domain.post.PostDto;
 import dev.sijunyang.celog.core.domain.post.PostService;
+import dev.sijunyang.celog.core.domain.post.PostVersionDto;
 import dev.sijunyang.celog.core.domain.user.RequestUser;
 import dev.sijunyang.celog.core.domain.user.UserService;
 import dev.sijunyang.celog.core.global.enums.Role;
 import dev.sijunyang.celog.core.global.error.nextVer.InsufficientPermissionException;
+import dev.sijunyang.celog.core.global.error.nextVer.InvalidInputException;
 import dev.sijunyang.celog.core.global.error.nextVer.ResourceNotFoundException;
+import dev.sijunyang.celog.core.global.pagination.CursorPage;
+import dev.sijunyang.celog.core.global.pagination.CursorRequest;
+import dev.sijunyang.celog.core.global.pagination.PaginationProperties;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.validation.annotation.Validated;
 
 @Service
 @Validated
 public class ReplyService {
 
+    /**
+     * 한 번의 DELETE 문으로 지울 최대 댓글 수입니다. 댓글이 아주 많은 게시글도 한 문장이 너무 오래 잠금을 잡지 않도록 나누어 지웁니다. 한 번의 IN 조건에
+     * 넣을 최대 댓글 ID 수로도 사용합니다.
+     */
+    private static final int DELETE_CHUNK_SIZE = 1000;
+
     private final ReplyRepository replyRepository;
 
     private final PostService postService;
 
     private final UserService userService;
 
-    public ReplyService(ReplyRepository replyRepository, @Lazy PostService postService, UserService userService) {
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final PaginationProperties paginationProperties;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public ReplyService(ReplyRepository replyRepository, @Lazy PostService postService, UserService userService,
+            ApplicationEventPublisher eventPublisher, PaginationProperties paginationProperties,
+            TransactionTemplate transactionTemplate) {
         this.replyRepository = replyRepository;
         this.postService = postService;
         this.userService = userService;
+        this.eventPublisher = eventPublisher;
+        this.paginationProperties = paginationProperties;
+        this.transactionTemplate = transactionTemplate;
     }
 
     /**
-     * 새로운 댓글을 생성합니다. 댓글을 생성하려는 게시글에 접근 가능해야 합니다.
+     * 새로운 댓글을 생성합니다. 댓글을 생성하려는 게시글에 접근 가능해야 합니다. 게시글의 댓글 수와 상위 댓글의 하위 댓글 수도 함께 더합니다.
      * @param requester 댓글을 생성하려는 사용자 정보
      * @param postId 수정할 댓글의 게시글 ID
      * @param createReplyRequest 생성할 댓글 정보
      */
+    @Transactional
     public void createReply(@NotNull @Valid RequestUser requester, long postId,
             @NotNull @Valid CreateReplyRequest createReplyRequest) {
         validateUserById(requester.userId());
@@ -49,8 +88,14 @@ public class ReplyService {
             .userId(requester.userId())
             .postId(postId)
             .superReplyId(createReplyRequest.superReplyId())
+            .path(resolvePath(postId, createReplyRequest.superReplyId()))
             .build();
         this.replyRepository.save(replyEntity);
+        this.postService.addReplyCount(postId, 1);
+        if (replyEntity.getSuperReplyId() != null) {
+            this.replyRepository.addChildReplyCount(replyEntity.getSuperReplyId(), 1);
+        }
+        this.eventPublisher.publishEvent(new ReplyCreatedEvent(replyEntity.getId(), postId));
     }
 
     /**
@@ -60,6 +105,7 @@ public class ReplyService {
      * @param replyId 수정할 댓글 ID
      * @param updateRequest 수정된 댓글 정보
      */
+    @Transactional
     public void updateReply(@NotNull @Valid RequestUser requester, long postId, long replyId,
             @NotNull @Valid UpdateReplyRequest updateRequest) {
         validateUserById(requester.userId());
@@ -74,13 +120,42 @@ public class ReplyService {
             .userId(requester.userId())
             .postId(oldReplyEntity.getPostId())
             .superReplyId(oldReplyEntity.getSuperReplyId())
+            .path(oldReplyEntity.getPath())
             .build();
 
         this.replyRepository.save(newReplyEntity);
+        this.postService.increaseReplyVersion(oldReplyEntity.getPostId());
+        this.eventPublisher.publishEvent(new ReplyUpdatedEvent(replyId, oldReplyEntity.getPostId()));
+    }
+
+    /**
+     * 댓글의 일부 정보만 수정합니다. 수정하려는 댓글이 달린 게시글에 접근 가능한 사용자이며, 작성자 본인만 수행 가능합니다. 변경 감지로 바뀐 컬럼만
+     * UPDATE 됩니다.
+     * @param requester 댓글을 수정하려는 사용자 정보
+     * @param postId 수정할 댓글의 게시글 ID
+     * @param replyId 수정할 댓글 ID
+     * @param patchRequest 수정할 댓글 정보, null 인 값은 변경하지 않음
+     */
+    @Transactional
+    public void patchReply(@NotNull @Valid RequestUser requester, long postId, long replyId,
+            @NotNull @Valid PatchReplyRequest patchRequest) {
+        validateUserById(requester.userId());
+        ReplyEntity replyEntity = getById(replyId);
+        validatePostHasReply(postId, replyEntity);
+        validatePostAccessible(requester, replyEntity.getPostId());
+        validateUpdatable(requester, replyEntity);
+
+        if (patchRequest.content() != null) {
+            replyEntity.changeContent(patchRequest.content());
+            this.postService.increaseReplyVersion(replyEntity.getPostId());
+            this.eventPublisher.publishEvent(new ReplyUpdatedEvent(replyId, replyEntity.getPostId()));
+        }
     }
 
     /**
-     * 댓글을 삭제합니다. 어드민 혹은 작성자 본인만 수행 가능합니다.
+     * 댓글을 삭제합니다. 삭제하는 댓글의 모든 하위 댓글도 함께 삭제되며, 삭제된 수만큼 댓글 수를 뺍니다. 어드민 혹은 작성자 본인만 수행 가능합니다.
+     * 하위 댓글은 묶음마다 트랜잭션을 나누어 먼저 지우고, 댓글 자신은 마지막 트랜잭션에서 지웁니다. 중간에 실패해도 댓글이 남아 있으므로 다시 요청하면
+     * 이어서 지웁니다.
      * @param requester 댓글을 삭제하려는 사용자 정보
      * @param postId 수정할 댓글의 게시글 ID
      * @param replyId 삭제할 댓글 ID
@@ -90,11 +165,24 @@ public class ReplyService {
         ReplyEntity replyEntity = getById(replyId);
         validatePostHasReply(postId, replyEntity);
         validateDeletable(requester, replyEntity.getUserId());
-        this.replyRepository.delete(replyEntity);
+        deleteDescendants(replyEntity);
+        this.transactionTemplate.executeWithoutResult((status) -> {
+            int deletedCount = this.replyRepository.deleteAllByIdIn(List.of(replyId));
+            if (deletedCount == 0) {
+                // 동시에 들어온 다른 삭제 요청이 먼저 지웠다. 댓글 수는 그 요청이 이미 뺐다.
+                return;
+            }
+            this.postService.addReplyCount(replyEntity.getPostId(), -deletedCount);
+            if (replyEntity.getSuperReplyId() != null) {
+                this.replyRepository.addChildReplyCount(replyEntity.getSuperReplyId(), -1);
+            }
+            this.eventPublisher.publishEvent(new ReplyDeletedEvent(replyId, replyEntity.getPostId()));
+        });
     }
 
     /**
-     * 특정 게시글의 모든 댓글을 삭제합니다. 사용자의 요청이 아닌 게시글이 삭제될 때 실행됩니다.
+     * 특정 게시글의 모든 댓글을 삭제합니다. 사용자의 요청이 아닌 게시글이 삭제될 때 실행됩니다. 묶음마다 트랜잭션을 나누어 지우므로 트랜잭션 밖에서
+     * 호출해야 잠금을 묶음 하나만큼만 잡습니다.
      * @param requester 글과 함께 모든 댓글을 삭제하려는 사용자 정보
      * @param postId 삭제할 게시글 ID
      */
@@ -102,36 +190,240 @@ public class ReplyService {
         validateUserById(requester.userId());
         PostDto post = this.postService.getPost(requester, postId);
         validateDeletable(requester, post.userId());
-        this.replyRepository.deleteAllByPostId(postId);
+        int deletedCount;
+        do {
+            deletedCount = deleteChunkInTransaction(postId,
+                    () -> this.replyRepository.deleteChunkByPostId(postId, DELETE_CHUNK_SIZE));
+        }
+        while (deletedCount == DELETE_CHUNK_SIZE);
     }
 
     /**
-     * 특정 게시글에 달린 depth가 0인(글에 대한 댓글) 댓글을 가져옵니다.
+     * 특정 게시글에 달린 depth가 0인(글에 대한 댓글) 댓글을 작성순으로 커서 페이지 단위로 가져옵니다.
      * @param requester 댓글을 조회하려는 사용자 정보
      * @param postId 조회할 게시글 ID
-     * @return 해당 게시글에 달린 댓글 리스트
+     * @param cursorRequest 커서 페이지 요청 정보
+     * @return 해당 게시글에 달린 댓글 페이지
      */
-    public List<ReplyDto> getRootRepliesByPostId(@NotNull @Valid RequestUser requester, long postId) {
+    @Transactional(readOnly = true)
+    public CursorPage<ReplyDto> getRootRepliesByPostId(@NotNull @Valid RequestUser requester, long postId,
+            @NotNull CursorRequest cursorRequest) {
         validateUserById(requester.userId());
         validatePostAccessible(requester, postId);
-        List<ReplyEntity> rootReplies = this.replyRepository.findAllByPostIdAndSuperReplyIdIsNull(postId);
-        return rootReplies.stream().map(ReplyEntity::tooReplyDto).toList();
+        return findRootReplies(postId, cursorRequest);
+    }
+
+    /**
+     * 접근 권한을 확인한 댓글 목록 버전의 게시글에 달린 depth가 0인 댓글을 작성순으로 커서 페이지 단위로 가져옵니다. 접근 권한은
+     * {@link #getReplyListVersion(RequestUser, long)}에서 확인하므로 다시 확인하지 않습니다.
+     * @param version 접근 권한을 확인하고 조회한 댓글 목록 버전
+     * @param cursorRequest 커서 페이지 요청 정보
+     * @return 해당 게시글에 달린 댓글 페이지
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<ReplyDto> getRootRepliesByPostId(@NotNull ReplyListVersionDto version,
+            @NotNull CursorRequest cursorRequest) {
+        return findRootReplies(version.postId(), cursorRequest);
     }
 
     /**
-     * 특정 댓글에 대한 댓글을 가져옵니다.
+     * 특정 댓글에 대한 댓글을 작성순으로 커서 페이지 단위로 가져옵니다.
      * @param requester 댓글을 조회하려는 사용자 정보
      * @param postId 수정할 댓글의 게시글 ID
      * @param parentReplyId 조회할 댓글 ID
-     * @return 해당 댓글에 달린 댓글 리스트
+     * @param cursorRequest 커서 페이지 요청 정보
+     * @return 해당 댓글에 달린 댓글 페이지
      */
-    public List<ReplyDto> getChildRepliesById(@NotNull @Valid RequestUser requester, long postId, long parentReplyId) {
+    @Transactional(readOnly = true)
+    public CursorPage<ReplyDto> getChildRepliesById(@NotNull @Valid RequestUser requester, long postId,
+            long parentReplyId, @NotNull CursorRequest cursorRequest) {
         validateUserById(requester.userId());
         ReplyEntity parentReplyEntity = getById(parentReplyId);
         validatePostHasReply(postId, parentReplyEntity);
         validatePostAccessible(requester, parentReplyEntity.getPostId());
-        List<ReplyEntity> childReplies = this.replyRepository.findAllBySuperReplyId(parentReplyId);
-        return childReplies.stream().map(ReplyEntity::tooReplyDto).collect(Collectors.toList());
+        return findChildReplies(postId, parentReplyId, cursorRequest);
+    }
+
+    /**
+     * 접근 권한을 확인한 댓글 목록 버전의 게시글에서 특정 댓글에 대한 댓글을 작성순으로 커서 페이지 단위로 가져옵니다. 접근 권한은
+     * {@link #getReplyListVersion(RequestUser, long)}에서 확인하므로 다시 확인하지 않습니다.
+     * @param version 접근 권한을 확인하고 조회한 댓글 목록 버전
+     * @param parentReplyId 조회할 댓글 ID
+     * @param cursorRequest 커서 페이지 요청 정보
+     * @return 해당 댓글에 달린 댓글 페이지
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<ReplyDto> getChildRepliesById(@NotNull ReplyListVersionDto version, long parentReplyId,
+            @NotNull CursorRequest cursorRequest) {
+        validateReplyOfPost(version.postId(), getById(parentReplyId));
+        return findChildReplies(version.postId(), parentReplyId, cursorRequest);
+    }
+
+    /**
+     * 특정 게시글의 모든 댓글을 한 번의 쿼리로 가져와 트리 형태로 조립합니다. 상위 댓글이 삭제되어 연결되지 않는 댓글은 포함되지 않습니다.
+     * @param requester 댓글을 조회하려는 사용자 정보
+     * @param postId 조회할 게시글 ID
+     * @param maxDepth 조립할 최대 깊이, null 이면 제한하지 않습니다. 최상위 댓글의 깊이가 1입니다.
+     * @param limitPerLevel 각 댓글(혹은 게시글)마다 포함할 하위 댓글의 최대 개수, null 이면 제한하지 않습니다.
+     * @return 최상위 댓글부터 시작하는 댓글 트리 리스트
+     */
+    @Transactional(readOnly = true)
+    public List<ReplyThreadDto> getReplyThread(@NotNull @Valid RequestUser requester, long postId,
+            @Nullable @Positive Integer maxDepth, @Nullable @Positive Integer limitPerLevel) {
+        validateUserById(requester.userId());
+        validatePostAccessible(requester, postId);
+        return findThread(postId, maxDepth, limitPerLevel);
+    }
+
+    /**
+     * 접근 권한을 확인한 댓글 목록 버전의 게시글의 모든 댓글을 한 번의 쿼리로 가져와 트리 형태로 조립합니다. 접근 권한은
+     * {@link #getReplyListVersion(RequestUser, long)}에서 확인하므로 다시 확인하지 않습니다.
+     * @param version 접근 권한을 확인하고 조회한 댓글 목록 버전
+     * @param maxDepth 조립할 최대 깊이, null 이면 제한하지 않습니다. 최상위 댓글의 깊이가 1입니다.
+     * @param limitPerLevel 각 댓글(혹은 게시글)마다 포함할 하위 댓글의 최대 개수, null 이면 제한하지 않습니다.
+     * @return 최상위 댓글부터 시작하는 댓글 트리 리스트
+     */
+    @Transactional(readOnly = true)
+    public List<ReplyThreadDto> getReplyThread(@NotNull ReplyListVersionDto version,
+            @Nullable @Positive Integer maxDepth, @Nullable @Positive Integer limitPerLevel) {
+        return findThread(version.postId(), maxDepth, limitPerLevel);
+    }
+
+    /**
+     * 특정 댓글의 모든 하위 댓글을 한 번의 쿼리로 가져와 트리 형태로 조립합니다. 조회한 댓글 자신은 포함되지 않습니다.
+     * @param requester 댓글을 조회하려는 사용자 정보
+     * @param postId 조회할 댓글의 게시글 ID
+     * @param replyId 조회할 댓글 ID
+     * @param maxDepth 조립할 최대 깊이, null 이면 제한하지 않습니다. 바로 아래 하위 댓글의 깊이가 1입니다.
+     * @param limitPerLevel 각 댓글마다 포함할 하위 댓글의 최대 개수, null 이면 제한하지 않습니다.
+     * @return 바로 아래 하위 댓글부터 시작하는 댓글 트리 리스트
+     */
+    @Transactional(readOnly = true)
+    public List<ReplyThreadDto> getReplySubtree(@NotNull @Valid RequestUser requester, long postId, long replyId,
+            @Nullable @Positive Integer maxDepth, @Nullable @Positive Integer limitPerLevel) {
+        validateUserById(requester.userId());
+        ReplyEntity replyEntity = getById(replyId);
+        validatePostHasReply(postId, replyEntity);
+        validatePostAccessible(requester, replyEntity.getPostId());
+        return findSubtree(replyEntity, maxDepth, limitPerLevel);
+    }
+
+    /**
+     * 접근 권한을 확인한 댓글 목록 버전의 게시글에서 특정 댓글의 모든 하위 댓글을 트리 형태로 조립합니다. 접근 권한은
+     * {@link #getReplyListVersion(RequestUser, long)}에서 확인하므로 다시 확인하지 않습니다.
+     * @param version 접근 권한을 확인하고 조회한 댓글 목록 버전
+     * @param replyId 조회할 댓글 ID
+     * @param maxDepth 조립할 최대 깊이, null 이면 제한하지 않습니다. 바로 아래 하위 댓글의 깊이가 1입니다.
+     * @param limitPerLevel 각 댓글마다 포함할 하위 댓글의 최대 개수, null 이면 제한하지 않습니다.
+     * @return 바로 아래 하위 댓글부터 시작하는 댓글 트리 리스트
+     */
+    @Transactional(readOnly = true)
+    public List<ReplyThreadDto> getReplySubtree(@NotNull ReplyListVersionDto version, long replyId,
+            @Nullable @Positive Integer maxDepth, @Nullable @Positive Integer limitPerLevel) {
+        ReplyEntity replyEntity = getById(replyId);
+        validateReplyOfPost(version.postId(), replyEntity);
+        return findSubtree(replyEntity, maxDepth, limitPerLevel);
+    }
+
+    /**
+     * 특정 댓글의 상위 댓글들을 최상위 댓글부터 순서대로 가져옵니다. 상위 댓글 ID는 경로에 담겨 있으므로 깊이와 관계없이 한 번의 쿼리로 가져옵니다.
+     * @param requester 댓글을 조회하려는 사용자 정보
+     * @param postId 조회할 댓글의 게시글 ID
+     * @param replyId 조회할 댓글 ID
+     * @return 최상위 댓글부터 바로 위 상위 댓글까지의 리스트, 최상위 댓글이라면 빈 리스트
+     */
+    @Transactional(readOnly = true)
+    public List<ReplyDto> getAncestors(@NotNull @Valid RequestUser requester, long postId, long replyId) {
+        validateUserById(requester.userId());
+        ReplyEntity replyEntity = getById(replyId);
+        validatePostHasReply(postId, replyEntity);
+        validatePostAccessible(requester, replyEntity.getPostId());
+        return findAncestors(replyEntity);
+    }
+
+    /**
+     * 접근 권한을 확인한 댓글 목록 버전의 게시글에서 특정 댓글의 상위 댓글들을 최상위 댓글부터 순서대로 가져옵니다. 접근 권한은
+     * {@link #getReplyListVersion(RequestUser, long)}에서 확인하므로 다시 확인하지 않습니다.
+     * @param version 접근 권한을 확인하고 조회한 댓글 목록 버전
+     * @param replyId 조회할 댓글 ID
+     * @return 최상위 댓글부터 바로 위 상위 댓글까지의 리스트, 최상위 댓글이라면 빈 리스트
+     */
+    @Transactional(readOnly = true)
+    public List<ReplyDto> getAncestors(@NotNull ReplyListVersionDto version, long replyId) {
+        ReplyEntity replyEntity = getById(replyId);
+        validateReplyOfPost(version.postId(), replyEntity);
+        return findAncestors(replyEntity);
+    }
+
+    /**
+     * 특정 게시글의 댓글 목록 버전을 조회합니다. 댓글을 읽지 않고 게시글의 댓글 수와 댓글 버전만 기본 키로 읽으므로, 조건부 요청에서 목록이 변경되었는지
+     * 먼저 판단할 때 사용합니다. 접근 권한도 함께 확인하므로, 반환한 버전으로 댓글 목록을 조회하면 권한을 다시 확인하지 않습니다.
+     * @param requester 댓글을 조회하려는 사용자 정보
+     * @param postId 조회할 게시글 ID
+     * @return 게시글의 댓글 수와 댓글 버전
+     */
+    @Transactional(readOnly = true)
+    public ReplyListVersionDto getReplyListVersion(@NotNull @Valid RequestUser requester, long postId) {
+        PostVersionDto version = this.postService.getPostVersion(requester, postId);
+        return new ReplyListVersionDto(version.postId(), version.replyCount(), version.replyVersion());
+    }
+
+    private CursorPage<ReplyDto> findRootReplies(long postId, CursorRequest cursorRequest) {
+        int size = this.paginationProperties.resolveSize(cursorRequest.size());
+        // 다음 페이지 존재 여부를 알기 위해 하나 더 조회한다.
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<ReplyEntity> rootReplies = (cursorRequest.isFirstPage())
+                ? this.replyRepository.findRootsByPostId(postId, limit)
+                : this.replyRepository.findRootsByPostIdAfter(postId, cursorRequest.cursorCreatedAt(),
+                        cursorRequest.cursorId(), limit);
+        return toReplyPage(rootReplies, size);
+    }
+
+    private CursorPage<ReplyDto> findChildReplies(long postId, long parentReplyId, CursorRequest cursorRequest) {
+        int size = this.paginationProperties.resolveSize(cursorRequest.size());
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<ReplyEntity> childReplies = (cursorRequest.isFirstPage())
+                ? this.replyRepository.findChildrenByPostIdAndSuperReplyId(postId, parentReplyId, limit)
+                : this.replyRepository.findChildrenByPostIdAndSuperReplyIdAfter(postId, parentReplyId,
+                        cursorRequest.cursorCreatedAt(), cursorRequest.cursorId(), limit);
+        return toReplyPage(childReplies, size);
+    }
+
+    private List<ReplyThreadDto> findThread(long postId, @Nullable Integer maxDepth,
+            @Nullable Integer limitPerLevel) {
+        List<ReplyEntity> replies = this.replyRepository.findAllByPostIdOrderByCreatedAtAscIdAsc(postId);
+        return assembleThread(replies, null, (maxDepth != null) ? maxDepth : Integer.MAX_VALUE,
+                (limitPerLevel != null) ? limitPerLevel : Integer.MAX_VALUE);
+    }
+
+    private List<ReplyThreadDto> findSubtree(ReplyEntity replyEntity, @Nullable Integer maxDepth,
+            @Nullable Integer limitPerLevel) {
+        List<ReplyEntity> descendants = findDescendants(replyEntity);
+        return assembleThread(descendants, replyEntity.getId(), (maxDepth != null) ? maxDepth : Integer.MAX_VALUE,
+                (limitPerLevel != null) ? limitPerLevel : Integer.MAX_VALUE);
+    }
+
+    private List<ReplyDto> findAncestors(ReplyEntity replyEntity) {
+        if (replyEntity.getPath() == null) {
+            return findAncestorsByLevel(replyEntity).stream().map(ReplyEntity::tooReplyDto).toList();
+        }
+        List<Long> ancestorIds = replyEntity.getAncestorIds();
+        if (ancestorIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, ReplyEntity> ancestorsById = new HashMap<>();
+        this.replyRepository.findAllById(ancestorIds)
+            .forEach((ancestor) -> ancestorsById.put(ancestor.getId(), ancestor));
+        return ancestorIds.stream()
+            .map(ancestorsById::get)
+            .filter(Objects::nonNull)
+            .map(ReplyEntity::tooReplyDto)
+            .toList();
+    }
+
+    private CursorPage<ReplyDto> toReplyPage(List<ReplyEntity> replies, int size) {
+        List<ReplyDto> replyDtos = replies.stream().map(ReplyEntity::tooReplyDto).toList();
+        return CursorPage.of(replyDtos, size, ReplyDto::getCreatedAt, ReplyDto::getReplyId);
     }
 
     // TODO 여기서 ReplyEntity 가져올 때부터 postId 검사하는게 더 좋을듯?
@@ -140,6 +432,161 @@ public class ReplyService {
             .orElseThrow(() -> new ResourceNotFoundException("ID에 해당되는 ReplyEntity를 찾을 수 없습니다. replyId: " + replyId));
     }
 
+    // 상위 댓글 ID 기준으로 묶은 뒤 너비 우선으로 내려가며 트리를 만든다. 각 댓글은 한 번씩만 방문하므로 O(n) 이다.
+    // 상위 댓글 ID가 rootParentId 인 댓글이 트리의 첫 단계가 되며, null 이면 게시글의 최상위 댓글부터 시작한다.
+    private List<ReplyThreadDto> assembleThread(List<ReplyEntity> replies, @Nullable Long rootParentId, int maxDepth,
+            int limitPerLevel) {
+        List<ReplyEntity> roots = new ArrayList<>();
+        Map<Long, List<ReplyEntity>> childrenByParentId = new HashMap<>();
+        for (ReplyEntity reply : replies) {
+            if (Objects.equals(reply.getSuperReplyId(), rootParentId)) {
+                roots.add(reply);
+            }
+            else {
+                childrenByParentId.computeIfAbsent(reply.getSuperReplyId(), (key) -> new ArrayList<>()).add(reply);
+            }
+        }
+
+        List<ReplyThreadDto> thread = new ArrayList<>();
+        Deque<PendingThreadNode> pendingNodes = new ArrayDeque<>();
+        appendThreadNodes(thread, roots, 1, maxDepth, limitPerLevel, childrenByParentId, pendingNodes);
+        while (!pendingNodes.isEmpty()) {
+            PendingThreadNode pending = pendingNodes.poll();
+            List<ReplyEntity> children = childrenByParentId.getOrDefault(pending.node().reply().getReplyId(),
+                    List.of());
+            appendThreadNodes(pending.node().children(), children, pending.depth() + 1, maxDepth, limitPerLevel,
+                    childrenByParentId, pendingNodes);
+        }
+        return thread;
+    }
+
+    private void appendThreadNodes(List<ReplyThreadDto> target, List<ReplyEntity> replies, int depth, int maxDepth,
+            int limitPerLevel, Map<Long, List<ReplyEntity>> childrenByParentId,
+            Deque<PendingThreadNode> pendingNodes) {
+        for (ReplyEntity reply : replies.subList(0, Math.min(replies.size(), limitPerLevel))) {
+            int childCount = childrenByParentId.getOrDefault(reply.getId(), List.of()).size();
+            boolean expandable = depth < maxDepth;
+            boolean hasMoreChildren = (expandable) ? childCount > limitPerLevel : childCount > 0;
+            ReplyThreadDto node = new ReplyThreadDto(reply.tooReplyDto(), hasMoreChildren, new ArrayList<>());
+            target.add(node);
+            if (expandable && childCount > 0) {
+                pendingNodes.add(new PendingThreadNode(node, depth));
+            }
+        }
+    }
+
+    // 경로가 채워진 댓글은 모든 하위 댓글을 경로 범위 한 번으로 가져온다. 경로를 채우기 전의 댓글은 깊이 단위로 모은 뒤 작성순으로 정렬한다.
+    private List<ReplyEntity> findDescendants(ReplyEntity reply) {
+        if (canUsePath(reply)) {
+            return this.replyRepository.findDescendantsByPostIdAndPathPrefix(reply.getPostId(),
+                    reply.getDescendantPathPrefix());
+        }
+        List<Long> subtreeIds = collectSubtreeIds(reply.getId());
+        List<ReplyEntity> descendants = new ArrayList<>();
+        for (List<Long> ids : chunk(subtreeIds.subList(1, subtreeIds.size()))) {
+            descendants.addAll(this.replyRepository.findAllById(ids));
+        }
+        descendants.sort(Comparator.comparing(ReplyEntity::getCreatedAt).thenComparing(ReplyEntity::getId));
+        return descendants;
+    }
+
+    // 경로를 채우기 전의 댓글은 상위 댓글을 하나씩 따라 올라간다. 삭제되어 끊긴 상위 댓글에서 멈춘다.
+    private List<ReplyEntity> findAncestorsByLevel(ReplyEntity reply) {
+        Deque<ReplyEntity> ancestors = new ArrayDeque<>();
+        Long superReplyId = reply.getSuperReplyId();
+        while (superReplyId != null) {
+            Optional<ReplyEntity> superReply = this.replyRepository.findById(superReplyId);
+            if (superReply.isEmpty()) {
+                break;
+            }
+            ancestors.addFirst(superReply.get());
+            superReplyId = superReply.get().getSuperReplyId();
+        }
+        return List.copyOf(ancestors);
+    }
+
+    // 하위 댓글의 경로는 상위 댓글의 경로 뒤에 상위 댓글 ID를 붙인 값이다. 상위 댓글의 경로가 아직 채워지지 않았다면 null 로 두고 백필 작업이 채운다.
+    @Nullable
+    private String resolvePath(long postId, @Nullable Long superReplyId) {
+        if (superReplyId == null) {
+            return "";
+        }
+        ReplyEntity superReply = getById(superReplyId);
+        if (!superReply.getPostId().equals(postId)) {
+            throw new ResourceNotFoundException(
+                    "상위 댓글이 해당 게시글에 없습니다. postId: " + postId + ", superReplyId: " + superReplyId);
+        }
+        String path = superReply.getDescendantPathPrefix();
+        if (path != null && path.length() > ReplyEntity.MAX_PATH_LENGTH) {
+            throw new InvalidInputException("더 이상 하위 댓글을 달 수 없는 깊이입니다. superReplyId: " + superReplyId);
+        }
+        return path;
+    }
+
+    // 경로로 하위 댓글을 모두 찾을 수 있다면 경로 범위로 나누어 지우고, 그렇지 않다면 깊이 단위로 모은 ID로 지운다.
+    // 깊이 단위로 지울 때는 가장 깊은 댓글부터 지워, 중간에 실패해도 남은 댓글이 다시 요청했을 때 찾을 수 있도록 연결된 채로 남긴다.
+    private void deleteDescendants(ReplyEntity reply) {
+        if (!canUsePath(reply)) {
+            List<Long> descendantIds = collectSubtreeIds(reply.getId());
+            List<Long> deepestFirst = new ArrayList<>(descendantIds.subList(1, descendantIds.size()));
+            Collections.reverse(deepestFirst);
+            for (List<Long> chunk : chunk(deepestFirst)) {
+                deleteChunkInTransaction(reply.getPostId(), () -> this.replyRepository.deleteAllByIdIn(chunk));
+            }
+            return;
+        }
+        String pathPrefix = reply.getDescendantPathPrefix();
+        int deletedCount;
+        do {
+            deletedCount = deleteChunkInTransaction(reply.getPostId(),
+                    () -> this.replyRepository.deleteChunkByPostIdAndPathStartingWith(reply.getPostId(), pathPrefix,
+                            DELETE_CHUNK_SIZE));
+        }
+        while (deletedCount == DELETE_CHUNK_SIZE);
+    }
+
+    // 백필 중에는 경로가 채워진 댓글 아래에 경로가 없는 하위 댓글이 있을 수 있다. 경로 범위로는 그런 댓글을 찾지 못하므로, 게시글에 경로가 없는
+    // 댓글이 하나도 남지 않았을 때만 경로를 사용한다.
+    private boolean canUsePath(ReplyEntity reply) {
+        return reply.getDescendantPathPrefix() != null
+                && !this.replyRepository.existsByPostIdAndPathIsNull(reply.getPostId());
+    }
+
+    // 묶음마다 트랜잭션을 나누어 잠금을 묶음 하나만큼만 잡는다. 지운 수만큼 게시글의 댓글 수도 같은 트랜잭션에서 빼므로 중간에 실패해도 댓글 수가 맞다.
+    private int deleteChunkInTransaction(long postId, IntSupplier chunkDeleter) {
+        Integer deletedCount = this.transactionTemplate.execute((status) -> {
+            int count = chunkDeleter.getAsInt();
+            if (count > 0) {
+                this.postService.addReplyCount(postId, -count);
+            }
+            return count;
+        });
+        return (deletedCount != null) ? deletedCount : 0;
+    }
+
+    // 깊이 단위로 하위 댓글 ID를 모은다. 쿼리 수는 댓글 수가 아닌 서브트리의 깊이에 비례하며, 한 깊이의 댓글이 많으면 IN 조건을 나누어 조회한다.
+    private List<Long> collectSubtreeIds(long replyId) {
+        List<Long> subtreeIds = new ArrayList<>();
+        List<Long> currentLevel = List.of(replyId);
+        while (!currentLevel.isEmpty()) {
+            subtreeIds.addAll(currentLevel);
+            List<Long> nextLevel = new ArrayList<>();
+            for (List<Long> superReplyIds : chunk(currentLevel)) {
+                nextLevel.addAll(this.replyRepository.findIdsBySuperReplyIdIn(superReplyIds));
+            }
+            currentLevel = nextLevel;
+        }
+        return subtreeIds;
+    }
+
+    private static List<List<Long>> chunk(List<Long> ids) {
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += DELETE_CHUNK_SIZE) {
+            chunks.add(ids.subList(from, Math.min(from + DELETE_CHUNK_SIZE, ids.size())));
+        }
+        return chunks;
+    }
+
     private void validateUpdatable(RequestUser requester, ReplyEntity entity) {
         if (!entity.getUserId().equals(requester.userId())) {
             throw new InsufficientPermissionException(
@@ -165,10 +612,19 @@ public class ReplyService {
 
     private void validatePostHasReply(long postId, ReplyEntity reply) {
         this.postService.validatePostById(postId);
+        validateReplyOfPost(postId, reply);
+    }
+
+    // 게시글이 있는지는 이미 확인했을 때 사용한다.
+    private void validateReplyOfPost(long postId, ReplyEntity reply) {
         if (!reply.getPostId().equals(postId)) {
             throw new ResourceNotFoundException(
                     "reply의 post와 postId가 일치하지 않습니다. postId: " + postId + ", replyId: " + reply.getId());
         }
     }
 
+    private record PendingThreadNode(ReplyThreadDto node, int depth) {
+
+    }
+
 }
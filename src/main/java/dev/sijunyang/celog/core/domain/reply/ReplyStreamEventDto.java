@@ -0,0 +1,15 @@
+package dev.sijunyang.celog.core.domain.reply;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * 댓글 스트림으로 전달하는 댓글 변경 내용입니다.
+ *
+ * @param type 변경 종류
+ * @param replyId 변경된 댓글 ID
+ * @param reply 변경된 뒤의 댓글, 삭제된 경우 null
+ * @author Sijun Yang
+ */
+public record ReplyStreamEventDto(ReplyStreamEventType type, Long replyId, @Nullable ReplyDto reply) {
+
+}
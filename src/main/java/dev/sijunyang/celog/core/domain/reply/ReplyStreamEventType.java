@@ -0,0 +1,25 @@
+package dev.sijunyang.celog.core.domain.reply;
+
+/**
+ * 댓글 스트림으로 전달하는 댓글 변경 종류입니다.
+ *
+ * @author Sijun Yang
+ */
+public enum ReplyStreamEventType {
+
+    /**
+     * 댓글이 생성되었습니다.
+     */
+    CREATED,
+
+    /**
+     * 댓글 내용이 수정되었습니다.
+     */
+    UPDATED,
+
+    /**
+     * 댓글과 그 하위 댓글이 삭제되었습니다.
+     */
+    DELETED
+
+}
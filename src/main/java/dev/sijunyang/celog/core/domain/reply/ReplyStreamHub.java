@@ -0,0 +1,294 @@
+package dev.sijunyang.celog.core.domain.reply;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.http.MediaType;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 게시글마다 댓글 스트림 구독자를 관리하고 메시지를 나누어 보내는 클래스입니다.
+ *
+ * <p>
+ * 연결은 서블릿 비동기 요청으로 유지하므로 대기 중인 연결이 스레드를 차지하지 않습니다. 메시지는 구독자마다 크기가
+ * {@link ReplyStreamProperties#bufferSize()}인 대기열에 넣기만 하고, 적은 수의 전송 스레드가 대기열에 메시지가 있는 구독자만 골라 보냅니다. 그래서
+ * 메시지를 발행하는 스레드는 네트워크에 막히지 않으며, 대기열이 넘칠 만큼 받지 못하는 구독자는 연결을 끊어 메모리를 제한합니다. 끊긴 클라이언트는 다시
+ * 연결한 뒤 댓글 목록을 조회하여 놓친 변경을 맞춥니다.
+ *
+ * <p>
+ * 연결이 조용히 끊긴 구독자는 주기적으로 보내는 빈 메시지가 실패할 때 정리합니다.
+ *
+ * <p>
+ * 전송 스레드는 수가 정해져 있고 메시지를 보내는 동안 네트워크에 막히므로, 받지 않는 클라이언트 몇 개가 모든 전송 스레드를 붙잡을 수 있습니다. 그래서
+ * 메시지 하나를 보내는 시간을 {@link ReplyStreamProperties#sendTimeout()}으로 제한합니다. 제한을 넘긴 전송은 주기적인 확인에서 전송 스레드를
+ * 인터럽트하여 돌려받고, 제한을 넘겨 끝난 전송도 느린 구독자로 보고 연결을 끊습니다. 인터럽트로 풀리지 않는 쓰기는 서블릿 컨테이너의 쓰기 제한
+ * 시간(Tomcat 의 connection-timeout)이 지나면 실패합니다.
+ *
+ * <p>
+ * 구독자와 발행은 모두 이 인스턴스의 메모리 안에서만 이어집니다. 애플리케이션을 여러 인스턴스로 실행하면 다른 인스턴스에서 일어난 댓글 변경은 이
+ * 인스턴스의 구독자에게 전달되지 않으므로, 그때는 Redis Pub/Sub 같은 공유 메시지 브로커로 변경을 모든 인스턴스에 전달해야 합니다.
+ *
+ * @author Sijun Yang
+ */
+@Component
+public class ReplyStreamHub {
+
+    private static final String EVENT_NAME = "reply";
+
+    private final Map<Long, Set<Subscriber>> subscribersByPostId = new ConcurrentHashMap<>();
+
+    private final ReplyStreamProperties properties;
+
+    private final ExecutorService senderExecutor;
+
+    private final LongSupplier nanoClock;
+
+    public ReplyStreamHub(ReplyStreamProperties properties) {
+        this(properties, Executors.newFixedThreadPool(properties.senderThreads(),
+                new CustomizableThreadFactory("reply-stream-")), System::nanoTime);
+    }
+
+    ReplyStreamHub(ReplyStreamProperties properties, ExecutorService senderExecutor, LongSupplier nanoClock) {
+        this.properties = properties;
+        this.senderExecutor = senderExecutor;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * 게시글의 댓글 스트림을 구독합니다.
+     * @param postId 구독할 게시글 ID
+     * @return 응답으로 반환할 연결
+     */
+    public SseEmitter subscribe(long postId) {
+        SseEmitter emitter = new SseEmitter(this.properties.timeout().toMillis());
+        Subscriber subscriber = new Subscriber(postId, emitter, this.properties.bufferSize());
+        this.subscribersByPostId.compute(postId, (key, subscribers) -> {
+            Set<Subscriber> newSubscribers = (subscribers != null) ? subscribers : ConcurrentHashMap.newKeySet();
+            newSubscribers.add(subscriber);
+            return newSubscribers;
+        });
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onError((ex) -> unsubscribe(subscriber));
+        emitter.onTimeout(emitter::complete);
+        return emitter;
+    }
+
+    /**
+     * 게시글을 구독 중인 모든 구독자에게 메시지를 보냅니다. 대기열에 넣기만 하므로 바로 반환됩니다.
+     * @param postId 메시지를 보낼 게시글 ID
+     * @param payload JSON 으로 보낼 메시지
+     */
+    public void publish(long postId, Object payload) {
+        Set<Subscriber> subscribers = this.subscribersByPostId.get(postId);
+        if (subscribers == null) {
+            return;
+        }
+        StreamMessage message = new StreamMessage(payload);
+        subscribers.forEach((subscriber) -> offer(subscriber, message));
+    }
+
+    /**
+     * 게시글을 구독 중인 구독자가 있는지 확인합니다. 구독자가 없다면 보낼 메시지를 만들지 않기 위해 사용합니다.
+     * @param postId 확인할 게시글 ID
+     * @return 구독자가 있다면 true
+     */
+    public boolean hasSubscribers(long postId) {
+        return this.subscribersByPostId.containsKey(postId);
+    }
+
+    /**
+     * 게시글의 모든 구독을 끝냅니다. 게시글이 삭제되었을 때 사용합니다.
+     * @param postId 구독을 끝낼 게시글 ID
+     */
+    public void completeAll(long postId) {
+        Set<Subscriber> subscribers = this.subscribersByPostId.remove(postId);
+        if (subscribers != null) {
+            subscribers.forEach(this::close);
+        }
+    }
+
+    /**
+     * 모든 구독자에게 빈 메시지를 보냅니다. 프록시가 유휴 연결을 끊지 않게 하고, 보내기에 실패한 연결을 정리합니다.
+     */
+    @Scheduled(fixedDelayString = "${celog.reply.stream.heartbeat-interval:PT15S}")
+    public void sendHeartbeats() {
+        this.subscribersByPostId.values()
+            .forEach((subscribers) -> subscribers.forEach((subscriber) -> offer(subscriber, StreamMessage.HEARTBEAT)));
+    }
+
+    /**
+     * 메시지 하나를 보내는 시간이 제한을 넘긴 구독자의 연결을 끊고, 그 구독자에게 막혀 있는 전송 스레드를 인터럽트하여 다른 구독자에게 돌려줍니다.
+     */
+    @Scheduled(fixedDelayString = "${celog.reply.stream.send-timeout:PT5S}")
+    public void evictStalledSubscribers() {
+        this.subscribersByPostId.values()
+            .forEach((subscribers) -> subscribers.stream()
+                .filter(this::isWriteStalled)
+                .forEach(this::evictStalled));
+    }
+
+    // 정상 종료가 열린 연결을 기다리지 않도록 모든 구독을 끝낸다.
+    @PreDestroy
+    public void shutdown() {
+        this.subscribersByPostId.keySet().forEach(this::completeAll);
+        this.senderExecutor.shutdown();
+    }
+
+    int getSubscriberCount(long postId) {
+        Set<Subscriber> subscribers = this.subscribersByPostId.get(postId);
+        return (subscribers != null) ? subscribers.size() : 0;
+    }
+
+    private void offer(Subscriber subscriber, StreamMessage message) {
+        if (!subscriber.queue.offer(message)) {
+            // 대기열이 넘칠 만큼 받지 못하는 구독자는 연결을 끊는다.
+            unsubscribe(subscriber);
+            close(subscriber);
+            return;
+        }
+        scheduleSend(subscriber);
+    }
+
+    // 구독자마다 전송 작업이 하나만 실행되도록 하여 메시지 순서를 지킨다.
+    private void scheduleSend(Subscriber subscriber) {
+        if (subscriber.sending.compareAndSet(false, true)) {
+            this.senderExecutor.execute(() -> send(subscriber));
+        }
+    }
+
+    private void send(Subscriber subscriber) {
+        try {
+            StreamMessage message;
+            while (!subscriber.closed.get() && (message = subscriber.queue.poll()) != null) {
+                write(subscriber, message);
+            }
+            if (subscriber.closed.get()) {
+                subscriber.emitter.complete();
+                return;
+            }
+        }
+        catch (IOException | IllegalStateException ex) {
+            // 연결이 끊겼거나 이미 끝난 구독이다. 오류 처리는 서블릿 컨테이너가 연결에 알린다.
+            unsubscribe(subscriber);
+            return;
+        }
+        subscriber.sending.set(false);
+        // 전송을 마치는 사이에 들어온 메시지나 종료 요청이 있다면 다시 처리한다.
+        if (!subscriber.queue.isEmpty() || subscriber.closed.get()) {
+            scheduleSend(subscriber);
+        }
+    }
+
+    private void write(Subscriber subscriber, StreamMessage message) throws IOException {
+        synchronized (subscriber) {
+            subscriber.writer = Thread.currentThread();
+            subscriber.writeStartedAt = this.nanoClock.getAsLong();
+        }
+        try {
+            subscriber.emitter.send(message.toEvent());
+        }
+        finally {
+            synchronized (subscriber) {
+                subscriber.writer = null;
+                // 쓰기가 끝난 뒤 도착한 인터럽트가 다음 구독자의 전송을 방해하지 않도록 지운다.
+                Thread.interrupted();
+            }
+        }
+        if (exceedsSendTimeout(subscriber.writeStartedAt)) {
+            // 보내기는 했지만 제한보다 오래 걸린 구독자도 느린 구독자로 보고 연결을 끊는다.
+            unsubscribe(subscriber);
+            close(subscriber);
+        }
+    }
+
+    private boolean isWriteStalled(Subscriber subscriber) {
+        synchronized (subscriber) {
+            return subscriber.writer != null && exceedsSendTimeout(subscriber.writeStartedAt);
+        }
+    }
+
+    private boolean exceedsSendTimeout(long writeStartedAt) {
+        return this.nanoClock.getAsLong() - writeStartedAt > this.properties.sendTimeout().toNanos();
+    }
+
+    // 인터럽트는 쓰기가 끝났는지 확인한 잠금 안에서 보내, 이미 다른 구독자에게 보내고 있는 스레드를 인터럽트하지 않는다.
+    private void evictStalled(Subscriber subscriber) {
+        unsubscribe(subscriber);
+        subscriber.closed.set(true);
+        subscriber.queue.clear();
+        synchronized (subscriber) {
+            if (subscriber.writer != null) {
+                subscriber.writer.interrupt();
+            }
+        }
+    }
+
+    // 연결을 끝내는 동안 다른 메시지를 보내고 있을 수 있으므로, 발행하는 스레드에서 바로 끝내지 않고 전송 스레드에서 끝낸다.
+    private void close(Subscriber subscriber) {
+        subscriber.closed.set(true);
+        subscriber.queue.clear();
+        scheduleSend(subscriber);
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        this.subscribersByPostId.computeIfPresent(subscriber.postId, (key, subscribers) -> {
+            subscribers.remove(subscriber);
+            return (subscribers.isEmpty()) ? null : subscribers;
+        });
+    }
+
+    private static final class Subscriber {
+
+        private final long postId;
+
+        private final SseEmitter emitter;
+
+        private final BlockingQueue<StreamMessage> queue;
+
+        private final AtomicBoolean sending = new AtomicBoolean();
+
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        // 보내고 있는 스레드와 보내기 시작한 시각, 구독자를 잠근 채로 읽고 쓴다.
+        @Nullable
+        private Thread writer;
+
+        private long writeStartedAt;
+
+        private Subscriber(long postId, SseEmitter emitter, int bufferSize) {
+            this.postId = postId;
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+    }
+
+    // 빈 메시지는 클라이언트의 이벤트로 전달되지 않는 주석으로 보낸다.
+    private record StreamMessage(@Nullable Object payload) {
+
+        private static final StreamMessage HEARTBEAT = new StreamMessage(null);
+
+        private SseEmitter.SseEventBuilder toEvent() {
+            if (this.payload == null) {
+                return SseEmitter.event().comment("heartbeat");
+            }
+            return SseEmitter.event().name(EVENT_NAME).data(this.payload, MediaType.APPLICATION_JSON);
+        }
+
+    }
+
+}
@@ -0,0 +1,23 @@
+package dev.sijunyang.celog.core.domain.reply;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 게시글의 댓글 변경을 실시간으로 전달하는 스트림 설정입니다.
+ *
+ * @param bufferSize 구독자마다 보내지 못하고 쌓아둘 수 있는 최대 메시지 수, 넘치면 느린 구독자로 보고 연결을 끊는다.
+ * @param heartbeatInterval 연결이 살아있는지 확인하는 빈 메시지를 보내는 주기
+ * @param timeout 연결을 유지하는 최대 시간, 지나면 연결을 끊고 클라이언트가 다시 연결한다.
+ * @param senderThreads 구독자에게 메시지를 보내는 스레드 수
+ * @param sendTimeout 메시지 하나를 보내는 데 허용하는 최대 시간, 넘기면 느린 구독자로 보고 연결을 끊는다.
+ * @author Sijun Yang
+ */
+@ConfigurationProperties(prefix = "celog.reply.stream")
+public record ReplyStreamProperties(@DefaultValue("64") int bufferSize,
+        @DefaultValue("PT15S") Duration heartbeatInterval, @DefaultValue("PT30M") Duration timeout,
+        @DefaultValue("8") int senderThreads, @DefaultValue("PT5S") Duration sendTimeout) {
+
+}
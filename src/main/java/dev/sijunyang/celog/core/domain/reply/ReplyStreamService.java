@@ -0,0 +1,87 @@
+package dev.sijunyang.celog.core.domain.reply;
+
+import dev.sijunyang.celog.core.domain.post.PostDeletedEvent;
+import dev.sijunyang.celog.core.domain.post.PostService;
+import dev.sijunyang.celog.core.domain.post.PostUpdatedEvent;
+import dev.sijunyang.celog.core.domain.user.RequestUser;
+import dev.sijunyang.celog.core.global.enums.PublicationStatus;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 게시글에 달린 댓글의 생성, 수정, 삭제를 구독 중인 클라이언트에게 바로 전달하는 서비스 클래스입니다. 클라이언트가 댓글 목록을 반복해서 조회하지 않아도
+ * 됩니다. 변경은 트랜잭션이 커밋된 뒤에 {@link ReplyStreamHub}로 보냅니다.
+ *
+ * <p>
+ * 접근 권한은 구독할 때 확인합니다. 게시글이 공개 상태에서 벗어나면 그 게시글의 구독을 모두 끝내고, 클라이언트가 다시 구독할 때 권한을 다시 확인합니다.
+ *
+ * @author Sijun Yang
+ */
+@Service
+@Validated
+@RequiredArgsConstructor
+public class ReplyStreamService {
+
+    private final ReplyStreamHub replyStreamHub;
+
+    private final ReplyRepository replyRepository;
+
+    private final PostService postService;
+
+    /**
+     * 게시글의 댓글 변경을 구독합니다. 구독하려는 게시글에 접근 가능해야 합니다.
+     * @param requester 구독하려는 사용자 정보
+     * @param postId 구독할 게시글 ID
+     * @return 댓글 변경을 보낼 연결
+     */
+    public SseEmitter subscribe(@NotNull @Valid RequestUser requester, long postId) {
+        this.postService.validateUserPostAccess(requester, postId);
+        return this.replyStreamHub.subscribe(postId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleReplyCreated(ReplyCreatedEvent event) {
+        publishReply(ReplyStreamEventType.CREATED, event.replyId(), event.postId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleReplyUpdated(ReplyUpdatedEvent event) {
+        publishReply(ReplyStreamEventType.UPDATED, event.replyId(), event.postId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleReplyDeleted(ReplyDeletedEvent event) {
+        this.replyStreamHub.publish(event.postId(),
+                new ReplyStreamEventDto(ReplyStreamEventType.DELETED, event.replyId(), null));
+    }
+
+    // 공개되지 않은 게시글은 작성자와 어드민만 볼 수 있으므로, 더 이상 볼 수 없는 구독자에게 댓글이 계속 전달되지 않도록 구독을 끝낸다.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handlePostUpdated(PostUpdatedEvent event) {
+        if (event.readStatus() != PublicationStatus.PUBLIC_PUBLISHED) {
+            this.replyStreamHub.completeAll(event.postId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handlePostDeleted(PostDeletedEvent event) {
+        this.replyStreamHub.completeAll(event.postId());
+    }
+
+    // 구독자가 없는 게시글은 댓글을 다시 읽지 않는다. 구독자가 여럿이어도 댓글은 한 번만 읽는다.
+    private void publishReply(ReplyStreamEventType type, long replyId, long postId) {
+        if (!this.replyStreamHub.hasSubscribers(postId)) {
+            return;
+        }
+        this.replyRepository.findById(replyId)
+            .ifPresent((reply) -> this.replyStreamHub.publish(postId,
+                    new ReplyStreamEventDto(type, replyId, reply.tooReplyDto())));
+    }
+
+}
@@ -0,0 +1,15 @@
+package dev.sijunyang.celog.core.domain.reply;
+
+import java.util.List;
+
+/**
+ * 댓글과 그 하위 댓글을 트리 형태로 담는 DTO입니다.
+ *
+ * @param reply 댓글 정보
+ * @param hasMoreChildren 최대 깊이나 단계별 개수 제한 때문에 생략된 하위 댓글이 있다면 true
+ * @param children 하위 댓글 트리 리스트
+ * @author Sijun Yang
+ */
+public record ReplyThreadDto(ReplyDto reply, boolean hasMoreChildren, List<ReplyThreadDto> children) {
+
+}
@@ -0,0 +1,18 @@
+package dev.sijunyang.celog.core.domain.revision;
+
+import java.time.LocalDateTime;
+
+/**
+ * 복원된 수정 이력 하나를 나타내는 DTO입니다.
+ *
+ * @param postId 게시글 ID
+ * @param revisionNumber 수정 이력 번호
+ * @param title 수정 이력 시점의 제목
+ * @param content 수정 이력 시점의 내용
+ * @param modifiedAt 게시글이 이 상태로 수정된 시간
+ * @author Sijun Yang
+ */
+public record PostRevisionDto(Long postId, int revisionNumber, String title, String content,
+        LocalDateTime modifiedAt) {
+
+}
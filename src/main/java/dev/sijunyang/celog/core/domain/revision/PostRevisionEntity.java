@@ -0,0 +1,116 @@
+package dev.sijunyang.celog.core.domain.revision;
+
+import java.time.LocalDateTime;
+
+import dev.sijunyang.celog.core.domain.post.PostEntity;
+import dev.sijunyang.celog.core.global.jpa.BaseCreateTimeEntity;
+import dev.sijunyang.celog.core.global.jpa.IdGenerators;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.validation.constraints.NotNull;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * {@link PostEntity}의 수정 이력 하나를 저장하는 엔티티 클래스입니다.
+ *
+ * <p>
+ * 스냅샷 수정 이력은 내용 전체를, 나머지 수정 이력은 바로 이전 수정 이력과의 차이({@link RevisionDelta})만 저장합니다.
+ *
+ * @author Sijun Yang
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity(name = "post_revision")
+// 게시글의 수정 이력을 번호 범위로 조회하며, 같은 번호의 수정 이력이 중복으로 저장되지 않도록 한다.
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_post_revision_post_id_revision_number",
+        columnNames = { "post_id", "revision_number" }))
+public class PostRevisionEntity extends BaseCreateTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = IdGenerators.POST_REVISION)
+    @TableGenerator(name = IdGenerators.POST_REVISION, table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.SEGMENT_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = IdGenerators.POST_REVISION, allocationSize = IdGenerators.ALLOCATION_SIZE)
+    private Long id;
+
+    /**
+     * 수정 이력이 속한 게시글의 고유 식별자입니다.
+     */
+    @NotNull
+    private Long postId;
+
+    /**
+     * 게시글 안에서의 수정 이력 번호입니다. 1부터 시작합니다.
+     */
+    private int revisionNumber;
+
+    /**
+     * 수정 이력 시점의 제목입니다. 제목은 짧으므로 항상 전체를 저장합니다.
+     */
+    @NotNull
+    private String title;
+
+    /**
+     * 내용 전체를 저장한 수정 이력인지 여부입니다.
+     */
+    private boolean snapshot;
+
+    /**
+     * 이전 수정 이력과 같은 내용 앞부분의 길이입니다. 스냅샷이면 0 입니다.
+     */
+    private int prefixLength;
+
+    /**
+     * 이전 수정 이력과 같은 내용 뒷부분의 길이입니다. 스냅샷이면 0 입니다.
+     */
+    private int suffixLength;
+
+    /**
+     * 스냅샷이면 내용 전체, 아니라면 이전 수정 이력에서 바뀐 부분입니다.
+     */
+    @NotNull
+    @Column(columnDefinition = "MEDIUMTEXT")
+    private String body;
+
+    /**
+     * 수정 이력을 만든 시점의 게시글 수정 시간입니다. 같은 수정을 두 번 기록하지 않기 위해 사용합니다.
+     */
+    @NotNull
+    private LocalDateTime postModifiedAt;
+
+    @Builder
+    public PostRevisionEntity(Long id, Long postId, int revisionNumber, String title, boolean snapshot,
+            int prefixLength, int suffixLength, String body, LocalDateTime postModifiedAt) {
+        this.id = id;
+        this.postId = postId;
+        this.revisionNumber = revisionNumber;
+        this.title = title;
+        this.snapshot = snapshot;
+        this.prefixLength = prefixLength;
+        this.suffixLength = suffixLength;
+        this.body = body;
+        this.postModifiedAt = postModifiedAt;
+    }
+
+    /**
+     * 이 수정 이력 시점의 내용을 복원합니다.
+     * @param previousContent 바로 이전 수정 이력의 내용, 스냅샷이면 사용하지 않음
+     * @return 이 수정 이력 시점의 내용
+     */
+    public String restoreContent(String previousContent) {
+        if (this.snapshot) {
+            return this.body;
+        }
+        return new RevisionDelta(this.prefixLength, this.suffixLength, this.body).applyTo(previousContent);
+    }
+
+}
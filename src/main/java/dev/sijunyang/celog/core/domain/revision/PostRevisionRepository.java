@@ -0,0 +1,38 @@
+package dev.sijunyang.celog.core.domain.revision;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * {@link PostRevisionEntity}를 처리하는 JpaRepository입니다.
+ *
+ * @author Sijun Yang
+ */
+public interface PostRevisionRepository extends JpaRepository<PostRevisionEntity, Long> {
+
+    Optional<PostRevisionEntity> findTopByPostIdOrderByRevisionNumberDesc(Long postId);
+
+    // 수정 이력을 복원하는 데 필요한 스냅샷부터 대상 수정 이력까지만 읽는다.
+    List<PostRevisionEntity> findAllByPostIdAndRevisionNumberBetweenOrderByRevisionNumberAsc(Long postId,
+            int fromRevisionNumber, int toRevisionNumber);
+
+    // 목록에서는 용량이 큰 body 컬럼을 읽지 않는다.
+    @Query("""
+            SELECT new dev.sijunyang.celog.core.domain.revision.PostRevisionSummaryDto(r.revisionNumber, r.title,
+                r.postModifiedAt)
+            FROM post_revision r
+            WHERE r.postId = :postId
+            ORDER BY r.revisionNumber DESC
+            """)
+    List<PostRevisionSummaryDto> findAllSummariesByPostId(@Param("postId") Long postId);
+
+    @Modifying
+    @Query("DELETE FROM post_revision r WHERE r.postId = :postId")
+    int deleteAllByPostId(@Param("postId") Long postId);
+
+}
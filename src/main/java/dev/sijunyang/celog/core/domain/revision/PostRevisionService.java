@@ -0,0 +1,196 @@
+package dev.sijunyang.celog.core.domain.revision;
+
+import java.util.List;
+import java.util.Optional;
+
+import dev.sijunyang.celog.core.domain.post.PostCreatedEvent;
+import dev.sijunyang.celog.core.domain.post.PostDeletedEvent;
+import dev.sijunyang.celog.core.domain.post.PostEntity;
+import dev.sijunyang.celog.core.domain.post.PostRepository;
+import dev.sijunyang.celog.core.domain.post.PostService;
+import dev.sijunyang.celog.core.domain.post.PostUpdatedEvent;
+import dev.sijunyang.celog.core.domain.user.RequestUser;
+import dev.sijunyang.celog.core.global.enums.Role;
+import dev.sijunyang.celog.core.global.error.nextVer.InsufficientPermissionException;
+import dev.sijunyang.celog.core.global.error.nextVer.ResourceNotFoundException;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * 게시글 수정 이력을 기록하고 조회하는 서비스 클래스입니다.
+ *
+ * <p>
+ * 수정 이력은 게시글이 생성/수정된 트랜잭션이 커밋된 뒤 요청 스레드와 분리된 스레드에서 기록하므로, 게시글 수정 요청의 응답 시간에 영향을 주지 않습니다.
+ * 수정 이력은 {@value #SNAPSHOT_INTERVAL}개마다 내용 전체를 스냅샷으로 저장하고, 그 사이에는 바로 이전 수정 이력과의 차이만 저장합니다. 따라서
+ * 하나의 수정 이력을 복원할 때는 가장 가까운 스냅샷부터 최대 {@value #SNAPSHOT_INTERVAL}개의 행만 읽습니다.
+ *
+ * @author Sijun Yang
+ */
+@Service
+@Validated
+@RequiredArgsConstructor
+public class PostRevisionService {
+
+    static final int SNAPSHOT_INTERVAL = 10;
+
+    // 같은 게시글의 수정 이력이 동시에 기록되어 번호가 겹치면 최신 수정 이력을 다시 읽어 재시도한다.
+    private static final int MAX_RECORD_ATTEMPTS = 3;
+
+    private final PostRevisionRepository postRevisionRepository;
+
+    private final PostRepository postRepository;
+
+    private final PostService postService;
+
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 게시글의 수정 이력 목록을 최신순으로 조회합니다. 게시글을 소유한 사용자나 어드민만 조회할 수 있습니다.
+     * @param requester 요청한 사용자 정보
+     * @param postId 게시글 ID
+     * @return 내용을 제외한 수정 이력 리스트
+     */
+    @Transactional(readOnly = true)
+    public List<PostRevisionSummaryDto> getRevisions(@NotNull @Valid RequestUser requester, long postId) {
+        validateUserIsOwnerOrAdmin(requester, postId);
+        return this.postRevisionRepository.findAllSummariesByPostId(postId);
+    }
+
+    /**
+     * 게시글의 특정 수정 이력을 복원해서 조회합니다. 게시글을 소유한 사용자나 어드민만 조회할 수 있습니다.
+     * @param requester 요청한 사용자 정보
+     * @param postId 게시글 ID
+     * @param revisionNumber 조회할 수정 이력 번호
+     * @return 복원된 수정 이력
+     */
+    @Transactional(readOnly = true)
+    public PostRevisionDto getRevision(@NotNull @Valid RequestUser requester, long postId, int revisionNumber) {
+        validateUserIsOwnerOrAdmin(requester, postId);
+        List<PostRevisionEntity> chain = findChain(postId, revisionNumber);
+        PostRevisionEntity revision = chain.get(chain.size() - 1);
+        return new PostRevisionDto(postId, revisionNumber, revision.getTitle(), restoreContent(chain),
+                revision.getPostModifiedAt());
+    }
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handlePostCreated(PostCreatedEvent event) {
+        recordRevision(event.postId());
+    }
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handlePostUpdated(PostUpdatedEvent event) {
+        recordRevision(event.postId());
+    }
+
+    // 게시글이 삭제되는 트랜잭션 안에서 함께 삭제한다. 기록하는 트랜잭션과 같은 순서로 잠그도록 게시글 행을 먼저 삭제한다. 기록이 먼저 게시글을
+    // 읽었다면 그 커밋을 기다린 뒤 새 수정 이력까지 삭제하고, 삭제가 먼저라면 기록하는 쪽이 게시글을 찾지 못해 건너뛴다.
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void handlePostDeleted(PostDeletedEvent event) {
+        this.transactionTemplate.executeWithoutResult((status) -> {
+            this.postRepository.flush();
+            this.postRevisionRepository.deleteAllByPostId(event.postId());
+        });
+    }
+
+    private void recordRevision(Long postId) {
+        if (postId == null) {
+            return;
+        }
+        for (int attempt = 1;; attempt++) {
+            try {
+                // 게시글을 공유 잠금으로 읽어, 수정 이력을 저장하는 동안 게시글이 삭제되어 수정 이력만 남는 일이 없게 한다.
+                this.transactionTemplate
+                    .executeWithoutResult((status) -> this.postRepository.findWithShareLockById(postId)
+                        .ifPresent(this::saveNextRevision));
+                return;
+            }
+            catch (DataIntegrityViolationException ex) {
+                if (attempt >= MAX_RECORD_ATTEMPTS) {
+                    throw ex;
+                }
+            }
+        }
+    }
+
+    private void saveNextRevision(PostEntity post) {
+        Optional<PostRevisionEntity> latest = this.postRevisionRepository
+            .findTopByPostIdOrderByRevisionNumberDesc(post.getId());
+        // 이벤트가 늦게 도착해 이미 같은 상태가 기록되었다면 건너뛴다.
+        if (latest.isPresent() && latest.get().getPostModifiedAt().equals(post.getModifiedAt())) {
+            return;
+        }
+
+        String content = post.getContent();
+        int revisionNumber = latest.map((revision) -> revision.getRevisionNumber() + 1).orElse(1);
+        PostRevisionEntity.PostRevisionEntityBuilder builder = PostRevisionEntity.builder()
+            .postId(post.getId())
+            .revisionNumber(revisionNumber)
+            .title(post.getTitle())
+            .postModifiedAt(post.getModifiedAt());
+        if (latest.isEmpty()) {
+            this.postRevisionRepository.saveAndFlush(builder.snapshot(true).body(content).build());
+            return;
+        }
+
+        String previousContent = restoreContent(findChain(post.getId(), latest.get().getRevisionNumber()));
+        if (previousContent.equals(content) && latest.get().getTitle().equals(post.getTitle())) {
+            return;
+        }
+        if (isSnapshotNumber(revisionNumber)) {
+            builder.snapshot(true).body(content);
+        }
+        else {
+            RevisionDelta delta = RevisionDelta.between(previousContent, content);
+            builder.prefixLength(delta.prefixLength())
+                .suffixLength(delta.suffixLength())
+                .body(delta.insertedText());
+        }
+        this.postRevisionRepository.saveAndFlush(builder.build());
+    }
+
+    // 대상 수정 이력과 가장 가까운 이전 스냅샷부터 대상 수정 이력까지를 번호 순서로 조회한다.
+    private List<PostRevisionEntity> findChain(long postId, int revisionNumber) {
+        int snapshotNumber = revisionNumber - (revisionNumber - 1) % SNAPSHOT_INTERVAL;
+        List<PostRevisionEntity> chain = this.postRevisionRepository
+            .findAllByPostIdAndRevisionNumberBetweenOrderByRevisionNumberAsc(postId, snapshotNumber, revisionNumber);
+        if (revisionNumber < 1 || chain.isEmpty()
+                || chain.get(chain.size() - 1).getRevisionNumber() != revisionNumber) {
+            throw new ResourceNotFoundException(
+                    "수정 이력을 찾을 수 없습니다. postId: " + postId + ", revisionNumber: " + revisionNumber);
+        }
+        return chain;
+    }
+
+    private String restoreContent(List<PostRevisionEntity> chain) {
+        String content = null;
+        for (PostRevisionEntity revision : chain) {
+            content = revision.restoreContent(content);
+        }
+        return content;
+    }
+
+    private boolean isSnapshotNumber(int revisionNumber) {
+        return (revisionNumber - 1) % SNAPSHOT_INTERVAL == 0;
+    }
+
+    private void validateUserIsOwnerOrAdmin(RequestUser requester, long postId) {
+        Long ownerId = this.postService.getPostVersion(requester, postId).userId();
+        if (requester.userId() != ownerId && !requester.userRole().equals(Role.ADMIN)) {
+            throw new InsufficientPermissionException("게시글 수정 이력은 어드민이나 본인만 확인 가능합니다. requestUserId: "
+                    + requester.userId() + ", postId: " + postId);
+        }
+    }
+
+}
@@ -0,0 +1,15 @@
+package dev.sijunyang.celog.core.domain.revision;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내용 없이 수정 이력 목록에 필요한 정보만 담는 DTO입니다.
+ *
+ * @param revisionNumber 수정 이력 번호
+ * @param title 수정 이력 시점의 제목
+ * @param modifiedAt 게시글이 이 상태로 수정된 시간
+ * @author Sijun Yang
+ */
+public record PostRevisionSummaryDto(int revisionNumber, String title, LocalDateTime modifiedAt) {
+
+}
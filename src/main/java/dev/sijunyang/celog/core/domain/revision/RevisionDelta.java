@@ -0,0 +1,39 @@
+package dev.sijunyang.celog.core.domain.revision;
+
+/**
+ * 이전 내용과 현재 내용의 차이를 나타내는 레코드입니다.
+ *
+ * <p>
+ * 두 내용의 공통 앞부분과 공통 뒷부분의 길이, 그리고 그 사이에서 바뀐 부분만 저장합니다. 글 수정은 대부분 한 곳에 모여 있으므로 전체 내용을 저장하는 것보다
+ * 훨씬 작습니다.
+ *
+ * @param prefixLength 이전 내용과 같은 앞부분의 길이
+ * @param suffixLength 이전 내용과 같은 뒷부분의 길이
+ * @param insertedText 앞부분과 뒷부분 사이에 들어갈 현재 내용
+ * @author Sijun Yang
+ */
+record RevisionDelta(int prefixLength, int suffixLength, String insertedText) {
+
+    static RevisionDelta between(String previous, String current) {
+        int maxPrefixLength = Math.min(previous.length(), current.length());
+        int prefixLength = 0;
+        while (prefixLength < maxPrefixLength && previous.charAt(prefixLength) == current.charAt(prefixLength)) {
+            prefixLength++;
+        }
+        // 앞부분과 겹치지 않는 범위에서 공통 뒷부분을 찾는다.
+        int maxSuffixLength = maxPrefixLength - prefixLength;
+        int suffixLength = 0;
+        while (suffixLength < maxSuffixLength && previous.charAt(previous.length() - 1 - suffixLength) == current
+            .charAt(current.length() - 1 - suffixLength)) {
+            suffixLength++;
+        }
+        String insertedText = current.substring(prefixLength, current.length() - suffixLength);
+        return new RevisionDelta(prefixLength, suffixLength, insertedText);
+    }
+
+    String applyTo(String previous) {
+        return previous.substring(0, this.prefixLength) + this.insertedText
+                + previous.substring(previous.length() - this.suffixLength);
+    }
+
+}
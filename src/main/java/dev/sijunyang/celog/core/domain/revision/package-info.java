@@ -0,0 +1,4 @@
+/**
+ * 글 수정 이력 기능의 중심이 되는 패키지입니다.
+ */
+package dev.sijunyang.celog.core.domain.revision;
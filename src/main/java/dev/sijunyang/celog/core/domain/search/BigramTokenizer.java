@@ -0,0 +1,62 @@
+package dev.sijunyang.celog.core.domain.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 검색어와 게시글을 색인어(token)로 나누는 클래스입니다.
+ *
+ * <p>
+ * 띄어쓰기만으로 단어를 나누기 어려운 한글(그리고 한자, 가나)은 연속한 두 글자씩 겹쳐서(bigram) 나누고, 영문과 숫자는 소문자로 바꾼 단어 단위로
+ * 나눕니다. 예를 들어 "스프링부트 Spring" 은 "스프", "프링", "링부", "부트", "spring" 으로 나뉩니다. 한 글자로 된 한글 단어는 그대로
+ * 사용합니다.
+ *
+ * @author Sijun Yang
+ */
+final class BigramTokenizer {
+
+    private BigramTokenizer() {
+        // 인스턴스 생성을 방지하기 위한 private 생성자
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        String normalized = text.toLowerCase(Locale.ROOT);
+        int runStart = -1;
+        boolean runIsCjk = false;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean inWord = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            boolean isCjk = inWord && isCjk(normalized.charAt(i));
+            if (runStart >= 0 && (!inWord || isCjk != runIsCjk)) {
+                addRunTokens(tokens, normalized.substring(runStart, i), runIsCjk);
+                runStart = -1;
+            }
+            if (inWord && runStart < 0) {
+                runStart = i;
+                runIsCjk = isCjk;
+            }
+        }
+        return tokens;
+    }
+
+    private static void addRunTokens(List<String> tokens, String run, boolean cjk) {
+        if (!cjk || run.length() == 1) {
+            tokens.add(run);
+            return;
+        }
+        for (int i = 0; i < run.length() - 1; i++) {
+            tokens.add(run.substring(i, i + 2));
+        }
+    }
+
+    private static boolean isCjk(char ch) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(ch);
+        return script == Character.UnicodeScript.HANGUL || script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA || script == Character.UnicodeScript.KATAKANA;
+    }
+
+}
@@ -0,0 +1,225 @@
+package dev.sijunyang.celog.core.domain.search;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongSupplier;
+
+import dev.sijunyang.celog.core.domain.post.PostDto;
+import dev.sijunyang.celog.core.domain.post.PostSummaryDto;
+
+/**
+ * 공개된 게시글의 역색인(inverted index)을 메모리에 보관하는 클래스입니다.
+ *
+ * <p>
+ * 색인어마다 해당 색인어가 등장하는 게시글 ID와 등장 횟수를 저장하고, 검색 시 tf-idf 점수가 높은 순서로 게시글을 정렬합니다. 제목에 등장한 색인어는
+ * 본문보다 {@value #TITLE_WEIGHT}배 높은 가중치를 가집니다. 검색 결과의 댓글 수도 색인에 함께 보관하므로 검색할 때 데이터베이스를 조회하지 않습니다.
+ * 읽기는 동시에 수행될 수 있으며, 색인 변경은 쓰기 잠금 안에서 수행됩니다.
+ *
+ * <p>
+ * 삭제된 게시글은 삭제 시각과 함께 기록해 두고, 삭제 전에 읽은 게시글로 늦게 도착한 색인 요청을 무시합니다. 게시글 ID는 다시 사용되지 않으므로 기록은
+ * {@link #DELETED_POST_RETENTION} 동안만 보관합니다.
+ *
+ * @author Sijun Yang
+ */
+class PostSearchIndex {
+
+    static final int TITLE_WEIGHT = 3;
+
+    // 삭제 전에 시작된 색인 요청이 끝나기에 충분한 시간
+    static final Duration DELETED_POST_RETENTION = Duration.ofHours(1);
+
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+
+    private final Map<Long, IndexedPost> indexedPosts = new HashMap<>();
+
+    // 게시글 ID마다 삭제된 시각(nanoClock 기준)
+    private final Map<Long, Long> deletedPosts = new HashMap<>();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final LongSupplier nanoClock;
+
+    PostSearchIndex() {
+        this(System::nanoTime);
+    }
+
+    PostSearchIndex(LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * 게시글을 색인합니다. 이미 색인된 게시글이라면 기존 색인을 교체하며, 색인된 게시글보다 오래된 수정본과 삭제된 게시글은 무시합니다.
+     * @param post 색인할 게시글
+     * @param replyCount 게시글의 댓글 수
+     */
+    void put(PostDto post, long replyCount) {
+        Map<String, Integer> termFrequencies = countTermFrequencies(post);
+        PostSummaryDto summary = new PostSummaryDto(post.postId(), post.title(), post.userId(), post.modifiedAt(),
+                post.createdAt(), replyCount);
+
+        this.lock.writeLock().lock();
+        try {
+            if (this.deletedPosts.containsKey(post.postId())) {
+                return;
+            }
+            IndexedPost existing = this.indexedPosts.get(post.postId());
+            if (existing != null && isNewer(existing.summary(), summary)) {
+                return;
+            }
+            removePostings(post.postId());
+            termFrequencies.forEach((term, frequency) -> this.postings.computeIfAbsent(term, (key) -> new HashMap<>())
+                .put(post.postId(), frequency));
+            this.indexedPosts.put(post.postId(), new IndexedPost(summary, termFrequencies.keySet()));
+        }
+        finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 비공개로 바뀐 게시글을 색인에서 제거합니다. 색인되지 않은 게시글이라면 아무것도 하지 않습니다.
+     * @param postId 제거할 게시글 ID
+     */
+    void remove(Long postId) {
+        this.lock.writeLock().lock();
+        try {
+            removePostings(postId);
+        }
+        finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 삭제된 게시글을 색인에서 제거하고, 이후에 도착하는 같은 게시글의 색인 요청을 무시하도록 기록합니다.
+     * @param postId 삭제된 게시글 ID
+     */
+    void delete(Long postId) {
+        long now = this.nanoClock.getAsLong();
+        this.lock.writeLock().lock();
+        try {
+            removePostings(postId);
+            this.deletedPosts.values().removeIf((deletedAt) -> now - deletedAt > DELETED_POST_RETENTION.toNanos());
+            this.deletedPosts.put(postId, now);
+        }
+        finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 색인된 게시글의 댓글 수를 바꿉니다. 색인되지 않은 게시글의 댓글 수는 무시합니다.
+     * @param replyCounts 게시글 ID마다 바꿀 댓글 수
+     */
+    void updateReplyCounts(Map<Long, Long> replyCounts) {
+        this.lock.writeLock().lock();
+        try {
+            replyCounts.forEach((postId, replyCount) -> this.indexedPosts.computeIfPresent(postId,
+                    (key, indexedPost) -> new IndexedPost(indexedPost.summary().withReplyCount(replyCount),
+                            indexedPost.terms())));
+        }
+        finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 주어진 게시글 중 색인된 게시글만 골라냅니다. 색인되지 않은 게시글의 댓글 수를 읽지 않기 위해 사용합니다.
+     * @param postIds 확인할 게시글 ID 리스트
+     * @return 색인된 게시글 ID 리스트
+     */
+    List<Long> filterIndexed(Collection<Long> postIds) {
+        this.lock.readLock().lock();
+        try {
+            return postIds.stream().filter(this.indexedPosts::containsKey).toList();
+        }
+        finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어와 일치하는 게시글을 점수가 높은 순서로 조회합니다. 점수가 같다면 최신 게시글(ID가 큰 게시글)이 먼저 옵니다.
+     * @param query 검색어
+     * @param offset 건너뛸 결과 수
+     * @param limit 조회할 최대 결과 수
+     * @return 검색 결과
+     */
+    PostSearchResultDto search(String query, int offset, int limit) {
+        Set<String> queryTerms = new LinkedHashSet<>(BigramTokenizer.tokenize(query));
+
+        this.lock.readLock().lock();
+        try {
+            int documentCount = this.indexedPosts.size();
+            Map<Long, Double> scores = new HashMap<>();
+            for (String term : queryTerms) {
+                Map<Long, Integer> termPostings = this.postings.get(term);
+                if (termPostings == null) {
+                    continue;
+                }
+                double inverseDocumentFrequency = Math.log(1 + (double) documentCount / termPostings.size());
+                termPostings.forEach((postId, frequency) -> scores.merge(postId,
+                        (1 + Math.log(frequency)) * inverseDocumentFrequency, Double::sum));
+            }
+
+            List<Map.Entry<Long, Double>> ranked = new ArrayList<>(scores.entrySet());
+            ranked.sort(Map.Entry.<Long, Double>comparingByValue()
+                .reversed()
+                .thenComparing(Map.Entry.comparingByKey(Comparator.reverseOrder())));
+
+            List<PostSummaryDto> contents = ranked.stream()
+                .skip(offset)
+                .limit(limit)
+                .map((entry) -> this.indexedPosts.get(entry.getKey()).summary())
+                .toList();
+            return new PostSearchResultDto(ranked.size(), contents);
+        }
+        finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    private void removePostings(Long postId) {
+        IndexedPost removed = this.indexedPosts.remove(postId);
+        if (removed == null) {
+            return;
+        }
+        for (String term : removed.terms()) {
+            Map<Long, Integer> termPostings = this.postings.get(term);
+            termPostings.remove(postId);
+            if (termPostings.isEmpty()) {
+                this.postings.remove(term);
+            }
+        }
+    }
+
+    private static Map<String, Integer> countTermFrequencies(PostDto post) {
+        Map<String, Integer> termFrequencies = new HashMap<>();
+        for (String term : BigramTokenizer.tokenize(post.title())) {
+            termFrequencies.merge(term, TITLE_WEIGHT, Integer::sum);
+        }
+        for (String term : BigramTokenizer.tokenize(post.content())) {
+            termFrequencies.merge(term, 1, Integer::sum);
+        }
+        return termFrequencies;
+    }
+
+    private static boolean isNewer(PostSummaryDto existing, PostSummaryDto candidate) {
+        return existing.modifiedAt() != null && candidate.modifiedAt() != null
+                && existing.modifiedAt().isAfter(candidate.modifiedAt());
+    }
+
+    private record IndexedPost(PostSummaryDto summary, Set<String> terms) {
+
+    }
+
+}
@@ -0,0 +1,16 @@
+package dev.sijunyang.celog.core.domain.search;
+
+import java.util.List;
+
+import dev.sijunyang.celog.core.domain.post.PostSummaryDto;
+
+/**
+ * 게시글 검색 결과를 나타내는 레코드입니다.
+ *
+ * @param totalCount 검색어와 일치하는 전체 게시글 수
+ * @param contents 요청한 페이지에 해당하는 게시글 요약 목록 (점수가 높은 순서)
+ * @author Sijun Yang
+ */
+public record PostSearchResultDto(long totalCount, List<PostSummaryDto> contents) {
+
+}
@@ -0,0 +1,149 @@
+package dev.sijunyang.celog.core.domain.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import dev.sijunyang.celog.core.domain.post.PostCreatedEvent;
+import dev.sijunyang.celog.core.domain.post.PostDeletedEvent;
+import dev.sijunyang.celog.core.domain.post.PostReplyCountDto;
+import dev.sijunyang.celog.core.domain.post.PostRepository;
+import dev.sijunyang.celog.core.domain.post.PostService;
+import dev.sijunyang.celog.core.domain.post.PostUpdatedEvent;
+import dev.sijunyang.celog.core.domain.reply.ReplyCountsRepairedEvent;
+import dev.sijunyang.celog.core.domain.reply.ReplyCreatedEvent;
+import dev.sijunyang.celog.core.domain.reply.ReplyDeletedEvent;
+import dev.sijunyang.celog.core.global.enums.PublicationStatus;
+import dev.sijunyang.celog.core.global.error.nextVer.InvalidInputException;
+import dev.sijunyang.celog.core.global.pagination.PaginationProperties;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * 공개된 게시글을 검색하는 서비스 클래스입니다.
+ *
+ * <p>
+ * 애플리케이션이 시작되면 공개된 모든 게시글로 색인을 만들고, 이후에는 게시글 생성/수정/삭제 이벤트를 받아 트랜잭션이 커밋된 뒤 색인을 갱신합니다. 검색
+ * 요청은 메모리의 색인만으로 응답하므로 데이터베이스를 조회하지 않습니다. 검색 결과의 댓글 수는 댓글 생성/삭제와 댓글 수 재계산 이벤트를 받아 색인된
+ * 게시글의 댓글 수를 다시 읽어 맞춥니다.
+ *
+ * @author Sijun Yang
+ */
+@Service
+@Validated
+@RequiredArgsConstructor
+public class PostSearchService {
+
+    static final int REPLY_COUNT_BATCH_SIZE = 500;
+
+    private final PostService postService;
+
+    private final PostRepository postRepository;
+
+    private final PaginationProperties paginationProperties;
+
+    private final PostSearchIndex postSearchIndex = new PostSearchIndex();
+
+    /**
+     * 공개된 모든 게시글로 검색 색인을 만듭니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndex() {
+        List<Long> postIds = new ArrayList<>();
+        this.postService.exportPublishedPosts((post) -> {
+            this.postSearchIndex.put(post, 0);
+            postIds.add(post.postId());
+        });
+        for (int from = 0; from < postIds.size(); from += REPLY_COUNT_BATCH_SIZE) {
+            refreshReplyCounts(postIds.subList(from, Math.min(from + REPLY_COUNT_BATCH_SIZE, postIds.size())));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handlePostCreated(PostCreatedEvent event) {
+        reindex(event.postId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handlePostUpdated(PostUpdatedEvent event) {
+        reindex(event.postId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handlePostDeleted(PostDeletedEvent event) {
+        this.postSearchIndex.delete(event.postId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleReplyCreated(ReplyCreatedEvent event) {
+        refreshReplyCounts(List.of(event.postId()));
+    }
+
+    // 함께 삭제된 하위 댓글 수는 이벤트에 없으므로, 삭제를 반영한 게시글의 댓글 수를 다시 읽는다.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleReplyDeleted(ReplyDeletedEvent event) {
+        refreshReplyCounts(List.of(event.postId()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleReplyCountsRepaired(ReplyCountsRepairedEvent event) {
+        refreshReplyCounts(event.postIds());
+    }
+
+    /**
+     * 검색어와 일치하는 공개된 게시글을 관련도가 높은 순서로 조회합니다.
+     * @param query 검색어
+     * @param page 조회할 페이지 (0부터 시작), 건너뛸 게시글 수가 int 범위를 넘는 페이지는 요청할 수 없음
+     * @param size 페이지 크기, 지정하지 않으면 기본 크기를 사용
+     * @return 검색 결과
+     */
+    public PostSearchResultDto search(@NotBlank String query, @PositiveOrZero int page, @Nullable Integer size) {
+        int resolvedSize = this.paginationProperties.resolveSize(size);
+        return this.postSearchIndex.search(query, toOffset(page, resolvedSize), resolvedSize);
+    }
+
+    // 곱이 int 범위를 넘으면 음수가 되어 색인에서 서버 오류가 나므로, 넘치는 페이지는 잘못된 입력으로 처리한다.
+    private int toOffset(int page, int size) {
+        try {
+            return Math.multiplyExact(page, size);
+        }
+        catch (ArithmeticException ex) {
+            throw new InvalidInputException("페이지 번호가 너무 큽니다. page: " + page + ", size: " + size);
+        }
+    }
+
+    // 색인되지 않은 게시글의 댓글 수는 읽지 않는다.
+    private void refreshReplyCounts(Collection<Long> postIds) {
+        List<Long> indexedPostIds = this.postSearchIndex.filterIndexed(postIds);
+        if (indexedPostIds.isEmpty()) {
+            return;
+        }
+        Map<Long, Long> replyCounts = this.postRepository.findReplyCountsByIdIn(indexedPostIds)
+            .stream()
+            .collect(Collectors.toMap(PostReplyCountDto::postId, PostReplyCountDto::replyCount));
+        this.postSearchIndex.updateReplyCounts(replyCounts);
+    }
+
+    private void reindex(@Nullable Long postId) {
+        if (postId == null) {
+            return;
+        }
+        // 비공개로 바뀌었거나 이미 삭제된 게시글은 색인에서 제거한다.
+        this.postRepository.findById(postId)
+            .filter((postEntity) -> postEntity.getReadStatus() == PublicationStatus.PUBLIC_PUBLISHED)
+            .ifPresentOrElse(
+                    (postEntity) -> this.postSearchIndex.put(postEntity.mapToPostDto(), postEntity.getReplyCount()),
+                    () -> this.postSearchIndex.remove(postId));
+    }
+
+}
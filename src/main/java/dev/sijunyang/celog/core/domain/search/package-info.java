@@ -0,0 +1,4 @@
+/**
+ * 게시글 검색 기능의 중심이 되는 패키지입니다. 공개된 게시글의 역색인을 애플리케이션 메모리에 유지하며, 검색 요청은 데이터베이스를 거치지 않습니다.
+ */
+package dev.sijunyang.celog.core.domain.search;
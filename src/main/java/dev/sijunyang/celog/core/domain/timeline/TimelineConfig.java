@@ -0,0 +1,15 @@
+package dev.sijunyang.celog.core.domain.timeline;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * {@link TimelineProperties}를 활성화합니다.
+ *
+ * @author Sijun Yang
+ */
+@Configuration
+@EnableConfigurationProperties({ TimelineProperties.class })
+public class TimelineConfig {
+
+}
@@ -0,0 +1,14 @@
+package dev.sijunyang.celog.core.domain.timeline;
+
+import java.time.LocalDateTime;
+
+/**
+ * 타임라인에 들어간 게시글의 ID와 생성 시간을 나타내는 DTO입니다.
+ *
+ * @param postId 게시글 ID
+ * @param postCreatedAt 게시글 생성 시간
+ * @author Sijun Yang
+ */
+public record TimelineEntryDto(Long postId, LocalDateTime postCreatedAt) {
+
+}
@@ -0,0 +1,56 @@
+package dev.sijunyang.celog.core.domain.timeline;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotNull;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자의 홈 타임라인에 들어간 게시글 하나를 저장하는 엔티티 클래스입니다. 게시글이 작성될 때 {@link TimelineService}가 작성자의 팔로워마다
+ * 한 행씩 저장하며, 같은 게시글이 한 타임라인에 두 번 들어가지 않도록 (사용자 ID, 게시글 ID)를 식별자로 사용합니다.
+ *
+ * @author Sijun Yang
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity(name = "timeline_entry")
+@IdClass(TimelineEntryId.class)
+// 사용자의 타임라인을 (게시글 생성 시간, 게시글 ID) 커서로 조회하고, 게시글이 삭제되면 모든 타임라인에서 지우기 위한 인덱스
+@Table(indexes = {
+        @Index(name = "idx_timeline_entry_user_id_post_created_at_post_id",
+                columnList = "user_id, post_created_at, post_id"),
+        @Index(name = "idx_timeline_entry_post_id", columnList = "post_id") })
+public class TimelineEntryEntity {
+
+    /**
+     * 타임라인을 소유한 사용자 ID입니다.
+     */
+    @Id
+    private Long userId;
+
+    /**
+     * 타임라인에 들어간 게시글 ID입니다.
+     */
+    @Id
+    private Long postId;
+
+    /**
+     * 게시글 작성자 ID입니다. 팔로우를 취소하면 작성자의 게시글을 타임라인에서 지울 때 사용합니다.
+     */
+    @NotNull
+    private Long authorId;
+
+    /**
+     * 게시글 생성 시간입니다. 게시글을 읽지 않고 타임라인을 정렬하기 위해 함께 저장합니다.
+     */
+    @NotNull
+    private LocalDateTime postCreatedAt;
+
+}
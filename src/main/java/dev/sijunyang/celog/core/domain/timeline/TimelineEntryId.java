@@ -0,0 +1,26 @@
+package dev.sijunyang.celog.core.domain.timeline;
+
+import java.io.Serializable;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * {@link TimelineEntryEntity}의 복합 식별자입니다.
+ *
+ * @author Sijun Yang
+ */
+@Getter
+@EqualsAndHashCode
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class TimelineEntryId implements Serializable {
+
+    private Long userId;
+
+    private Long postId;
+
+}
@@ -0,0 +1,46 @@
+package dev.sijunyang.celog.core.domain.timeline;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * {@link TimelineEntryEntity}를 처리하는 JpaRepository입니다. 타임라인 항목 저장과 정리는 여러 행을 한 번에 처리하므로
+ * {@link TimelineService}에서 SQL 로 실행합니다.
+ *
+ * @author Sijun Yang
+ */
+public interface TimelineEntryRepository extends JpaRepository<TimelineEntryEntity, TimelineEntryId> {
+
+    @Query("""
+            SELECT new dev.sijunyang.celog.core.domain.timeline.TimelineEntryDto(e.postId, e.postCreatedAt)
+            FROM timeline_entry e
+            WHERE e.userId = :userId
+            ORDER BY e.postCreatedAt DESC, e.postId DESC
+            """)
+    List<TimelineEntryDto> findEntriesByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("""
+            SELECT new dev.sijunyang.celog.core.domain.timeline.TimelineEntryDto(e.postId, e.postCreatedAt)
+            FROM timeline_entry e
+            WHERE e.userId = :userId
+                AND (e.postCreatedAt < :createdAt OR (e.postCreatedAt = :createdAt AND e.postId < :postId))
+            ORDER BY e.postCreatedAt DESC, e.postId DESC
+            """)
+    List<TimelineEntryDto> findEntriesByUserIdBefore(@Param("userId") Long userId,
+            @Param("createdAt") LocalDateTime createdAt, @Param("postId") Long postId, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM timeline_entry e WHERE e.postId = :postId")
+    int deleteAllByPostId(@Param("postId") Long postId);
+
+    @Modifying
+    @Query("DELETE FROM timeline_entry e WHERE e.userId = :userId AND e.authorId = :authorId")
+    int deleteAllByUserIdAndAuthorId(@Param("userId") Long userId, @Param("authorId") Long authorId);
+
+}
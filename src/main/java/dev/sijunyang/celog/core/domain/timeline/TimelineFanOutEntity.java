@@ -0,0 +1,44 @@
+package dev.sijunyang.celog.core.domain.timeline;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotNull;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 진행 중인 fan-out 의 진행 위치를 저장하는 엔티티 클래스입니다. {@link TimelineService}가 팔로워 묶음을 저장할 때마다 마지막으로 처리한 팔로우
+ * ID를 기록하고, fan-out 을 마치면 행을 지웁니다. 중간에 실패하여 남은 행은 기록된 위치 다음 팔로워부터 이어서 처리합니다.
+ *
+ * @author Sijun Yang
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity(name = "timeline_fan_out")
+// 오랫동안 진행되지 않은 fan-out 을 찾기 위한 인덱스
+@Table(indexes = { @Index(name = "idx_timeline_fan_out_updated_at", columnList = "updated_at") })
+public class TimelineFanOutEntity {
+
+    /**
+     * 타임라인에 넣고 있는 게시글 ID입니다.
+     */
+    @Id
+    private Long postId;
+
+    /**
+     * 마지막으로 타임라인에 넣은 팔로워의 팔로우 ID입니다. 이어서 처리할 때 이 ID 다음 팔로워부터 처리합니다.
+     */
+    private long lastFollowId;
+
+    /**
+     * 진행 위치를 마지막으로 기록한 시간입니다.
+     */
+    @NotNull
+    private LocalDateTime updatedAt;
+
+}
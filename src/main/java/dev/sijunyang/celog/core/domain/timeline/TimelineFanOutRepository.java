@@ -0,0 +1,19 @@
+package dev.sijunyang.celog.core.domain.timeline;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * {@link TimelineFanOutEntity}를 처리하는 JpaRepository입니다. 진행 위치 기록은 타임라인 항목 저장과 같이 {@link TimelineService}에서 SQL 로
+ * 실행합니다.
+ *
+ * @author Sijun Yang
+ */
+public interface TimelineFanOutRepository extends JpaRepository<TimelineFanOutEntity, Long> {
+
+    List<TimelineFanOutEntity> findAllByUpdatedAtBeforeOrderByUpdatedAt(LocalDateTime updatedAt, Pageable pageable);
+
+}
@@ -0,0 +1,24 @@
+package dev.sijunyang.celog.core.domain.timeline;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 홈 타임라인 설정입니다.
+ *
+ * @param fanOutMaxFollowers 게시글을 팔로워들의 타임라인에 미리 넣는 작성자의 최대 팔로워 수, 팔로워가 이보다 많은 작성자의 게시글은 타임라인을
+ * 조회할 때 읽는다.
+ * @param fanOutBatchSize 게시글을 타임라인에 넣을 때 한 번에 처리할 팔로워 수
+ * @param maxEntries 사용자마다 보관할 타임라인 항목 수, 오래된 항목부터 정리한다.
+ * @param fanOutResumeAfter 진행 위치가 이 시간 동안 기록되지 않은 fan-out 은 실패한 것으로 보고 기록된 위치부터 이어서 처리한다. 이어서 처리할
+ * fan-out 을 찾는 주기로도 사용한다.
+ * @author Sijun Yang
+ */
+@ConfigurationProperties(prefix = "celog.timeline")
+public record TimelineProperties(@DefaultValue("10000") long fanOutMaxFollowers,
+        @DefaultValue("1000") int fanOutBatchSize, @DefaultValue("500") int maxEntries,
+        @DefaultValue("PT5M") Duration fanOutResumeAfter) {
+
+}
@@ -0,0 +1,299 @@
+package dev.sijunyang.celog.core.domain.timeline;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import dev.sijunyang.celog.core.domain.follow.FollowService;
+import dev.sijunyang.celog.core.domain.follow.FollowerDto;
+import dev.sijunyang.celog.core.domain.follow.UnfollowedEvent;
+import dev.sijunyang.celog.core.domain.post.PostCreatedEvent;
+import dev.sijunyang.celog.core.domain.post.PostDeletedEvent;
+import dev.sijunyang.celog.core.domain.post.PostRepository;
+import dev.sijunyang.celog.core.domain.post.PostSummaryDto;
+import dev.sijunyang.celog.core.domain.post.PostUpdatedEvent;
+import dev.sijunyang.celog.core.domain.user.RequestUser;
+import dev.sijunyang.celog.core.domain.user.UserService;
+import dev.sijunyang.celog.core.global.enums.PublicationStatus;
+import dev.sijunyang.celog.core.global.pagination.CursorPage;
+import dev.sijunyang.celog.core.global.pagination.CursorRequest;
+import dev.sijunyang.celog.core.global.pagination.PaginationProperties;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * 팔로우한 사용자들의 공개 게시글을 최신순으로 보여주는 홈 타임라인 서비스 클래스입니다.
+ *
+ * <p>
+ * 게시글이 공개 상태로 작성되면 커밋 이후 요청 스레드와 분리된 스레드에서 작성자의 팔로워마다 타임라인 항목을 저장합니다(fan-out-on-write). 따라서
+ * 타임라인 조회는 사용자의 타임라인 항목을 커서로 한 번 조회하고 요약 게시글을 한 번에 가져오는 것으로 끝납니다. 다만 팔로워가
+ * {@link TimelineProperties#fanOutMaxFollowers()}명 이상인 작성자의 게시글은 저장하지 않고, 타임라인을 조회할 때 해당 작성자들의 게시글을 함께
+ * 읽어 합칩니다(fan-out-on-read). 타임라인은 사용자마다 최근 {@link TimelineProperties#maxEntries()}개 정도만 보관합니다.
+ *
+ * <p>
+ * fan-out 은 게시글이 공개 상태가 될 때 한 번만 실행하고, 팔로워 묶음을 저장할 때마다 진행 위치를 {@link TimelineFanOutEntity}로 기록합니다.
+ * 중간에 실패한 fan-out 은 주기적으로 찾아 기록된 위치부터 이어서 처리하므로, 이미 처리한 팔로워에게 다시 저장하지 않고 정리된 항목도 되살리지
+ * 않습니다.
+ *
+ * @author Sijun Yang
+ */
+@Service
+@Validated
+@RequiredArgsConstructor
+public class TimelineService {
+
+    private static final String INSERT_ENTRY_SQL = """
+            INSERT IGNORE INTO timeline_entry (user_id, post_id, author_id, post_created_at) VALUES (?, ?, ?, ?)
+            """;
+
+    // 사용자의 타임라인에서 최근 항목 N개보다 오래된 항목을 지운다. 항목이 N개 이하라면 기준 행이 없으므로 지우지 않는다.
+    private static final String TRIM_ENTRIES_SQL = """
+            DELETE FROM timeline_entry
+            WHERE user_id = ? AND (post_created_at, post_id) < (
+                SELECT post_created_at, post_id FROM (
+                    SELECT post_created_at, post_id FROM timeline_entry
+                    WHERE user_id = ?
+                    ORDER BY post_created_at DESC, post_id DESC
+                    LIMIT 1 OFFSET ?) boundary)
+            """;
+
+    // 같은 게시글을 다시 공개하면 처음 팔로워부터 다시 처리한다.
+    private static final String START_FAN_OUT_SQL = """
+            INSERT INTO timeline_fan_out (post_id, last_follow_id, updated_at) VALUES (?, 0, ?)
+            ON DUPLICATE KEY UPDATE last_follow_id = 0, updated_at = ?
+            """;
+
+    private static final String SAVE_FAN_OUT_PROGRESS_SQL = """
+            UPDATE timeline_fan_out SET last_follow_id = ?, updated_at = ? WHERE post_id = ?
+            """;
+
+    private static final String FINISH_FAN_OUT_SQL = "DELETE FROM timeline_fan_out WHERE post_id = ?";
+
+    // 한 번에 이어서 처리할 최대 fan-out 수
+    static final int RESUME_BATCH_SIZE = 100;
+
+    // 타임라인 정리는 게시글을 받을 때마다가 아니라 대략 이 횟수에 한 번씩 실행한다.
+    static final int TRIM_INTERVAL = 16;
+
+    private static final Comparator<TimelineEntryDto> NEWEST_FIRST = Comparator
+        .comparing(TimelineEntryDto::postCreatedAt)
+        .thenComparing(TimelineEntryDto::postId)
+        .reversed();
+
+    private final TimelineEntryRepository timelineEntryRepository;
+
+    private final TimelineFanOutRepository timelineFanOutRepository;
+
+    private final PostRepository postRepository;
+
+    private final FollowService followService;
+
+    private final UserService userService;
+
+    private final TimelineProperties timelineProperties;
+
+    private final PaginationProperties paginationProperties;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 팔로우한 사용자들의 공개 게시글을 최신순으로 커서 페이지 단위로 가져옵니다.
+     * @param requester 타임라인을 조회하는 사용자 정보
+     * @param cursorRequest 커서 페이지 요청 정보
+     * @return 요약 게시글 페이지
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<PostSummaryDto> getHomeTimeline(@NotNull @Valid RequestUser requester,
+            @NotNull CursorRequest cursorRequest) {
+        this.userService.validateUserExistence(requester.userId());
+        int size = this.paginationProperties.resolveSize(cursorRequest.size());
+        // 다음 페이지 존재 여부를 알기 위해 하나 더 조회한다.
+        Pageable limit = PageRequest.of(0, size + 1);
+
+        Map<Long, PostSummaryDto> summaries = new HashMap<>();
+        List<TimelineEntryDto> entries = new ArrayList<>(findEntries(requester.userId(), cursorRequest, limit));
+        for (PostSummaryDto post : findFanOutOnReadPosts(requester.userId(), cursorRequest, limit)) {
+            summaries.put(post.postId(), post);
+            entries.add(new TimelineEntryDto(post.postId(), post.createdAt()));
+        }
+        // 작성자의 팔로워 수가 바뀌면 같은 게시글이 양쪽에서 조회될 수 있다.
+        Map<Long, TimelineEntryDto> merged = new LinkedHashMap<>();
+        entries.stream().sorted(NEWEST_FIRST).forEach((entry) -> merged.putIfAbsent(entry.postId(), entry));
+        CursorPage<TimelineEntryDto> entryPage = CursorPage.of(List.copyOf(merged.values()), size,
+                TimelineEntryDto::postCreatedAt, TimelineEntryDto::postId);
+
+        List<Long> missingPostIds = entryPage.contents()
+            .stream()
+            .map(TimelineEntryDto::postId)
+            .filter((postId) -> !summaries.containsKey(postId))
+            .toList();
+        if (!missingPostIds.isEmpty()) {
+            this.postRepository.findSummariesByIdInAndReadStatus(missingPostIds, PublicationStatus.PUBLIC_PUBLISHED)
+                .forEach((post) -> summaries.put(post.postId(), post));
+        }
+        // 공개가 취소되었거나 삭제된 게시글은 빼고, 커서는 타임라인 항목을 기준으로 유지한다.
+        List<PostSummaryDto> contents = entryPage.contents()
+            .stream()
+            .map((entry) -> summaries.get(entry.postId()))
+            .filter(Objects::nonNull)
+            .toList();
+        return new CursorPage<>(contents, entryPage.hasNext(), entryPage.nextCursorCreatedAt(),
+                entryPage.nextCursorId());
+    }
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handlePostCreated(PostCreatedEvent event) {
+        fanOut(event.postId());
+    }
+
+    // 임시 저장했던 게시글을 공개한 경우에만 타임라인에 넣는다. 이미 공개된 게시글을 수정할 때마다 다시 넣으면 팔로워 수만큼 저장과 정리가 반복되고,
+    // 정리된 항목도 되살아난다.
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handlePostUpdated(PostUpdatedEvent event) {
+        if (event.previousReadStatus() != PublicationStatus.PUBLIC_PUBLISHED
+                && event.readStatus() == PublicationStatus.PUBLIC_PUBLISHED) {
+            fanOut(event.postId());
+        }
+    }
+
+    /**
+     * 진행 위치가 {@link TimelineProperties#fanOutResumeAfter()} 동안 기록되지 않은 fan-out 을 기록된 위치부터 이어서 처리합니다. 진행 중인
+     * fan-out 은 묶음마다 위치를 기록하므로 이어서 처리되지 않으며, 여러 인스턴스에서 같은 fan-out 을 이어서 처리해도 있는 항목은 INSERT IGNORE 로
+     * 무시됩니다.
+     */
+    @Scheduled(fixedDelayString = "${celog.timeline.fan-out-resume-after:PT5M}")
+    public void resumeStalledFanOuts() {
+        LocalDateTime stalledBefore = LocalDateTime.now().minus(this.timelineProperties.fanOutResumeAfter());
+        this.timelineFanOutRepository
+            .findAllByUpdatedAtBeforeOrderByUpdatedAt(stalledBefore, PageRequest.of(0, RESUME_BATCH_SIZE))
+            .forEach((fanOut) -> {
+                PostSummaryDto post = findFanOutPost(fanOut.getPostId());
+                if (post == null) {
+                    // 공개가 취소되었거나 삭제된 게시글, 팔로워가 많아진 작성자의 게시글은 더 넣지 않는다.
+                    this.jdbcTemplate.update(FINISH_FAN_OUT_SQL, fanOut.getPostId());
+                    return;
+                }
+                fanOutFrom(post, fanOut.getLastFollowId());
+            });
+    }
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void handlePostDeleted(PostDeletedEvent event) {
+        this.timelineEntryRepository.deleteAllByPostId(event.postId());
+    }
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void handleUnfollowed(UnfollowedEvent event) {
+        this.timelineEntryRepository.deleteAllByUserIdAndAuthorId(event.followerId(), event.followeeId());
+    }
+
+    private void fanOut(@Nullable Long postId) {
+        if (postId == null) {
+            return;
+        }
+        PostSummaryDto post = findFanOutPost(postId);
+        if (post == null) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        this.jdbcTemplate.update(START_FAN_OUT_SQL, postId, now, now);
+        fanOutFrom(post, 0);
+    }
+
+    // 팔로워를 묶음 단위로 읽어 타임라인 항목을 배치로 저장한다. 묶음마다 자동 커밋되므로 팔로워가 많아도 트랜잭션이 길어지지 않는다.
+    // 묶음을 저장한 뒤 진행 위치를 기록하므로, 실패하면 저장하지 못한 묶음부터 이어서 처리한다. 이미 저장한 항목은 INSERT IGNORE 로 무시된다.
+    private void fanOutFrom(PostSummaryDto post, long afterFollowId) {
+        Long postId = post.postId();
+        List<FollowerDto> followers;
+        do {
+            followers = this.followService.getFollowersAfter(post.userId(), afterFollowId,
+                    this.timelineProperties.fanOutBatchSize());
+            if (followers.isEmpty()) {
+                break;
+            }
+            List<Object[]> entries = followers.stream()
+                .map((follower) -> new Object[] { follower.followerId(), postId, post.userId(), post.createdAt() })
+                .toList();
+            this.jdbcTemplate.batchUpdate(INSERT_ENTRY_SQL, entries);
+            followers.stream()
+                .map(FollowerDto::followerId)
+                .filter((followerId) -> shouldTrim(followerId, postId))
+                .forEach(this::trimEntries);
+            afterFollowId = followers.get(followers.size() - 1).followId();
+            this.jdbcTemplate.update(SAVE_FAN_OUT_PROGRESS_SQL, afterFollowId, LocalDateTime.now(), postId);
+        }
+        while (followers.size() == this.timelineProperties.fanOutBatchSize());
+        this.jdbcTemplate.update(FINISH_FAN_OUT_SQL, postId);
+    }
+
+    // 공개된 게시글이고 작성자의 팔로워가 많지 않을 때만 fan-out 한다.
+    @Nullable
+    private PostSummaryDto findFanOutPost(Long postId) {
+        List<PostSummaryDto> posts = this.postRepository.findSummariesByIdInAndReadStatus(List.of(postId),
+                PublicationStatus.PUBLIC_PUBLISHED);
+        if (posts.isEmpty()) {
+            return null;
+        }
+        PostSummaryDto post = posts.get(0);
+        if (this.userService.getFollowerCount(post.userId()) >= this.timelineProperties.fanOutMaxFollowers()) {
+            return null;
+        }
+        return post;
+    }
+
+    // 사용자마다 다른 게시글에서 정리되도록 사용자 ID와 게시글 ID를 함께 사용한다.
+    static boolean shouldTrim(long followerId, long postId) {
+        return Math.floorMod(followerId + postId, TRIM_INTERVAL) == 0;
+    }
+
+    private void trimEntries(long userId) {
+        this.jdbcTemplate.update(TRIM_ENTRIES_SQL, userId, userId, this.timelineProperties.maxEntries() - 1);
+    }
+
+    private List<TimelineEntryDto> findEntries(long userId, CursorRequest cursorRequest, Pageable limit) {
+        if (cursorRequest.isFirstPage()) {
+            return this.timelineEntryRepository.findEntriesByUserId(userId, limit);
+        }
+        return this.timelineEntryRepository.findEntriesByUserIdBefore(userId, cursorRequest.cursorCreatedAt(),
+                cursorRequest.cursorId(), limit);
+    }
+
+    private List<PostSummaryDto> findFanOutOnReadPosts(long userId, CursorRequest cursorRequest, Pageable limit) {
+        List<Long> authorIds = this.followService.getFolloweeIdsWithFollowerCountAtLeast(userId,
+                this.timelineProperties.fanOutMaxFollowers());
+        if (authorIds.isEmpty()) {
+            return List.of();
+        }
+        if (cursorRequest.isFirstPage()) {
+            return this.postRepository.findSummariesByUserIdInAndReadStatus(authorIds,
+                    PublicationStatus.PUBLIC_PUBLISHED, limit);
+        }
+        return this.postRepository.findSummariesByUserIdInAndReadStatusBefore(authorIds,
+                PublicationStatus.PUBLIC_PUBLISHED, cursorRequest.cursorCreatedAt(), cursorRequest.cursorId(), limit);
+    }
+
+}
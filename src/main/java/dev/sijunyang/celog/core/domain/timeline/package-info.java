@@ -0,0 +1,4 @@
+/**
+ * 팔로우한 사용자의 게시글을 모아 보여주는 홈 타임라인 기능의 중심이 되는 패키지입니다.
+ */
+package dev.sijunyang.celog.core.domain.timeline;
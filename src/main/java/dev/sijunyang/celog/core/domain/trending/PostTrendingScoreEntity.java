@@ -0,0 +1,32 @@
+package dev.sijunyang.celog.core.domain.trending;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 게시글의 인기 점수를 저장하는 엔티티 클래스입니다. 점수는 {@link TrendingScoreBoard}가 주기적으로 더해 저장하며, 애플리케이션을 다시 시작하거나
+ * 여러 인스턴스로 운영할 때도 같은 순위를 보여주기 위해 사용합니다.
+ *
+ * @author Sijun Yang
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity(name = "post_trending_score")
+// 점수가 높은 게시글부터 읽고, 점수가 낮아진 게시글을 지우기 위한 인덱스
+@Table(indexes = { @Index(name = "idx_post_trending_score_log_score", columnList = "log_score") })
+public class PostTrendingScoreEntity {
+
+    @Id
+    private Long postId;
+
+    /**
+     * 1970-01-01T00:00Z 시점으로 되돌려 계산한 점수의 자연로그입니다. 시간이 지나도 값을 갱신할 필요가 없고, 값이 클수록 현재 점수도 큽니다.
+     */
+    private double logScore;
+
+}
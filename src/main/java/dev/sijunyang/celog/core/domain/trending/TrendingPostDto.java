@@ -0,0 +1,13 @@
+package dev.sijunyang.celog.core.domain.trending;
+
+import java.time.LocalDateTime;
+
+/**
+ * 인기 게시글 순위에 사용하는 요약 게시글 DTO입니다.
+ *
+ * @param score 현재 시점으로 감쇠된 인기 점수
+ * @author Sijun Yang
+ */
+public record TrendingPostDto(Long postId, String title, Long userId, double score, LocalDateTime createdAt) {
+
+}
@@ -0,0 +1,23 @@
+package dev.sijunyang.celog.core.domain.trending;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 인기 게시글 점수 설정입니다.
+ *
+ * @param halfLife 점수가 절반으로 줄어드는 시간
+ * @param viewWeight 조회 한 번에 더하는 점수
+ * @param replyWeight 댓글 하나에 더하는 점수
+ * @param maxTrackedPosts 메모리에 순위를 유지할 최대 게시글 수
+ * @param minScore 저장해 둘 최소 점수, 감쇠된 점수가 이보다 작아진 게시글은 저장소에서 지운다.
+ * @author Sijun Yang
+ */
+@ConfigurationProperties(prefix = "celog.trending")
+public record TrendingProperties(@DefaultValue("6h") Duration halfLife, @DefaultValue("1") double viewWeight,
+        @DefaultValue("5") double replyWeight, @DefaultValue("1000") int maxTrackedPosts,
+        @DefaultValue("0.01") double minScore) {
+
+}
@@ -0,0 +1,210 @@
+package dev.sijunyang.celog.core.domain.trending;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 게시글의 인기 점수를 시간에 따라 지수적으로 감쇠시키며 메모리에서 순위를 유지하는 클래스입니다.
+ *
+ * <p>
+ * 점수는 반응이 있을 때마다 {@code weight * 2^((t - 1970-01-01T00:00Z) / halfLife)} 를 더한 값의 자연로그로 저장합니다. 모든 게시글이 같은
+ * 비율로 감쇠하므로 이렇게 과거 시점으로 되돌려 계산하면 시간이 지나도 저장된 값과 순위를 갱신할 필요가 없고, 로그로 저장하므로 값이 넘치지 않습니다. 순위는
+ * 점수 순으로 정렬된 {@link ConcurrentSkipListSet}으로 유지하므로 상위 K개를 O(K)로 읽습니다.
+ *
+ * <p>
+ * 마지막 저장 이후 더해진 점수는 따로 모았다가 저장 주기마다 데이터베이스의 점수에 더하고, 상위 {@link TrendingProperties#maxTrackedPosts()}개를
+ * 다시 읽어 순위를 맞춥니다. 여러 인스턴스가 각자 더한 점수가 모두 반영되며, 애플리케이션이 시작되면 첫 저장 주기에 순위를 불러옵니다. 비정상 종료 시에는
+ * 마지막 저장 이후의 점수가 유실될 수 있습니다.
+ *
+ * @author Sijun Yang
+ */
+@Component
+public class TrendingScoreBoard {
+
+    // 두 로그 점수의 합을 데이터베이스에서 계산한다. logAdd 와 같은 식이다.
+    private static final String ADD_LOG_SCORE_SQL = """
+            INSERT INTO post_trending_score (post_id, log_score) VALUES (?, ?) AS new
+            ON DUPLICATE KEY UPDATE log_score = GREATEST(post_trending_score.log_score, new.log_score)
+                + LN(1 + EXP(-ABS(post_trending_score.log_score - new.log_score)))
+            """;
+
+    private static final String DELETE_LOW_SCORES_SQL = "DELETE FROM post_trending_score WHERE log_score < ?";
+
+    private static final String SELECT_TOP_SCORES_SQL = """
+            SELECT post_id, log_score FROM post_trending_score ORDER BY log_score DESC LIMIT ?
+            """;
+
+    private final Map<Long, Double> logScores = new ConcurrentHashMap<>();
+
+    private final ConcurrentSkipListSet<RankedPost> ranking = new ConcurrentSkipListSet<>(Comparator
+        .comparingDouble(RankedPost::logScore)
+        .reversed()
+        .thenComparingLong(RankedPost::postId));
+
+    private final Map<Long, Double> pendingLogScores = new ConcurrentHashMap<>();
+
+    private final TrendingProperties trendingProperties;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    // 초당 감쇠율, 로그 점수는 시간이 지날 때마다 이만큼씩 기준이 올라간다.
+    private final double decayRatePerSecond;
+
+    public TrendingScoreBoard(TrendingProperties trendingProperties, JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate) {
+        this.trendingProperties = trendingProperties;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.decayRatePerSecond = Math.log(2) / trendingProperties.halfLife().toSeconds();
+    }
+
+    /**
+     * 게시글에 점수를 더합니다. 더한 점수는 바로 순위에 반영되고, 다음 저장 주기에 데이터베이스에 저장됩니다.
+     * @param postId 반응이 있었던 게시글 ID
+     * @param weight 더할 점수
+     * @param epochMillis 반응이 있었던 시간
+     */
+    public void add(long postId, double weight, long epochMillis) {
+        double logScore = toLogScore(weight, epochMillis);
+        this.pendingLogScores.merge(postId, logScore, TrendingScoreBoard::logAdd);
+        this.logScores.compute(postId, (id, oldLogScore) -> {
+            double newLogScore = (oldLogScore != null) ? logAdd(oldLogScore, logScore) : logScore;
+            rank(id, oldLogScore, newLogScore);
+            return newLogScore;
+        });
+    }
+
+    /**
+     * 게시글을 순위에서 제외하고 저장된 점수도 지웁니다.
+     * @param postId 제외할 게시글 ID
+     */
+    public void remove(long postId) {
+        this.pendingLogScores.remove(postId);
+        this.logScores.computeIfPresent(postId, (id, oldLogScore) -> {
+            this.ranking.remove(new RankedPost(id, oldLogScore));
+            return null;
+        });
+        this.jdbcTemplate.update("DELETE FROM post_trending_score WHERE post_id = ?", postId);
+    }
+
+    /**
+     * 점수가 높은 게시글부터 일정 수만큼 가져옵니다.
+     * @param size 가져올 게시글 수
+     * @param epochMillis 점수를 감쇠시킬 기준 시간
+     * @return 점수가 높은 순서의 게시글 ID와 현재 점수
+     */
+    public List<ScoredPost> getTopPosts(int size, long epochMillis) {
+        double baseLogScore = toLogScore(1, epochMillis);
+        return this.ranking.stream()
+            .limit(size)
+            .map((post) -> new ScoredPost(post.postId(), Math.exp(post.logScore() - baseLogScore)))
+            .toList();
+    }
+
+    /**
+     * 모아둔 점수를 데이터베이스에 더하고, 점수가 낮아진 게시글을 지운 뒤 상위 게시글로 순위를 다시 맞춥니다. 저장에 실패하면 점수를 되돌려 다음 주기에 다시
+     * 시도합니다. Scheduled 와 PreDestroy 로만 호출되므로 트랜잭션은 직접 시작합니다.
+     */
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${celog.trending.checkpoint-interval:PT1M}")
+    public void checkpoint() {
+        checkpoint(System.currentTimeMillis());
+    }
+
+    void checkpoint(long epochMillis) {
+        List<Object[]> increments = new ArrayList<>();
+        for (Long postId : this.pendingLogScores.keySet()) {
+            Double logScore = this.pendingLogScores.remove(postId);
+            if (logScore != null) {
+                increments.add(new Object[] { postId, logScore });
+            }
+        }
+        // 여러 인스턴스가 동시에 저장할 때 교착 상태가 생기지 않도록 항상 같은 순서로 행을 잠근다.
+        increments.sort(Comparator.comparing((increment) -> (Long) increment[0]));
+        double minLogScore = toLogScore(this.trendingProperties.minScore(), epochMillis);
+
+        try {
+            this.transactionTemplate.executeWithoutResult((status) -> {
+                if (!increments.isEmpty()) {
+                    this.jdbcTemplate.batchUpdate(ADD_LOG_SCORE_SQL, increments);
+                }
+                this.jdbcTemplate.update(DELETE_LOW_SCORES_SQL, minLogScore);
+            });
+        }
+        catch (RuntimeException ex) {
+            increments.forEach((increment) -> this.pendingLogScores.merge((Long) increment[0], (Double) increment[1],
+                    TrendingScoreBoard::logAdd));
+            throw ex;
+        }
+
+        List<RankedPost> savedPosts = this.jdbcTemplate.query(SELECT_TOP_SCORES_SQL,
+                (rs, rowNum) -> new RankedPost(rs.getLong("post_id"), rs.getDouble("log_score")),
+                this.trendingProperties.maxTrackedPosts());
+        reload(savedPosts);
+    }
+
+    // 저장된 점수로 순위를 바꾼다. 저장하는 동안 새로 더해진 점수는 아직 저장되지 않았으므로 다시 더한다.
+    private void reload(List<RankedPost> savedPosts) {
+        Map<Long, Double> savedLogScores = new HashMap<>();
+        savedPosts.forEach((post) -> savedLogScores.put(post.postId(), post.logScore()));
+        for (Long postId : this.logScores.keySet()) {
+            if (!savedLogScores.containsKey(postId) && !this.pendingLogScores.containsKey(postId)) {
+                this.logScores.computeIfPresent(postId, (id, oldLogScore) -> {
+                    this.ranking.remove(new RankedPost(id, oldLogScore));
+                    return null;
+                });
+            }
+        }
+        savedLogScores.forEach((postId, savedLogScore) -> this.logScores.compute(postId, (id, oldLogScore) -> {
+            Double pendingLogScore = this.pendingLogScores.get(id);
+            double newLogScore = (pendingLogScore != null) ? logAdd(savedLogScore, pendingLogScore) : savedLogScore;
+            rank(id, oldLogScore, newLogScore);
+            return newLogScore;
+        }));
+    }
+
+    private void rank(long postId, Double oldLogScore, double newLogScore) {
+        if (oldLogScore != null) {
+            this.ranking.remove(new RankedPost(postId, oldLogScore));
+        }
+        this.ranking.add(new RankedPost(postId, newLogScore));
+    }
+
+    private double toLogScore(double weight, long epochMillis) {
+        return Math.log(weight) + this.decayRatePerSecond * (epochMillis / 1000.0);
+    }
+
+    // log(e^a + e^b) 를 값이 넘치지 않도록 계산한다.
+    static double logAdd(double a, double b) {
+        return Math.max(a, b) + Math.log1p(Math.exp(-Math.abs(a - b)));
+    }
+
+    private record RankedPost(long postId, double logScore) {
+
+    }
+
+    /**
+     * 순위에 오른 게시글입니다.
+     *
+     * @param postId 게시글 ID
+     * @param score 현재 시점으로 감쇠된 점수
+     */
+    public record ScoredPost(long postId, double score) {
+
+    }
+
+}
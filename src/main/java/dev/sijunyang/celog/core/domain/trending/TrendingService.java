@@ -0,0 +1,92 @@
+package dev.sijunyang.celog.core.domain.trending;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import dev.sijunyang.celog.core.domain.post.PostDeletedEvent;
+import dev.sijunyang.celog.core.domain.post.PostRepository;
+import dev.sijunyang.celog.core.domain.post.PostSummaryDto;
+import dev.sijunyang.celog.core.domain.post.PostViewedEvent;
+import dev.sijunyang.celog.core.domain.reply.ReplyCreatedEvent;
+import dev.sijunyang.celog.core.domain.trending.TrendingScoreBoard.ScoredPost;
+import dev.sijunyang.celog.core.global.enums.PublicationStatus;
+import dev.sijunyang.celog.core.global.pagination.PaginationProperties;
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * 최근 조회와 댓글이 많은 게시글을 보여주는 인기 게시글 서비스 클래스입니다. 게시글 조회와 댓글 생성 이벤트를 받아 {@link TrendingScoreBoard}에 점수를
+ * 더하고, 순위는 메모리에서 바로 읽습니다.
+ *
+ * @author Sijun Yang
+ */
+@Service
+@Validated
+@RequiredArgsConstructor
+public class TrendingService {
+
+    private final TrendingScoreBoard trendingScoreBoard;
+
+    private final TrendingProperties trendingProperties;
+
+    private final PaginationProperties paginationProperties;
+
+    private final PostRepository postRepository;
+
+    /**
+     * 최근 반응이 많은 공개된 게시글을 점수 순서로 가져옵니다.
+     * @param size 가져올 게시글 수, 지정하지 않으면 기본 크기를 사용
+     * @return 점수가 높은 순서의 게시글 리스트
+     */
+    @Transactional(readOnly = true)
+    public List<TrendingPostDto> getTrendingPosts(@Nullable Integer size) {
+        int resolvedSize = this.paginationProperties.resolveSize(size);
+        // 공개가 취소된 게시글을 빼고도 요청한 수를 채울 수 있도록 두 배를 읽는다.
+        List<ScoredPost> scoredPosts = this.trendingScoreBoard.getTopPosts(resolvedSize * 2,
+                System.currentTimeMillis());
+        if (scoredPosts.isEmpty()) {
+            return List.of();
+        }
+        List<Long> postIds = scoredPosts.stream().map(ScoredPost::postId).toList();
+        Map<Long, PostSummaryDto> summaries = this.postRepository
+            .findSummariesByIdInAndReadStatus(postIds, PublicationStatus.PUBLIC_PUBLISHED)
+            .stream()
+            .collect(Collectors.toMap(PostSummaryDto::postId, Function.identity()));
+        return scoredPosts.stream()
+            .filter((scoredPost) -> summaries.containsKey(scoredPost.postId()))
+            .limit(resolvedSize)
+            .map((scoredPost) -> {
+                PostSummaryDto post = summaries.get(scoredPost.postId());
+                return new TrendingPostDto(post.postId(), post.title(), post.userId(), scoredPost.score(),
+                        post.createdAt());
+            })
+            .toList();
+    }
+
+    // 메모리에서만 점수를 더하므로 요청 스레드에서 바로 처리한다.
+    @EventListener
+    public void handlePostViewed(PostViewedEvent event) {
+        this.trendingScoreBoard.add(event.postId(), this.trendingProperties.viewWeight(), System.currentTimeMillis());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleReplyCreated(ReplyCreatedEvent event) {
+        this.trendingScoreBoard.add(event.postId(), this.trendingProperties.replyWeight(), System.currentTimeMillis());
+    }
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handlePostDeleted(PostDeletedEvent event) {
+        this.trendingScoreBoard.remove(event.postId());
+    }
+
+}
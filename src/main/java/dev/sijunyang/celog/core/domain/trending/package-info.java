@@ -0,0 +1,4 @@
+/**
+ * 최근 반응이 많은 게시글의 순위를 계산하는 인기 게시글 기능의 중심이 되는 패키지입니다.
+ */
+package dev.sijunyang.celog.core.domain.trending;
@@ -3,6 +3,7 @@ package dev.sijunyang.celog.core.domain.user;
 import dev.sijunyang.celog.core.global.enums.AuthenticationType;
 import dev.sijunyang.celog.core.global.enums.Role;
 import dev.sijunyang.celog.core.global.jpa.BaseTimeEntity;
+import dev.sijunyang.celog.core.global.jpa.IdGenerators;
 import jakarta.persistence.AttributeOverride;
 import jakarta.persistence.AttributeOverrides;
 import jakarta.persistence.Column;
@@ -14,6 +15,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import jakarta.persistence.UniqueConstraint;
 import jakarta.validation.constraints.AssertTrue;
 import jakarta.validation.constraints.NotNull;
@@ -40,7 +42,10 @@ public class UserEntity extends BaseTimeEntity {
      * 사용자의 고유 식별자입니다.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = IdGenerators.USERS)
+    @TableGenerator(name = IdGenerators.USERS, table = IdGenerators.TABLE, pkColumnName = IdGenerators.SEGMENT_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = IdGenerators.USERS,
+            allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long id;
 
     /**
@@ -87,6 +92,12 @@ public class UserEntity extends BaseTimeEntity {
     @Enumerated(EnumType.STRING)
     private Role role;
 
+    /**
+     * 사용자를 팔로우하는 사용자 수입니다. 팔로우와 언팔로우 시 UPDATE 문으로만 변경하므로, 엔티티를 저장할 때는 이 값을 쓰지 않습니다.
+     */
+    @Column(insertable = false, updatable = false, columnDefinition = "BIGINT NOT NULL DEFAULT 0")
+    private long followerCount;
+
     @Builder
     public UserEntity(Long id, String name, @Nullable String email, @Nullable OauthUser oauthUser,
             @Nullable String profileUrl, AuthenticationType authenticationType, Role role) {
@@ -5,6 +5,9 @@ import java.util.Optional;
 import jakarta.validation.constraints.NotNull;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 /**
  * {@link UserEntity}를 처리하는 JpaRepository입니다.
@@ -23,4 +26,12 @@ public interface UserRepository extends JpaRepository<UserEntity, Long> {
     boolean existsByOauthUser_OauthProviderNameAndOauthUser_OauthUserId(@NotNull String oauthProviderName,
             @NotNull String oauthUserId);
 
+    @Query("SELECT u.followerCount FROM users u WHERE u.id = :id")
+    Optional<Long> findFollowerCountById(@Param("id") Long id);
+
+    // 동시에 팔로우해도 값을 잃지 않도록 읽지 않고 증감한다.
+    @Modifying
+    @Query("UPDATE users u SET u.followerCount = u.followerCount + :delta WHERE u.id = :id")
+    int addFollowerCount(@Param("id") Long id, @Param("delta") long delta);
+
 }
@@ -2,6 +2,8 @@ package dev.sijunyang.celog.core.domain.user;
 
 import java.util.Map;
 
+import dev.sijunyang.celog.core.global.cache.CacheNames;
+import dev.sijunyang.celog.core.global.cache.ReplicaReads;
 import dev.sijunyang.celog.core.global.enums.Role;
 import dev.sijunyang.celog.core.global.error.nextVer.InsufficientPermissionException;
 import dev.sijunyang.celog.core.global.error.nextVer.InvalidInputException;
@@ -9,6 +11,8 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
 
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
 
@@ -19,6 +23,8 @@ public class UserService {
 
     private final UserRepository userRepository;
 
+    private final CacheManager cacheManager;
+
     /**
      * 새로운 사용자를 생성합니다.
      * @param request 사용자 정보
@@ -36,6 +42,7 @@ public class UserService {
             .build();
 
         this.userRepository.save(userEntity);
+        evictUserExistence(userEntity.getId());
     }
 
     /**
@@ -72,6 +79,7 @@ public class UserService {
     public void deleteUser(@NotNull @Valid RequestUser requester, long userId) {
         validateUserEditable(requester, userId);
         this.userRepository.deleteById(userId);
+        evictUserExistence(userId);
     }
 
     /**
@@ -85,6 +93,25 @@ public class UserService {
             .toUserDto();
     }
 
+    /**
+     * 사용자를 팔로우하는 사용자 수를 조회합니다.
+     * @param userId 조회할 사용자 ID
+     * @return 팔로워 수
+     */
+    public long getFollowerCount(long userId) {
+        return this.userRepository.findFollowerCountById(userId)
+            .orElseThrow(() -> new InvalidInputException(createUserNotFoundErrorMessage(Map.of("userId", userId))));
+    }
+
+    /**
+     * 사용자의 팔로워 수를 증감합니다. 팔로우 정보를 저장하거나 삭제하는 트랜잭션 안에서 호출해야 합니다.
+     * @param userId 팔로우된 사용자 ID
+     * @param delta 증감할 값
+     */
+    public void addFollowerCount(long userId, long delta) {
+        this.userRepository.addFollowerCount(userId, delta);
+    }
+
     /**
      * 사용자 이메일로 사용자 정보를 조회합니다.
      * @param email 조회할 사용자 이메일
@@ -130,14 +157,23 @@ public class UserService {
     }
 
     /**
-     * 사용자가 존재하는지 검사합니다.
+     * 사용자가 존재하는지 검사합니다. 존재가 확인된 사용자는 캐시에 저장되어 이후 검사에서 쿼리를 실행하지 않습니다. 존재하지 않는다는 결과는 캐시하지 않으므로
+     * 새로 가입한 사용자가 잘못 거부되는 일은 없습니다. 복제 데이터베이스에서 확인한 결과도 캐시하지 않습니다.
      * @param userId 조회할 사용자 ID
      * @throws InvalidInputException 사용자를 찾을 수 없는 경우
      */
     public void validateUserExistence(long userId) {
+        Cache userExistenceCache = getUserExistenceCache();
+        if (userExistenceCache.get(userId) != null) {
+            return;
+        }
         if (!this.userRepository.existsById(userId)) {
             throw new InvalidInputException("사용자의 ID가 유효하지 않습니다. userId: " + userId);
         }
+        // 복제 데이터베이스에서는 이미 삭제된 사용자가 아직 남아 있을 수 있으므로 캐시에 넣지 않는다.
+        if (!ReplicaReads.isCurrentTransactionReadFromReplica()) {
+            userExistenceCache.put(userId, Boolean.TRUE);
+        }
     }
 
     private void validateEmailUnique(@NotNull String email) {
@@ -155,6 +191,16 @@ public class UserService {
         }
     }
 
+    private void evictUserExistence(Long userId) {
+        if (userId != null) {
+            getUserExistenceCache().evict(userId);
+        }
+    }
+
+    private Cache getUserExistenceCache() {
+        return this.cacheManager.getCache(CacheNames.USER_EXISTENCE);
+    }
+
     private String createUserNotFoundErrorMessage(Map inputs) {
         return "사용자를 찾을 수 없습니다. inputs: " + inputs;
     }
@@ -0,0 +1,16 @@
+package dev.sijunyang.celog.core.global.async;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * {@link EnableAsync} 어노테이션을 사용하여 비동기 메서드 실행을 활성화합니다. 비동기 메서드는 Spring Boot가 구성하는
+ * applicationTaskExecutor 에서 실행되며, 스레드 수와 대기열 크기는 spring.task.execution 설정으로 조정합니다.
+ *
+ * @author Sijun Yang
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+}
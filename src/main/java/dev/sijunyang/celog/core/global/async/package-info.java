@@ -0,0 +1,4 @@
+/**
+ * 요청 스레드와 분리해서 실행하는 비동기 작업의 설정을 관리하는 패키지입니다.
+ */
+package dev.sijunyang.celog.core.global.async;
@@ -0,0 +1,53 @@
+package dev.sijunyang.celog.core.global.cache;
+
+import java.util.List;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Caffeine 기반의 {@link CacheManager}를 구성합니다. 모든 캐시는 통계를 기록하므로 Actuator의 cache.gets, cache.size,
+ * cache.evictions 메트릭으로 적중률과 제거 횟수를 확인할 수 있습니다.
+ *
+ * <p>
+ * {@link CaffeineCacheManager}를 {@link TransactionAwareCacheManagerProxy}로 감싸므로, 트랜잭션 안에서의 저장과 삭제는 커밋 이후에
+ * 반영되어 롤백되거나 아직 커밋되지 않은 데이터가 캐시에 남지 않습니다. 메트릭은 감싸진 Caffeine 캐시에서 그대로 수집됩니다.
+ *
+ * @author Sijun Yang
+ */
+@Configuration
+@EnableConfigurationProperties({ CelogCacheProperties.class })
+@RequiredArgsConstructor
+public class CacheConfig {
+
+    private final CelogCacheProperties cacheProperties;
+
+    @Bean
+    public CacheManager cacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        // 등록하지 않은 이름의 캐시가 설정 없이 동적으로 만들어지지 않도록 막는다.
+        cacheManager.setCacheNames(List.of());
+        cacheManager.registerCustomCache(CacheNames.USER_EXISTENCE,
+                createCache(this.cacheProperties.userExistence()));
+        cacheManager.registerCustomCache(CacheNames.POSTS, createCache(this.cacheProperties.posts()));
+        cacheManager.registerCustomCache(CacheNames.POST_HTML, createCache(this.cacheProperties.postHtml()));
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+
+    private Cache<Object, Object> createCache(CelogCacheProperties.CacheSpec spec) {
+        return Caffeine.newBuilder()
+            .maximumSize(spec.maximumSize())
+            .expireAfterWrite(spec.expireAfterWrite())
+            .recordStats()
+            .build();
+    }
+
+}
@@ -0,0 +1,31 @@
+package dev.sijunyang.celog.core.global.cache;
+
+/**
+ * {@link CacheConfig}에 등록된 캐시의 이름을 관리하는 클래스입니다. 어느 캐시도 복제 데이터베이스에서 읽은 값으로 채우지 않습니다.
+ *
+ * @author Sijun Yang
+ * @see ReplicaReads
+ */
+public final class CacheNames {
+
+    /**
+     * 존재가 확인된 사용자 ID를 저장하는 캐시입니다. 존재하지 않는다는 결과는 저장하지 않습니다.
+     */
+    public static final String USER_EXISTENCE = "userExistence";
+
+    /**
+     * 자주 조회되는 게시글의 {@code PostDto}를 게시글 ID로 저장하는 캐시입니다. 캐시된 게시글은 요청마다 따로 읽은 수정 시간과 같을 때만 사용하고,
+     * 접근 권한은 캐시된 값으로 판단하지 않습니다.
+     */
+    public static final String POSTS = "posts";
+
+    /**
+     * 게시글 내용을 렌더링한 HTML 을 게시글 ID로 저장하는 캐시입니다.
+     */
+    public static final String POST_HTML = "postHtml";
+
+    private CacheNames() {
+        // 인스턴스 생성을 방지하기 위한 private 생성자
+    }
+
+}
@@ -0,0 +1,31 @@
+package dev.sijunyang.celog.core.global.cache;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 캐시별 크기와 만료 시간 설정입니다.
+ *
+ * @param userExistence 사용자 존재 여부 캐시 설정. 다른 인스턴스에서 삭제된 사용자는 만료 시간 동안 존재하는 것으로 보일 수 있으므로 짧게
+ * 유지합니다.
+ * @param posts 게시글 캐시 설정. 최대 크기를 넘으면 조회 빈도가 낮은 게시글부터 제거됩니다.
+ * @param postHtml 렌더링된 게시글 HTML 캐시 설정. 항목 하나가 게시글 내용보다 크므로 게시글 캐시보다 작게 유지합니다.
+ * @author Sijun Yang
+ */
+@ConfigurationProperties(prefix = "celog.cache")
+public record CelogCacheProperties(@DefaultValue CacheSpec userExistence, @DefaultValue CacheSpec posts,
+        @DefaultValue CacheSpec postHtml) {
+
+    /**
+     * 하나의 캐시에 대한 설정입니다.
+     *
+     * @param maximumSize 캐시에 저장할 최대 항목 수
+     * @param expireAfterWrite 항목이 저장된 뒤 만료되기까지의 시간
+     */
+    public record CacheSpec(@DefaultValue("10000") long maximumSize, @DefaultValue("30s") Duration expireAfterWrite) {
+
+    }
+
+}
@@ -0,0 +1,52 @@
+package dev.sijunyang.celog.core.global.cache;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 현재 트랜잭션이 복제 데이터베이스에서 읽었는지를 기록하는 클래스입니다.
+ *
+ * <p>
+ * 복제 데이터베이스는 주 데이터베이스보다 늦을 수 있으므로, 복제 데이터베이스에서 읽은 값은 여러 요청이 함께 쓰는 캐시에 넣지 않습니다. 그렇지 않으면 복제
+ * 지연 동안의 지난 값이 캐시 만료 시간만큼 남을 수 있습니다. 복제 데이터베이스의 커넥션을 내어주는 DataSource 가 {@link #markCurrentTransaction()}을
+ * 호출하고, 캐시를 채우는 곳은 {@link #isCurrentTransactionReadFromReplica()}로 확인합니다.
+ *
+ * @author Sijun Yang
+ */
+public final class ReplicaReads {
+
+    private static final Object RESOURCE_KEY = ReplicaReads.class.getName() + ".REPLICA_READ";
+
+    private ReplicaReads() {
+        // 인스턴스 생성을 방지하기 위한 private 생성자
+    }
+
+    /**
+     * 현재 트랜잭션이 복제 데이터베이스에서 읽는다고 기록합니다. 기록은 트랜잭션이 끝날 때 지워집니다. 트랜잭션 동기화가 활성화되지 않았다면 아무것도 하지
+     * 않습니다.
+     */
+    public static void markCurrentTransaction() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(RESOURCE_KEY)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(RESOURCE_KEY, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(RESOURCE_KEY);
+            }
+
+        });
+    }
+
+    /**
+     * 현재 트랜잭션이 복제 데이터베이스에서 읽었는지 확인합니다.
+     * @return 복제 데이터베이스에서 읽었다면 true
+     */
+    public static boolean isCurrentTransactionReadFromReplica() {
+        return TransactionSynchronizationManager.hasResource(RESOURCE_KEY);
+    }
+
+}
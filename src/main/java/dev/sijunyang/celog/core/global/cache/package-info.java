@@ -0,0 +1,4 @@
+/**
+ * 애플리케이션 내부(in-process) 캐시의 설정을 관리하는 패키지입니다.
+ */
+package dev.sijunyang.celog.core.global.cache;
@@ -0,0 +1,25 @@
+package dev.sijunyang.celog.core.global.error.nextVer;
+
+import dev.sijunyang.celog.core.global.error.TitleProvider;
+
+/**
+ * 요청이 기준으로 삼은 리소스 상태가 그 사이 다른 요청에 의해 바뀌었을 때 발생합니다.
+ *
+ * @author Sijun Yang
+ */
+public class ResourceConflictException extends RuntimeException implements TitleProvider {
+
+    public ResourceConflictException(String message) {
+        super(message);
+    }
+
+    public ResourceConflictException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    @Override
+    public String getTitle() {
+        return "Resource_Conflict";
+    }
+
+}
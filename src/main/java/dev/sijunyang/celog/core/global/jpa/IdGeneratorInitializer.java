@@ -0,0 +1,59 @@
+package dev.sijunyang.celog.core.global.jpa;
+
+import java.util.List;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link IdGenerators#TABLE} 테이블이 이미 저장된 엔티티의 ID보다 큰 ID를 발급하도록 초기화합니다.
+ *
+ * <p>
+ * IDENTITY 로 저장된 기존 데이터가 있는 상태에서 테이블 기반 생성기를 처음 사용하면 1부터 ID를 발급해 기존 ID와 충돌합니다. 그래서 모든 싱글톤
+ * 빈이 만들어진 뒤, 웹 서버가 요청을 받기 전에 엔티티 테이블별로 다음 ID 구간이 현재 최대 ID 이후에서 시작하도록 맞춥니다. 이미 더 큰 값이 저장되어
+ * 있다면 그대로 두므로 여러 번 실행해도 안전합니다. 기존 IDENTITY 로 INSERT 하는 인스턴스와 동시에 운영하면 ID가 충돌할 수 있으므로, 배포 시에는
+ * 기존 인스턴스를 먼저 내려야 합니다.
+ *
+ * @author Sijun Yang
+ */
+@Component
+@RequiredArgsConstructor
+public class IdGeneratorInitializer implements SmartInitializingSingleton {
+
+    private static final List<String> ENTITY_TABLES = List.of(IdGenerators.POST, IdGenerators.REPLY,
+            IdGenerators.USERS, IdGenerators.POST_REVISION, IdGenerators.FOLLOW);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        this.jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + IdGenerators.TABLE + " ("
+                + IdGenerators.SEGMENT_COLUMN + " VARCHAR(255) NOT NULL PRIMARY KEY, " + IdGenerators.VALUE_COLUMN
+                + " BIGINT)");
+        ENTITY_TABLES.forEach(this::initialize);
+    }
+
+    // pooled 최적화는 저장된 값을 구간의 마지막 ID로 사용하므로, (최대 ID + 할당 크기)를 저장해야 최대 ID 다음부터 발급한다.
+    private void initialize(String entityTable) {
+        String updateSql = "UPDATE " + IdGenerators.TABLE + " SET " + IdGenerators.VALUE_COLUMN + " = GREATEST("
+                + IdGenerators.VALUE_COLUMN + ", (SELECT COALESCE(MAX(id), 0) + ? FROM " + entityTable + ")) WHERE "
+                + IdGenerators.SEGMENT_COLUMN + " = ?";
+        if (this.jdbcTemplate.update(updateSql, IdGenerators.ALLOCATION_SIZE, entityTable) > 0) {
+            return;
+        }
+        String insertSql = "INSERT INTO " + IdGenerators.TABLE + " (" + IdGenerators.SEGMENT_COLUMN + ", "
+                + IdGenerators.VALUE_COLUMN + ") SELECT ?, COALESCE(MAX(id), 0) + ? FROM " + entityTable;
+        try {
+            this.jdbcTemplate.update(insertSql, entityTable, IdGenerators.ALLOCATION_SIZE);
+        }
+        catch (DuplicateKeyException ex) {
+            // 다른 인스턴스가 먼저 추가했다면 그 값을 기준으로 다시 맞춘다.
+            this.jdbcTemplate.update(updateSql, IdGenerators.ALLOCATION_SIZE, entityTable);
+        }
+    }
+
+}
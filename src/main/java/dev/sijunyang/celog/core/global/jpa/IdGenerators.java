@@ -0,0 +1,64 @@
+package dev.sijunyang.celog.core.global.jpa;
+
+/**
+ * 엔티티 ID를 발급하는 테이블 기반 생성기의 설정을 관리하는 클래스입니다.
+ *
+ * <p>
+ * {@code GenerationType.IDENTITY}는 INSERT 를 실행해야 ID를 알 수 있어서 Hibernate 가 INSERT 를 배치로 묶지 못합니다. 대신
+ * {@value #TABLE} 테이블에서 엔티티별로 {@value #ALLOCATION_SIZE}개의 ID를 한 번에 할당받아 메모리에서 발급합니다(pooled 최적화). 서버가
+ * 재시작되면 할당받고 사용하지 않은 ID는 건너뛰므로 ID가 연속적이지 않을 수 있습니다.
+ *
+ * @author Sijun Yang
+ */
+public final class IdGenerators {
+
+    /**
+     * ID 할당 정보를 저장하는 테이블 이름입니다.
+     */
+    public static final String TABLE = "id_generator";
+
+    /**
+     * 엔티티를 구분하는 컬럼 이름입니다.
+     */
+    public static final String SEGMENT_COLUMN = "sequence_name";
+
+    /**
+     * 다음에 할당할 ID 구간의 마지막 값을 저장하는 컬럼 이름입니다.
+     */
+    public static final String VALUE_COLUMN = "next_val";
+
+    /**
+     * 한 번에 할당받는 ID 수입니다. 배치 INSERT 크기 이상으로 설정해야 배치 중간에 ID를 할당받지 않습니다.
+     */
+    public static final int ALLOCATION_SIZE = 100;
+
+    /**
+     * 게시글 ID 생성기 이름이자 구분 값입니다.
+     */
+    public static final String POST = "post";
+
+    /**
+     * 댓글 ID 생성기 이름이자 구분 값입니다.
+     */
+    public static final String REPLY = "reply";
+
+    /**
+     * 사용자 ID 생성기 이름이자 구분 값입니다.
+     */
+    public static final String USERS = "users";
+
+    /**
+     * 게시글 수정 이력 ID 생성기 이름이자 구분 값입니다.
+     */
+    public static final String POST_REVISION = "post_revision";
+
+    /**
+     * 팔로우 ID 생성기 이름이자 구분 값입니다.
+     */
+    public static final String FOLLOW = "follow";
+
+    private IdGenerators() {
+        // 인스턴스 생성을 방지하기 위한 private 생성자
+    }
+
+}
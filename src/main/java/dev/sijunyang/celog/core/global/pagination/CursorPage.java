@@ -0,0 +1,41 @@
+package dev.sijunyang.celog.core.global.pagination;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * 커서 기반으로 조회한 한 페이지의 결과입니다. 다음 페이지가 있다면 다음 요청에 사용할 커서 값을 함께 제공합니다.
+ *
+ * @param <T> 페이지 항목 타입
+ * @param contents 페이지 항목 리스트
+ * @param hasNext 다음 페이지 존재 여부
+ * @param nextCursorCreatedAt 다음 페이지 요청에 사용할 생성 시간 커서, 다음 페이지가 없다면 null
+ * @param nextCursorId 다음 페이지 요청에 사용할 ID 커서, 다음 페이지가 없다면 null
+ * @author Sijun Yang
+ */
+public record CursorPage<T>(List<T> contents, boolean hasNext, @Nullable LocalDateTime nextCursorCreatedAt,
+        @Nullable Long nextCursorId) {
+
+    /**
+     * 페이지 크기보다 하나 더 조회한 결과로 CursorPage를 생성합니다. 초과 조회된 항목이 있다면 다음 페이지가 있는 것으로 판단합니다.
+     * @param <T> 페이지 항목 타입
+     * @param fetched 페이지 크기 + 1 만큼 조회한 항목 리스트
+     * @param size 페이지 크기
+     * @param createdAtExtractor 항목에서 생성 시간을 꺼내는 함수
+     * @param idExtractor 항목에서 ID를 꺼내는 함수
+     * @return 생성된 CursorPage
+     */
+    public static <T> CursorPage<T> of(List<T> fetched, int size, Function<T, LocalDateTime> createdAtExtractor,
+            Function<T, Long> idExtractor) {
+        if (fetched.size() <= size) {
+            return new CursorPage<>(fetched, false, null, null);
+        }
+        List<T> contents = fetched.subList(0, size);
+        T last = contents.get(size - 1);
+        return new CursorPage<>(List.copyOf(contents), true, createdAtExtractor.apply(last), idExtractor.apply(last));
+    }
+
+}
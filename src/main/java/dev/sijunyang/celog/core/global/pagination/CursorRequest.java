@@ -0,0 +1,36 @@
+package dev.sijunyang.celog.core.global.pagination;
+
+import java.time.LocalDateTime;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.lang.Nullable;
+
+/**
+ * (createdAt, id) 기준의 커서 페이지 요청 정보입니다. 첫 페이지를 요청할 때는 커서 값을 비워둡니다.
+ *
+ * @param cursorCreatedAt 이전 페이지 마지막 항목의 생성 시간
+ * @param cursorId 이전 페이지 마지막 항목의 ID
+ * @param size 요청하는 페이지 크기, null 이면 기본 크기를 사용합니다.
+ * @author Sijun Yang
+ */
+public record CursorRequest(@Nullable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorCreatedAt,
+        @Nullable Long cursorId, @Nullable Integer size) {
+
+    /**
+     * 첫 페이지를 요청하는 CursorRequest를 생성합니다.
+     * @param size 요청하는 페이지 크기
+     * @return 첫 페이지 요청 정보
+     */
+    public static CursorRequest first(@Nullable Integer size) {
+        return new CursorRequest(null, null, size);
+    }
+
+    /**
+     * 첫 페이지 요청인지 확인합니다.
+     * @return 커서 값이 하나라도 비어있다면 true
+     */
+    public boolean isFirstPage() {
+        return this.cursorCreatedAt == null || this.cursorId == null;
+    }
+
+}
@@ -0,0 +1,15 @@
+package dev.sijunyang.celog.core.global.pagination;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * {@link PaginationProperties}를 활성화합니다.
+ *
+ * @author Sijun Yang
+ */
+@Configuration
+@EnableConfigurationProperties({ PaginationProperties.class })
+public class PaginationConfig {
+
+}
@@ -0,0 +1,29 @@
+package dev.sijunyang.celog.core.global.pagination;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.lang.Nullable;
+
+/**
+ * 커서 페이지네이션의 페이지 크기 설정입니다.
+ *
+ * @param defaultSize 페이지 크기를 지정하지 않았을 때 사용하는 크기
+ * @param maxSize 한 번에 조회할 수 있는 최대 크기
+ * @author Sijun Yang
+ */
+@ConfigurationProperties(prefix = "celog.pagination")
+public record PaginationProperties(@DefaultValue("20") int defaultSize, @DefaultValue("100") int maxSize) {
+
+    /**
+     * 요청된 페이지 크기를 설정 범위 안으로 보정합니다.
+     * @param size 요청된 페이지 크기
+     * @return 1 이상 maxSize 이하의 페이지 크기
+     */
+    public int resolveSize(@Nullable Integer size) {
+        if (size == null) {
+            return this.defaultSize;
+        }
+        return Math.max(1, Math.min(size, this.maxSize));
+    }
+
+}
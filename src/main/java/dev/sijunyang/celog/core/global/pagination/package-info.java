@@ -0,0 +1,4 @@
+/**
+ * 커서(키셋) 기반 페이지네이션을 지원하는 패키지입니다.
+ */
+package dev.sijunyang.celog.core.global.pagination;
@@ -0,0 +1,15 @@
+package dev.sijunyang.celog.core.global.scheduling;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * {@link EnableScheduling} 어노테이션을 사용하여 스케줄링 기능을 활성화합니다.
+ *
+ * @author Sijun Yang
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+}
@@ -0,0 +1,4 @@
+/**
+ * 주기적으로 실행되는 백그라운드 작업의 설정을 관리하는 패키지입니다.
+ */
+package dev.sijunyang.celog.core.global.scheduling;
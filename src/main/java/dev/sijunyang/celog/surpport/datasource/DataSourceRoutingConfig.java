@@ -0,0 +1,91 @@
+package dev.sijunyang.celog.surpport.datasource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * {@code celog.datasource.replica.enabled} 가 true 일 때 Spring Boot 의 기본 DataSource 대신
+ * {@link ReplicationRoutingDataSource}를 구성합니다. 주 데이터베이스 접속 정보와 커넥션 풀 설정은 {@code spring.datasource} 설정을
+ * 그대로 사용합니다.
+ *
+ * @author Sijun Yang
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "celog.datasource.replica", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties({ ReplicaDataSourceProperties.class })
+@RequiredArgsConstructor
+public class DataSourceRoutingConfig {
+
+    private final ReplicaDataSourceProperties replicaProperties;
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties,
+            ObjectProvider<JdbcConnectionDetails> connectionDetailsProvider) {
+        // 로컬에서는 docker compose 가 제공하는 접속 정보를 사용한다.
+        JdbcConnectionDetails connectionDetails = connectionDetailsProvider.getIfAvailable();
+        if (connectionDetails != null) {
+            return DataSourceBuilder.create(dataSourceProperties.getClassLoader())
+                .type(HikariDataSource.class)
+                .driverClassName(connectionDetails.getDriverClassName())
+                .url(connectionDetails.getJdbcUrl())
+                .username(connectionDetails.getUsername())
+                .password(connectionDetails.getPassword())
+                .build();
+        }
+        return dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicationRoutingDataSource replicationRoutingDataSource(HikariDataSource primaryDataSource) {
+        List<HikariDataSource> replicas = new ArrayList<>();
+        List<ReplicaDataSourceProperties.Instance> instances = this.replicaProperties.instances();
+        for (int i = 0; i < instances.size(); i++) {
+            replicas.add(createReplicaDataSource(primaryDataSource, instances.get(i), i));
+        }
+        return new ReplicationRoutingDataSource(primaryDataSource, replicas);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicationRoutingDataSource replicationRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicationRoutingDataSource);
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter() {
+        return new ReadYourWritesFilter(this.replicaProperties.readYourWritesDuration());
+    }
+
+    // 주 데이터베이스의 커넥션 풀 설정을 복사하고, 접속 정보와 커넥션 대기 시간만 바꾼다.
+    private HikariDataSource createReplicaDataSource(HikariDataSource primaryDataSource,
+            ReplicaDataSourceProperties.Instance instance, int index) {
+        HikariDataSource replica = new HikariDataSource();
+        primaryDataSource.copyStateTo(replica);
+        replica.setPoolName("celog-replica-" + index);
+        replica.setJdbcUrl(instance.url());
+        replica.setUsername(instance.username());
+        replica.setPassword(instance.password());
+        replica.setReadOnly(true);
+        replica.setConnectionTimeout(this.replicaProperties.connectionTimeout().toMillis());
+        return replica;
+    }
+
+}
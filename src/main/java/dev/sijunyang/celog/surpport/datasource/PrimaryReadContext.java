@@ -0,0 +1,30 @@
+package dev.sijunyang.celog.surpport.datasource;
+
+/**
+ * 현재 스레드의 읽기 전용 트랜잭션도 주 데이터베이스로 보내야 하는지를 보관하는 클래스입니다.
+ *
+ * <p>
+ * 요청 스레드에만 설정되므로, 비동기로 실행되는 작업의 읽기 전용 트랜잭션은 이 값과 관계없이 복제 데이터베이스로 보내질 수 있습니다.
+ *
+ * @author Sijun Yang
+ */
+final class PrimaryReadContext {
+
+    private static final ThreadLocal<Boolean> PRIMARY_READ_REQUIRED = new ThreadLocal<>();
+
+    private PrimaryReadContext() {
+    }
+
+    static void require() {
+        PRIMARY_READ_REQUIRED.set(Boolean.TRUE);
+    }
+
+    static boolean isRequired() {
+        return Boolean.TRUE.equals(PRIMARY_READ_REQUIRED.get());
+    }
+
+    static void clear() {
+        PRIMARY_READ_REQUIRED.remove();
+    }
+
+}
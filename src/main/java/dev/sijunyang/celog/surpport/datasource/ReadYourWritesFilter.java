@@ -0,0 +1,64 @@
+package dev.sijunyang.celog.surpport.datasource;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.WebUtils;
+
+/**
+ * 사용자가 자신이 쓴 내용을 바로 읽을 수 있도록, 쓰기 요청 이후 일정 시간 동안 그 사용자의 읽기를 주 데이터베이스로 보내는 필터입니다.
+ *
+ * <p>
+ * 쓰기 요청에 만료 시간이 있는 쿠키를 붙이고, 쿠키가 남아있는 동안의 요청은 {@link PrimaryReadContext}를 설정합니다. 상태를 서버가 아닌 쿠키에
+ * 두므로 요청이 다른 인스턴스로 가도 같은 결과를 얻습니다.
+ *
+ * @author Sijun Yang
+ */
+@RequiredArgsConstructor
+class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    static final String COOKIE_NAME = "celog-read-primary";
+
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS", "TRACE");
+
+    private final Duration readYourWritesDuration;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean write = !SAFE_METHODS.contains(request.getMethod());
+        if (write) {
+            // 응답 본문이 쓰이기 전에 붙여야 하므로 요청을 처리하기 전에 붙인다.
+            response.addCookie(createCookie());
+        }
+        if (!write && WebUtils.getCookie(request, COOKIE_NAME) == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        PrimaryReadContext.require();
+        try {
+            filterChain.doFilter(request, response);
+        }
+        finally {
+            PrimaryReadContext.clear();
+        }
+    }
+
+    private Cookie createCookie() {
+        Cookie cookie = new Cookie(COOKIE_NAME, "1");
+        cookie.setPath("/");
+        cookie.setHttpOnly(true);
+        cookie.setMaxAge((int) Math.max(1, this.readYourWritesDuration.toSeconds()));
+        return cookie;
+    }
+
+}
@@ -0,0 +1,35 @@
+package dev.sijunyang.celog.surpport.datasource;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 복제 데이터베이스 설정입니다. 커넥션 풀 설정은 {@code spring.datasource.hikari} 설정을 그대로 따릅니다.
+ *
+ * @param enabled 읽기 전용 트랜잭션을 복제 데이터베이스로 보낼지 여부
+ * @param instances 복제 데이터베이스 목록
+ * @param connectionTimeout 복제 데이터베이스 커넥션을 기다리는 최대 시간. 장애가 난 복제 데이터베이스 때문에 요청이 오래 멈추지 않도록 짧게
+ * 유지합니다.
+ * @param readYourWritesDuration 사용자가 쓰기 요청을 보낸 뒤 그 사용자의 읽기를 주 데이터베이스로 보내는 시간. 복제 지연보다 길어야 합니다.
+ * @author Sijun Yang
+ */
+@ConfigurationProperties(prefix = "celog.datasource.replica")
+public record ReplicaDataSourceProperties(@DefaultValue("false") boolean enabled,
+        @DefaultValue List<Instance> instances, @DefaultValue("1s") Duration connectionTimeout,
+        @DefaultValue("5s") Duration readYourWritesDuration) {
+
+    /**
+     * 하나의 복제 데이터베이스에 대한 접속 정보입니다.
+     *
+     * @param url JDBC URL
+     * @param username 사용자 이름
+     * @param password 비밀번호
+     */
+    public record Instance(String url, String username, String password) {
+
+    }
+
+}
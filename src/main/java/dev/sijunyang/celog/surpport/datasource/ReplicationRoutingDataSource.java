@@ -0,0 +1,125 @@
+package dev.sijunyang.celog.surpport.datasource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import dev.sijunyang.celog.core.global.cache.ReplicaReads;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 읽기 전용 트랜잭션의 커넥션은 복제 데이터베이스에서, 나머지 커넥션은 주 데이터베이스에서 가져오는 DataSource 입니다.
+ *
+ * <p>
+ * 트랜잭션이 시작된 뒤 첫 쿼리를 실행할 때 커넥션을 가져와야 읽기 전용 여부를 알 수 있으므로,
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}로 감싸서 사용합니다. 복제 데이터베이스는 순서대로
+ * 돌아가며 사용하고, 주기적인 상태 확인이나 커넥션 획득에 실패한 복제 데이터베이스는 다음 상태 확인을 통과할 때까지 제외합니다. 사용할 수 있는 복제
+ * 데이터베이스가 없으면 주 데이터베이스를 사용합니다. 복제 지연은 확인하지 않으므로, 사용자가 자신이 쓴 내용을 읽는 경우는
+ * {@link ReadYourWritesFilter}가 주 데이터베이스로 보냅니다. 복제 데이터베이스의 커넥션을 내어준 트랜잭션은 {@link ReplicaReads}에 기록하여,
+ * 지연된 값으로 공유 캐시를 채우지 않게 합니다.
+ *
+ * @author Sijun Yang
+ */
+public class ReplicationRoutingDataSource extends AbstractDataSource implements DisposableBean {
+
+    private static final int HEALTH_CHECK_TIMEOUT_SECONDS = 1;
+
+    private final DataSource primaryDataSource;
+
+    private final List<Replica> replicas;
+
+    private final AtomicInteger nextReplicaIndex = new AtomicInteger();
+
+    public ReplicationRoutingDataSource(DataSource primaryDataSource, List<HikariDataSource> replicaDataSources) {
+        this.primaryDataSource = primaryDataSource;
+        this.replicas = replicaDataSources.stream().map(Replica::new).toList();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Replica replica = selectReplica();
+        if (replica == null) {
+            return this.primaryDataSource.getConnection();
+        }
+        try {
+            Connection connection = replica.dataSource.getConnection();
+            ReplicaReads.markCurrentTransaction();
+            return connection;
+        }
+        catch (SQLException ex) {
+            replica.healthy = false;
+            return this.primaryDataSource.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("사용자 이름과 비밀번호를 지정해 커넥션을 가져올 수 없습니다.");
+    }
+
+    /**
+     * 복제 데이터베이스마다 커넥션이 유효한지 확인해서 사용 여부를 갱신합니다.
+     */
+    @Scheduled(fixedDelayString = "${celog.datasource.replica.health-check-interval:PT5S}")
+    public void checkReplicaHealth() {
+        for (Replica replica : this.replicas) {
+            replica.healthy = isValid(replica.dataSource);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        this.replicas.forEach((replica) -> replica.dataSource.close());
+    }
+
+    @Nullable
+    private Replica selectReplica() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || PrimaryReadContext.isRequired()) {
+            return null;
+        }
+        int size = this.replicas.size();
+        if (size == 0) {
+            return null;
+        }
+        int start = Math.floorMod(this.nextReplicaIndex.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = this.replicas.get((start + i) % size);
+            if (replica.healthy) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    private boolean isValid(DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection()) {
+            return connection.isValid(HEALTH_CHECK_TIMEOUT_SECONDS);
+        }
+        catch (SQLException ex) {
+            return false;
+        }
+    }
+
+    private static final class Replica {
+
+        private final HikariDataSource dataSource;
+
+        private volatile boolean healthy = true;
+
+        private Replica(HikariDataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+    }
+
+}
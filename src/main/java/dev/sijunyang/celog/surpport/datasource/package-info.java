@@ -0,0 +1,4 @@
+/**
+ * 읽기 전용 트랜잭션을 복제 데이터베이스로 보내는 DataSource 구성이 위치합니다.
+ */
+package dev.sijunyang.celog.surpport.datasource;
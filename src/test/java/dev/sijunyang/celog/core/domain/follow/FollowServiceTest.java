@@ -0,0 +1,128 @@
+package dev.sijunyang.celog.core.domain.follow;
+
+import java.util.function.Consumer;
+
+import dev.sijunyang.celog.core.domain.user.RequestUser;
+import dev.sijunyang.celog.core.domain.user.UserService;
+import dev.sijunyang.celog.core.global.enums.Role;
+import dev.sijunyang.celog.core.global.error.nextVer.InvalidInputException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FollowServiceTest {
+
+    @Mock
+    private FollowRepository followRepository;
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private FollowService followService;
+
+    @BeforeEach
+    void setUp() {
+        // 트랜잭션 콜백을 바로 실행한다.
+        lenient().doAnswer((invocation) -> invocation.getArgument(0, TransactionCallback.class).doInTransaction(null))
+            .when(this.transactionTemplate)
+            .execute(any());
+        lenient().doAnswer((invocation) -> {
+            Consumer<TransactionStatus> action = invocation.getArgument(0);
+            action.accept(null);
+            return null;
+        }).when(this.transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Test
+    void shouldIncreaseFollowerCountWhenFollowing() {
+        // Given
+        RequestUser requester = new RequestUser(1L, Role.USER);
+        when(this.followRepository.existsByFollowerIdAndFolloweeId(1L, 2L)).thenReturn(false);
+
+        // When
+        this.followService.follow(requester, 2L);
+
+        // Then
+        verify(this.followRepository).saveAndFlush(any(FollowEntity.class));
+        verify(this.userService).addFollowerCount(2L, 1);
+    }
+
+    @Test
+    void shouldTreatConcurrentDuplicateFollowAsFollowed() {
+        // Given
+        RequestUser requester = new RequestUser(1L, Role.USER);
+        // 확인할 때는 없었지만, 저장하기 전에 같은 팔로우가 먼저 저장되었다.
+        when(this.followRepository.existsByFollowerIdAndFolloweeId(1L, 2L)).thenReturn(false, true);
+        when(this.followRepository.saveAndFlush(any(FollowEntity.class)))
+            .thenThrow(new DataIntegrityViolationException("uk_follow_follower_id_followee_id"));
+
+        // When & Then
+        assertDoesNotThrow(() -> this.followService.follow(requester, 2L));
+        verify(this.userService, never()).addFollowerCount(anyLong(), anyLong());
+    }
+
+    @Test
+    void shouldIgnoreDuplicateFollow() {
+        // Given
+        RequestUser requester = new RequestUser(1L, Role.USER);
+        when(this.followRepository.existsByFollowerIdAndFolloweeId(1L, 2L)).thenReturn(true);
+
+        // When
+        this.followService.follow(requester, 2L);
+
+        // Then
+        verify(this.followRepository, never()).saveAndFlush(any());
+        verify(this.userService, never()).addFollowerCount(anyLong(), anyLong());
+    }
+
+    @Test
+    void shouldPublishEventOnlyWhenUnfollowed() {
+        // Given
+        RequestUser requester = new RequestUser(1L, Role.USER);
+        when(this.followRepository.deleteByFollowerIdAndFolloweeId(1L, 2L)).thenReturn(1);
+
+        // When
+        this.followService.unfollow(requester, 2L);
+
+        // Then
+        verify(this.userService).addFollowerCount(2L, -1);
+        verify(this.eventPublisher).publishEvent(new UnfollowedEvent(1L, 2L));
+    }
+
+    @Test
+    void shouldRejectFollowingOneself() {
+        // Given
+        RequestUser requester = new RequestUser(1L, Role.USER);
+
+        // When & Then
+        assertThrows(InvalidInputException.class, () -> this.followService.follow(requester, 1L));
+        verify(this.followRepository, never()).saveAndFlush(any());
+    }
+
+}
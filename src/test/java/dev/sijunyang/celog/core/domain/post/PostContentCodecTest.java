@@ -0,0 +1,66 @@
+package dev.sijunyang.celog.core.domain.post;
+
+import java.util.Arrays;
+
+import dev.sijunyang.celog.core.global.enums.PublicationStatus;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PostContentCodecTest {
+
+    @Test
+    void shouldRestoreCompressedContent() {
+        // Given
+        String content = "# 스프링 부트\n\n```java\nSystem.out.println(\"hello\");\n```\n".repeat(100);
+
+        // When
+        byte[] compressedContent = PostContentCodec.compress(content);
+
+        // Then
+        assertTrue(compressedContent.length < content.length());
+        assertEquals(content, PostContentCodec.decompress(compressedContent));
+    }
+
+    @Test
+    void shouldStoreContentCompressedOnlyWhenRequested() {
+        // Given
+        String content = "압축할 게시글 내용".repeat(200);
+
+        // When
+        PostEntity compressedPost = createPost(content, true);
+        PostEntity plainPost = createPost(content, false);
+
+        // Then
+        assertNotNull(compressedPost.getCompressedContent());
+        assertEquals(content, compressedPost.getContent());
+        assertEquals(content, compressedPost.mapToPostDto().content());
+        assertNull(plainPost.getCompressedContent());
+        assertEquals(content, plainPost.getContent());
+    }
+
+    @Test
+    void shouldThrowExceptionWhenCompressedContentIsCorrupted() {
+        // Given
+        byte[] compressedContent = PostContentCodec.compress("손상될 게시글 내용".repeat(100));
+        byte[] truncatedContent = Arrays.copyOf(compressedContent, compressedContent.length / 2);
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> PostContentCodec.decompress(truncatedContent));
+    }
+
+    private PostEntity createPost(String content, boolean compressContent) {
+        return PostEntity.builder()
+            .title("제목")
+            .content(content)
+            .readStatus(PublicationStatus.PUBLIC_PUBLISHED)
+            .userId(1L)
+            .compressContent(compressContent)
+            .build();
+    }
+
+}
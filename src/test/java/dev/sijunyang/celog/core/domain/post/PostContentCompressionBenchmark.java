@@ -0,0 +1,96 @@
+package dev.sijunyang.celog.core.domain.post;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 게시글 내용을 압축하지 않고 저장할 때와 압축해서 저장할 때의 행 크기, 쓰기 지연, 읽기 지연을 비교합니다.
+ *
+ * <p>
+ * 데이터베이스 왕복 시간은 두 방식이 같으므로 제외하고, 애플리케이션에서 추가로 들어가는 인코딩 비용과 저장되는 바이트 수만 측정합니다.
+ * {@code ./gradlew benchmark} 로 실행합니다.
+ *
+ * @author Sijun Yang
+ */
+@Tag("benchmark")
+class PostContentCompressionBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 2_000;
+
+    private static final int MEASURED_ITERATIONS = 10_000;
+
+    private static final int[] CONTENT_LENGTHS = { 1_024, 16_384, 131_072 };
+
+    private static final Logger logger = LoggerFactory.getLogger(PostContentCompressionBenchmark.class);
+
+    @Test
+    void compareRowSizeAndLatency() {
+        logger.info(String.format("%10s | %12s | %12s | %7s | %14s | %14s | %14s | %14s", "length", "plain bytes",
+                "comp. bytes", "ratio", "plain write", "comp. write", "plain read", "comp. read"));
+        for (int contentLength : CONTENT_LENGTHS) {
+            String content = createMarkdown(contentLength);
+            byte[] plainContent = content.getBytes(StandardCharsets.UTF_8);
+            byte[] compressedContent = PostContentCodec.compress(content);
+            assertEquals(content, PostContentCodec.decompress(compressedContent));
+
+            long plainWriteNanos = measure(() -> content.getBytes(StandardCharsets.UTF_8).length);
+            long compressedWriteNanos = measure(() -> PostContentCodec.compress(content).length);
+            long plainReadNanos = measure(() -> new String(plainContent, StandardCharsets.UTF_8).length());
+            long compressedReadNanos = measure(() -> PostContentCodec.decompress(compressedContent).length());
+
+            logger.info(String.format("%10d | %12d | %12d | %6.1f%% | %11d ns | %11d ns | %11d ns | %11d ns",
+                    content.length(), plainContent.length, compressedContent.length,
+                    100.0 * compressedContent.length / plainContent.length, plainWriteNanos, compressedWriteNanos,
+                    plainReadNanos, compressedReadNanos));
+        }
+    }
+
+    // 한 번 실행하는 데 걸린 평균 시간(ns)을 반환한다. 결과를 누적해서 검증하므로 JIT 가 실행을 생략하지 못한다.
+    private long measure(Operation operation) {
+        long blackhole = 0;
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            blackhole += operation.run();
+        }
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            blackhole += operation.run();
+        }
+        long elapsed = System.nanoTime() - startedAt;
+        assertTrue(blackhole > 0);
+        return elapsed / MEASURED_ITERATIONS;
+    }
+
+    // 한글 문단, 목록, 코드 블록이 섞인 일반적인 기술 블로그 게시글과 비슷한 내용을 만든다.
+    private String createMarkdown(int length) {
+        StringBuilder builder = new StringBuilder(length + 256);
+        int section = 0;
+        while (builder.length() < length) {
+            builder.append("## ")
+                .append(section)
+                .append(". 스프링 부트에서 트랜잭션 전파 속성 이해하기\n\n")
+                .append("트랜잭션 전파 속성은 이미 진행 중인 트랜잭션이 있을 때 새 트랜잭션을 어떻게 시작할지 결정합니다. ")
+                .append("REQUIRED 는 기존 트랜잭션에 참여하고, REQUIRES_NEW 는 항상 새 트랜잭션을 시작합니다.\n\n")
+                .append("- 읽기 전용 트랜잭션은 변경 감지를 하지 않습니다.\n- 롤백 규칙은 예외 타입으로 정합니다.\n\n")
+                .append("```java\n@Transactional(propagation = Propagation.REQUIRES_NEW)\npublic void save")
+                .append(section)
+                .append("(PostEntity post) {\n    this.postRepository.save(post);\n}\n```\n\n");
+            section++;
+        }
+        return builder.substring(0, length);
+    }
+
+    @FunctionalInterface
+    private interface Operation {
+
+        int run();
+
+    }
+
+}
@@ -0,0 +1,150 @@
+package dev.sijunyang.celog.core.domain.post;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+
+import dev.sijunyang.celog.core.global.cache.CacheNames;
+import dev.sijunyang.celog.core.global.enums.PublicationStatus;
+import dev.sijunyang.celog.core.global.error.nextVer.InsufficientPermissionException;
+import dev.sijunyang.celog.core.global.error.nextVer.ResourceConflictException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PostDraftBufferTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Spy
+    private PostContentCompressionProperties contentCompressionProperties = new PostContentCompressionProperties(
+            false, 1024, 500);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @InjectMocks
+    private PostDraftBuffer postDraftBuffer;
+
+    private final Cache postCache = new ConcurrentMapCache(CacheNames.POSTS);
+
+    private final LocalDateTime modifiedAt = LocalDateTime.now().minusMinutes(1).truncatedTo(ChronoUnit.MICROS);
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(this.cacheManager.getCache(CacheNames.POSTS)).thenReturn(this.postCache);
+        lenient().when(this.postRepository.findVersionById(1L))
+            .thenReturn(Optional.of(new PostVersionDto(1L, 1L, PublicationStatus.DRAFTING, this.modifiedAt, 0, 0, 0)));
+    }
+
+    @Test
+    void shouldCoalesceAutosavesIntoOneUpdate() {
+        // Given
+        long baseVersion = PostDraftBuffer.toVersion(this.modifiedAt);
+        DraftAutosaveDto first = this.postDraftBuffer.autosave(1L, 1L,
+                new AutosaveDraftRequest("제목", "첫째", baseVersion));
+        DraftAutosaveDto second = this.postDraftBuffer.autosave(1L, 1L,
+                new AutosaveDraftRequest("제목", "둘째", first.version()));
+        when(this.jdbcTemplate.update(anyString(), any(), any(), any(), any(), any(), any())).thenReturn(1);
+        this.postCache.put(1L, "cached post");
+
+        // When
+        this.postDraftBuffer.flush();
+
+        // Then
+        assertTrue(first.version() > baseVersion);
+        assertTrue(second.version() > first.version());
+        verify(this.postRepository, times(1)).findVersionById(1L);
+        verify(this.jdbcTemplate, times(1)).update(anyString(), eq("제목"), eq("둘째"), isNull(), any(), eq(1L),
+                eq(this.modifiedAt));
+        assertNull(this.postDraftBuffer.getPendingDraft(1L, 1L));
+        assertNull(this.postCache.get(1L));
+    }
+
+    @Test
+    void shouldRejectAutosaveBasedOnStaleVersion() {
+        // Given
+        long baseVersion = PostDraftBuffer.toVersion(this.modifiedAt);
+        this.postDraftBuffer.autosave(1L, 1L, new AutosaveDraftRequest("제목", "다른 탭", baseVersion));
+
+        // When & Then
+        assertThrows(ResourceConflictException.class, () -> this.postDraftBuffer.autosave(1L, 1L,
+                new AutosaveDraftRequest("제목", "이전 탭", baseVersion)));
+        assertEquals("다른 탭", this.postDraftBuffer.getPendingDraft(1L, 1L).content());
+    }
+
+    @Test
+    void shouldRejectAutosaveOfOtherUsersPost() {
+        // When & Then
+        assertThrows(InsufficientPermissionException.class, () -> this.postDraftBuffer.autosave(2L, 1L,
+                new AutosaveDraftRequest("제목", "내용", PostDraftBuffer.toVersion(this.modifiedAt))));
+        verifyNoInteractions(this.jdbcTemplate);
+    }
+
+    @Test
+    void shouldMarkDraftConflictedWhenPostWasChangedElsewhere() {
+        // Given
+        long baseVersion = PostDraftBuffer.toVersion(this.modifiedAt);
+        DraftAutosaveDto saved = this.postDraftBuffer.autosave(1L, 1L,
+                new AutosaveDraftRequest("제목", "내용", baseVersion));
+        when(this.jdbcTemplate.update(anyString(), any(), any(), any(), any(), any(), any())).thenReturn(0);
+
+        // When
+        this.postDraftBuffer.flush();
+        this.postDraftBuffer.flush();
+
+        // Then
+        // 반영하지 못한 내용은 다시 반영하지 않고, 이어서 자동 저장하는 편집기에 충돌을 알린다.
+        verify(this.jdbcTemplate, times(1)).update(anyString(), any(), any(), any(), any(), any(), any());
+        assertNull(this.postDraftBuffer.getPendingDraft(1L, 1L));
+        assertThrows(ResourceConflictException.class, () -> this.postDraftBuffer.autosave(1L, 1L,
+                new AutosaveDraftRequest("제목", "이어서 쓴 내용", saved.version())));
+    }
+
+    @Test
+    void shouldAutosaveFromCurrentPostAfterConflict() {
+        // Given
+        long baseVersion = PostDraftBuffer.toVersion(this.modifiedAt);
+        this.postDraftBuffer.autosave(1L, 1L, new AutosaveDraftRequest("제목", "내용", baseVersion));
+        when(this.jdbcTemplate.update(anyString(), any(), any(), any(), any(), any(), any())).thenReturn(0);
+        this.postDraftBuffer.flush();
+
+        // When
+        // 충돌을 알게 된 편집기는 게시글을 다시 읽어 그 버전을 기준으로 저장한다.
+        DraftAutosaveDto result = this.postDraftBuffer.autosave(1L, 1L,
+                new AutosaveDraftRequest("제목", "다시 쓴 내용", baseVersion));
+
+        // Then
+        assertTrue(result.version() > baseVersion);
+        assertEquals("다시 쓴 내용", this.postDraftBuffer.getPendingDraft(1L, 1L).content());
+        verify(this.postRepository, times(2)).findVersionById(1L);
+    }
+
+}
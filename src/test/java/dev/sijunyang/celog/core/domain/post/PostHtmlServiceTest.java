@@ -0,0 +1,120 @@
+package dev.sijunyang.celog.core.domain.post;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import dev.sijunyang.celog.core.global.cache.CacheNames;
+import dev.sijunyang.celog.core.global.enums.PublicationStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PostHtmlServiceTest {
+
+    @Mock
+    private PostService postService;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Spy
+    private PostHtmlRenderer postHtmlRenderer = new PostHtmlRenderer();
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @InjectMocks
+    private PostHtmlService postHtmlService;
+
+    private final Cache postHtmlCache = new ConcurrentMapCache(CacheNames.POST_HTML);
+
+    @BeforeEach
+    void setUp() {
+        when(this.cacheManager.getCache(CacheNames.POST_HTML)).thenReturn(this.postHtmlCache);
+    }
+
+    @Test
+    void shouldReturnCachedHtmlWithoutReadingPostContent() {
+        // Given
+        long postId = 1L;
+        LocalDateTime modifiedAt = LocalDateTime.now();
+        byte[] html = "<p>캐시된 게시글</p>".getBytes(StandardCharsets.UTF_8);
+        this.postHtmlCache.put(postId, new RenderedPostHtml(modifiedAt, html));
+        PostVersionDto version = new PostVersionDto(postId, 1L, PublicationStatus.PUBLIC_PUBLISHED, modifiedAt, 0, 0,
+                0);
+
+        // When
+        byte[] result = this.postHtmlService.getPostHtml(version);
+
+        // Then
+        assertArrayEquals(html, result);
+        verifyNoInteractions(this.postService);
+    }
+
+    @Test
+    void shouldRenderSynchronouslyWhenCachedHtmlIsStale() {
+        // Given
+        long postId = 1L;
+        LocalDateTime modifiedAt = LocalDateTime.now();
+        this.postHtmlCache.put(postId, new RenderedPostHtml(modifiedAt.minusMinutes(1),
+                "<p>이전 게시글</p>".getBytes(StandardCharsets.UTF_8)));
+        PostVersionDto version = new PostVersionDto(postId, 1L, PublicationStatus.PUBLIC_PUBLISHED, modifiedAt, 0, 0,
+                0);
+        PostDto post = new PostDto(postId, "제목", "# 새 게시글", PublicationStatus.PUBLIC_PUBLISHED, 1L, modifiedAt,
+                modifiedAt, 0);
+
+        // 접근 권한은 버전을 조회할 때 이미 확인했으므로 다시 확인하지 않고 게시글만 읽는다.
+        when(this.postService.getPost(version)).thenReturn(post);
+
+        // When
+        String result = new String(this.postHtmlService.getPostHtml(version), StandardCharsets.UTF_8);
+
+        // Then
+        assertEquals("<h1>새 게시글</h1>\n", result);
+        RenderedPostHtml cached = this.postHtmlCache.get(postId, RenderedPostHtml.class);
+        assertEquals(modifiedAt, cached.modifiedAt());
+    }
+
+    @Test
+    void shouldEscapeRawHtmlWhenPrerendering() {
+        // Given
+        long postId = 1L;
+        PostEntity postEntity = PostEntity.builder()
+            .id(postId)
+            .title("제목")
+            .content("<script>alert('xss')</script>\n\n[링크](javascript:alert(1))")
+            .readStatus(PublicationStatus.PUBLIC_PUBLISHED)
+            .userId(1L)
+            .build();
+
+        when(this.postRepository.findById(postId)).thenReturn(Optional.of(postEntity));
+
+        // When
+        this.postHtmlService.handlePostUpdated(new PostUpdatedEvent(postId, PublicationStatus.PUBLIC_PUBLISHED,
+                PublicationStatus.PUBLIC_PUBLISHED));
+
+        // Then
+        RenderedPostHtml cached = this.postHtmlCache.get(postId, RenderedPostHtml.class);
+        String html = new String(cached.html(), StandardCharsets.UTF_8);
+        assertFalse(html.contains("<script>"));
+        assertFalse(html.contains("javascript:"));
+        assertTrue(html.contains("&lt;script&gt;"));
+    }
+
+}
@@ -0,0 +1,216 @@
+package dev.sijunyang.celog.core.domain.post;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.sijunyang.celog.core.domain.reply.ReplyCountRepairer;
+import dev.sijunyang.celog.core.domain.reply.ReplyEntity;
+import dev.sijunyang.celog.core.domain.user.RequestUser;
+import dev.sijunyang.celog.core.domain.user.UserService;
+import dev.sijunyang.celog.core.global.enums.Role;
+import dev.sijunyang.celog.core.global.error.nextVer.InvalidInputException;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PostImportServiceTest {
+
+    @Mock
+    private UserService userService;
+
+    @Spy
+    private PostContentCompressionProperties contentCompressionProperties = new PostContentCompressionProperties(
+            false, 1024, 500);
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ReplyCountRepairer replyCountRepairer;
+
+    @InjectMocks
+    private PostImportService postImportService;
+
+    private final AtomicLong idSequence = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        lenient().doAnswer((invocation) -> invocation.getArgument(0, TransactionCallback.class).doInTransaction(null))
+            .when(this.transactionTemplate)
+            .execute(any());
+        // persist 할 때 테이블 기반 생성기처럼 ID를 바로 할당한다.
+        lenient().doAnswer((invocation) -> {
+            ReflectionTestUtils.setField(invocation.getArgument(0), "id", this.idSequence.incrementAndGet());
+            return null;
+        }).when(this.entityManager).persist(any());
+    }
+
+    @Test
+    void shouldImportPostsWithNestedRepliesInOneChunk() {
+        // Given
+        RequestUser requester = new RequestUser(1L, Role.USER);
+        String json = """
+                [
+                  {"title": "첫 글", "content": "내용", "readStatus": "PUBLIC_PUBLISHED",
+                   "replies": [{"content": "댓글", "replies": [{"content": "대댓글"}]}]},
+                  {"title": "둘째 글", "content": "내용", "readStatus": "DRAFTING"}
+                ]
+                """;
+        List<PostImportProgressDto> progresses = new ArrayList<>();
+
+        // When
+        PostImportProgressDto result = this.postImportService.importPosts(requester, toInputStream(json),
+                progresses::add);
+
+        // Then
+        assertEquals(new PostImportProgressDto(2, 2, true, null), result);
+        assertEquals(List.of(result), progresses);
+        verify(this.userService, times(1)).validateUserExistence(1L);
+        verify(this.transactionTemplate, times(1)).execute(any());
+
+        ArgumentCaptor<Object> persisted = ArgumentCaptor.forClass(Object.class);
+        verify(this.entityManager, times(4)).persist(persisted.capture());
+        PostEntity firstPost = (PostEntity) persisted.getAllValues().get(0);
+        ReplyEntity reply = (ReplyEntity) persisted.getAllValues().get(1);
+        ReplyEntity nestedReply = (ReplyEntity) persisted.getAllValues().get(2);
+        PostEntity secondPost = (PostEntity) persisted.getAllValues().get(3);
+        assertEquals(firstPost.getId(), reply.getPostId());
+        assertNull(reply.getSuperReplyId());
+        assertEquals(reply.getId(), nestedReply.getSuperReplyId());
+        assertEquals("", reply.getPath());
+        assertEquals(reply.getId() + "/", nestedReply.getPath());
+        verify(this.eventPublisher, times(2)).publishEvent(any(PostCreatedEvent.class));
+        verify(this.replyCountRepairer, times(1)).repair(List.of(firstPost.getId(), secondPost.getId()));
+    }
+
+    @Test
+    void shouldCommitInChunksAndReportProgress() {
+        // Given
+        RequestUser requester = new RequestUser(1L, Role.USER);
+        int postCount = PostImportService.CHUNK_ROWS + 1;
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < postCount; i++) {
+            json.append((i == 0) ? "" : ",")
+                .append("{\"title\": \"글\", \"content\": \"내용\", \"readStatus\": \"PUBLIC_PUBLISHED\"}");
+        }
+        json.append("]");
+        List<PostImportProgressDto> progresses = new ArrayList<>();
+
+        // When
+        this.postImportService.importPosts(requester, toInputStream(json.toString()), progresses::add);
+
+        // Then
+        verify(this.transactionTemplate, times(2)).execute(any());
+        verify(this.replyCountRepairer, never()).repair(any());
+        assertEquals(List.of(new PostImportProgressDto(PostImportService.CHUNK_ROWS, 0, false, null),
+                new PostImportProgressDto(postCount, 0, true, null)), progresses);
+    }
+
+    @Test
+    void shouldFlushWithinPostWhenRepliesExceedChunkRows() {
+        // Given
+        RequestUser requester = new RequestUser(1L, Role.USER);
+        StringBuilder json = new StringBuilder(
+                "[{\"title\": \"글\", \"content\": \"내용\", \"readStatus\": \"PUBLIC_PUBLISHED\", \"replies\": [");
+        for (int i = 0; i < PostImportService.CHUNK_ROWS; i++) {
+            json.append((i == 0) ? "" : ",").append("{\"content\": \"댓글\"}");
+        }
+        json.append("]}]");
+
+        // When
+        PostImportProgressDto result = this.postImportService.importPosts(requester,
+                toInputStream(json.toString()), (progress) -> {
+                });
+
+        // Then
+        // 게시글 하나가 묶음 크기를 넘으면 게시글 중간에 한 번, 묶음이 끝날 때 한 번 비운다.
+        assertEquals(new PostImportProgressDto(1, PostImportService.CHUNK_ROWS, true, null), result);
+        verify(this.transactionTemplate, times(1)).execute(any());
+        verify(this.entityManager, times(2)).flush();
+        verify(this.entityManager, times(2)).clear();
+    }
+
+    @Test
+    void shouldReportFailureAfterCommittedChunk() {
+        // Given
+        RequestUser requester = new RequestUser(1L, Role.USER);
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < PostImportService.CHUNK_ROWS; i++) {
+            json.append("{\"title\": \"글\", \"content\": \"내용\", \"readStatus\": \"PUBLIC_PUBLISHED\"},");
+        }
+        json.append("{\"title\": \"\", \"content\": \"내용\", \"readStatus\": \"PUBLIC_PUBLISHED\"}]");
+        List<PostImportProgressDto> progresses = new ArrayList<>();
+
+        // When
+        InvalidInputException exception = assertThrows(InvalidInputException.class, () -> this.postImportService
+            .importPosts(requester, toInputStream(json.toString()), progresses::add));
+
+        // Then
+        assertEquals(List.of(new PostImportProgressDto(PostImportService.CHUNK_ROWS, 0, false, null),
+                new PostImportProgressDto(PostImportService.CHUNK_ROWS, 0, false, exception.getMessage())),
+                progresses);
+        verify(this.transactionTemplate, times(1)).execute(any());
+    }
+
+    @Test
+    void shouldRejectInvalidPostBeforeSaving() {
+        // Given
+        RequestUser requester = new RequestUser(1L, Role.USER);
+        String json = """
+                [{"title": "", "content": "내용", "readStatus": "PUBLIC_PUBLISHED"}]
+                """;
+
+        // When & Then
+        InvalidInputException exception = assertThrows(InvalidInputException.class,
+                () -> this.postImportService.importPosts(requester, toInputStream(json), (progress) -> {
+                }));
+        assertTrue(exception.getMessage().contains("title"));
+        verify(this.transactionTemplate, never()).execute(any());
+    }
+
+    private InputStream toInputStream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
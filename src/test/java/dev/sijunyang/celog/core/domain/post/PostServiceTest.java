@@ -1,33 +1,57 @@
 package dev.sijunyang.celog.core.domain.post;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import dev.sijunyang.celog.core.domain.reply.ReplyService;
 import dev.sijunyang.celog.core.domain.user.UserDto;
 import dev.sijunyang.celog.core.domain.user.UserService;
 import dev.sijunyang.celog.core.domain.user.RequestUser;
+import dev.sijunyang.celog.core.global.cache.CacheNames;
 import dev.sijunyang.celog.core.global.enums.PublicationStatus;
 import dev.sijunyang.celog.core.global.enums.Role;
 import dev.sijunyang.celog.core.global.error.nextVer.InsufficientPermissionException;
 import dev.sijunyang.celog.core.global.error.nextVer.ResourceNotFoundException;
+import dev.sijunyang.celog.core.global.pagination.CursorPage;
+import dev.sijunyang.celog.core.global.pagination.CursorRequest;
+import dev.sijunyang.celog.core.global.pagination.PaginationProperties;
+import jakarta.persistence.EntityManager;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -42,12 +66,49 @@ class PostServiceTest {
     @Mock
     private ReplyService replyService;
 
+    @Spy
+    private PaginationProperties paginationProperties = new PaginationProperties(20, 100);
+
+    @Spy
+    private PostContentCompressionProperties contentCompressionProperties = new PostContentCompressionProperties(
+            false, 1024, 500);
+
     @InjectMocks
     private PostService postService;
 
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PostViewCounter postViewCounter;
+
+    @Mock
+    private PostDraftBuffer postDraftBuffer;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
     @Captor
     private ArgumentCaptor<PostEntity> postEntityCaptor;
 
+    @BeforeEach
+    void setUp() {
+        lenient().when(this.cacheManager.getCache(CacheNames.POSTS))
+            .thenReturn(new ConcurrentMapCache(CacheNames.POSTS));
+        // 트랜잭션 콜백을 바로 실행한다.
+        lenient().doAnswer((invocation) -> {
+            Consumer<TransactionStatus> action = invocation.getArgument(0);
+            action.accept(null);
+            return null;
+        }).when(this.transactionTemplate).executeWithoutResult(any());
+    }
+
     @Test
     void shouldCreateNewPost() {
         // Given
@@ -69,6 +130,7 @@ class PostServiceTest {
         assertEquals(createPostRequest.content(), capturedEntity.getContent());
         assertEquals(createPostRequest.readStatus(), capturedEntity.getReadStatus());
         assertEquals(userId, capturedEntity.getUserId());
+        verify(this.eventPublisher, times(1)).publishEvent(any(PostCreatedEvent.class));
     }
 
     @Test
@@ -103,6 +165,80 @@ class PostServiceTest {
         assertEquals(userId, capturedEntity.getUserId());
     }
 
+    @Test
+    void shouldPatchOnlyGivenFieldsOfManagedEntity() {
+        // Given
+        long userId = 1L;
+        RequestUser requester = new RequestUser(userId, Role.USER);
+        long postId = 1L;
+        PatchPostRequest patchRequest = new PatchPostRequest("Updated Title", null, null);
+        PostEntity existingPostEntity = PostEntity.builder()
+            .id(postId)
+            .title("Old Title")
+            .content("Old Content")
+            .readStatus(PublicationStatus.DRAFTING)
+            .userId(userId)
+            .build();
+
+        when(this.postRepository.findById(postId)).thenReturn(Optional.of(existingPostEntity));
+
+        // When
+        this.postService.patchPost(requester, postId, patchRequest);
+
+        // Then
+        // 영속 상태의 엔티티를 변경하므로 save(merge)를 호출하지 않는다.
+        verify(this.postRepository, never()).save(any());
+        assertEquals("Updated Title", existingPostEntity.getTitle());
+        assertEquals("Old Content", existingPostEntity.getContent());
+        assertEquals(PublicationStatus.DRAFTING, existingPostEntity.getReadStatus());
+        verify(this.eventPublisher, times(1)).publishEvent(any(PostUpdatedEvent.class));
+    }
+
+    @Test
+    void shouldSkipPatchWhenNothingChanged() {
+        // Given
+        long userId = 1L;
+        RequestUser requester = new RequestUser(userId, Role.USER);
+        long postId = 1L;
+        PatchPostRequest patchRequest = new PatchPostRequest("Same Title", null, PublicationStatus.DRAFTING);
+        PostEntity existingPostEntity = PostEntity.builder()
+            .id(postId)
+            .title("Same Title")
+            .content("Content")
+            .readStatus(PublicationStatus.DRAFTING)
+            .userId(userId)
+            .build();
+
+        when(this.postRepository.findById(postId)).thenReturn(Optional.of(existingPostEntity));
+
+        // When
+        this.postService.patchPost(requester, postId, patchRequest);
+
+        // Then
+        verify(this.eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void shouldThrowExceptionWhenAnotherUserPatchPost() {
+        // Given
+        RequestUser requester = new RequestUser(2L, Role.USER);
+        long postId = 1L;
+        PostEntity existingPostEntity = PostEntity.builder()
+            .id(postId)
+            .title("Title")
+            .content("Content")
+            .readStatus(PublicationStatus.DRAFTING)
+            .userId(1L)
+            .build();
+
+        when(this.postRepository.findById(postId)).thenReturn(Optional.of(existingPostEntity));
+
+        // When & Then
+        assertThrows(InsufficientPermissionException.class, () -> this.postService.patchPost(requester, postId,
+                new PatchPostRequest("Updated Title", null, null)));
+        assertEquals("Title", existingPostEntity.getTitle());
+    }
+
     @Test
     void shouldDeleteExistingPost() {
         // Given
@@ -137,6 +273,7 @@ class PostServiceTest {
             .build();
         UserDto user = UserDto.builder().id(userId).role(Role.USER).build();
 
+        when(this.postRepository.findVersionById(postId)).thenReturn(Optional.of(versionOf(existingPostEntity)));
         when(this.postRepository.findById(postId)).thenReturn(Optional.of(existingPostEntity));
         doNothing().when(this.userService).validateUserExistence(userId);
 
@@ -152,6 +289,178 @@ class PostServiceTest {
         assertEquals(existingPostEntity.getUserId(), retrievedPostDto.userId());
     }
 
+    @Test
+    void shouldLoadPostAndValidateRequesterOnlyOnceWhenGetPost() {
+        // Given
+        long userId = 1L;
+        RequestUser requester = new RequestUser(userId, Role.USER);
+        long postId = 1L;
+        PostEntity existingPostEntity = PostEntity.builder()
+            .id(postId)
+            .title("Test Post")
+            .content("This is a test post.")
+            .readStatus(PublicationStatus.PUBLIC_PUBLISHED)
+            .userId(2L)
+            .build();
+
+        when(this.postRepository.findVersionById(postId)).thenReturn(Optional.of(versionOf(existingPostEntity)));
+        when(this.postRepository.findById(postId)).thenReturn(Optional.of(existingPostEntity));
+
+        // When
+        this.postService.getPost(requester, postId);
+
+        // Then
+        // 요청 한 번에 사용자 존재 확인 쿼리 1번, 게시글 버전 조회 쿼리 1번, 게시글 조회 쿼리 1번만 실행되어야 한다.
+        verify(this.userService, times(1)).validateUserExistence(userId);
+        verify(this.postRepository, times(1)).findVersionById(postId);
+        verify(this.postRepository, times(1)).findById(postId);
+        verifyNoMoreInteractions(this.userService, this.postRepository);
+    }
+
+    @Test
+    void shouldServeCachedPostWithAccessCheckPerRequester() {
+        // Given
+        long ownerId = 1L;
+        long otherUserId = 2L;
+        long postId = 1L;
+        PostEntity draftingPostEntity = PostEntity.builder()
+            .id(postId)
+            .title("Test Post")
+            .content("This is a test post.")
+            .readStatus(PublicationStatus.DRAFTING)
+            .userId(ownerId)
+            .build();
+
+        when(this.postRepository.findVersionById(postId)).thenReturn(Optional.of(versionOf(draftingPostEntity)));
+        when(this.postRepository.findById(postId)).thenReturn(Optional.of(draftingPostEntity));
+
+        // When
+        this.postService.getPost(new RequestUser(ownerId, Role.USER), postId);
+        this.postService.getPost(new RequestUser(ownerId, Role.USER), postId);
+
+        // Then
+        verify(this.postRepository, times(1)).findById(postId);
+        assertThrows(InsufficientPermissionException.class,
+                () -> this.postService.getPost(new RequestUser(otherUserId, Role.USER), postId));
+    }
+
+    @Test
+    void shouldCheckAccessAgainstCurrentStateInsteadOfCachedPost() {
+        // Given
+        long ownerId = 1L;
+        long otherUserId = 2L;
+        long postId = 1L;
+        PostEntity publishedPostEntity = PostEntity.builder()
+            .id(postId)
+            .title("Test Post")
+            .content("This is a test post.")
+            .readStatus(PublicationStatus.PUBLIC_PUBLISHED)
+            .userId(ownerId)
+            .build();
+        ReflectionTestUtils.setField(publishedPostEntity, "modifiedAt", LocalDateTime.of(2024, 5, 1, 12, 0));
+        // 다른 인스턴스에서 비공개로 바꾸어 이 인스턴스의 캐시는 무효화되지 않았다.
+        PostVersionDto draftingVersion = new PostVersionDto(postId, ownerId, PublicationStatus.DRAFTING,
+                LocalDateTime.of(2024, 5, 1, 12, 30), 0, 0, 0);
+
+        when(this.postRepository.findVersionById(postId)).thenReturn(Optional.of(versionOf(publishedPostEntity)),
+                Optional.of(draftingVersion));
+        when(this.postRepository.findById(postId)).thenReturn(Optional.of(publishedPostEntity));
+        this.postService.getPost(new RequestUser(otherUserId, Role.USER), postId);
+
+        // When & Then
+        assertThrows(InsufficientPermissionException.class,
+                () -> this.postService.getPost(new RequestUser(otherUserId, Role.USER), postId));
+        verify(this.postRepository, times(1)).findById(postId);
+    }
+
+    @Test
+    void shouldReloadCachedPostWhenModifiedAtDiffers() {
+        // Given
+        long userId = 1L;
+        RequestUser requester = new RequestUser(userId, Role.USER);
+        long postId = 1L;
+        PostEntity oldPostEntity = PostEntity.builder()
+            .id(postId)
+            .title("Old Title")
+            .content("Old content.")
+            .readStatus(PublicationStatus.PUBLIC_PUBLISHED)
+            .userId(userId)
+            .build();
+        ReflectionTestUtils.setField(oldPostEntity, "modifiedAt", LocalDateTime.of(2024, 5, 1, 12, 0));
+        PostEntity newPostEntity = PostEntity.builder()
+            .id(postId)
+            .title("New Title")
+            .content("New content.")
+            .readStatus(PublicationStatus.PUBLIC_PUBLISHED)
+            .userId(userId)
+            .build();
+        ReflectionTestUtils.setField(newPostEntity, "modifiedAt", LocalDateTime.of(2024, 5, 1, 12, 30));
+
+        when(this.postRepository.findVersionById(postId)).thenReturn(Optional.of(versionOf(oldPostEntity)),
+                Optional.of(versionOf(newPostEntity)), Optional.of(versionOf(newPostEntity)));
+        when(this.postRepository.findById(postId)).thenReturn(Optional.of(oldPostEntity),
+                Optional.of(newPostEntity));
+        this.postService.getPost(requester, postId);
+
+        // When
+        PostDto reloadedPost = this.postService.getPost(requester, postId);
+        PostDto cachedPost = this.postService.getPost(requester, postId);
+
+        // Then
+        assertEquals("New Title", reloadedPost.title());
+        assertEquals("New Title", cachedPost.title());
+        verify(this.postRepository, times(2)).findById(postId);
+    }
+
+    @Test
+    void shouldReturnVersionWithoutLoadingPostContent() {
+        // Given
+        long userId = 1L;
+        RequestUser requester = new RequestUser(userId, Role.USER);
+        long postId = 1L;
+        LocalDateTime modifiedAt = LocalDateTime.of(2024, 5, 1, 12, 0);
+        PostVersionDto version = new PostVersionDto(postId, userId, PublicationStatus.DRAFTING, modifiedAt, 10, 0, 0);
+
+        when(this.postRepository.findVersionById(postId)).thenReturn(Optional.of(version));
+
+        // When
+        PostVersionDto result = this.postService.getPostVersion(requester, postId);
+
+        // Then
+        assertEquals(version, result);
+        verify(this.postRepository, never()).findById(postId);
+    }
+
+    @Test
+    void shouldServeFlushedViewCountWithCachedPost() {
+        // Given
+        long userId = 1L;
+        RequestUser requester = new RequestUser(userId, Role.USER);
+        long postId = 1L;
+        PostEntity existingPostEntity = PostEntity.builder()
+            .id(postId)
+            .title("Test Post")
+            .content("This is a test post.")
+            .readStatus(PublicationStatus.PUBLIC_PUBLISHED)
+            .userId(userId)
+            .build();
+
+        // 조회수만 반영되어 수정 시간은 그대로다.
+        when(this.postRepository.findVersionById(postId)).thenReturn(
+                Optional.of(new PostVersionDto(postId, userId, PublicationStatus.PUBLIC_PUBLISHED, null, 3, 0, 0)),
+                Optional.of(new PostVersionDto(postId, userId, PublicationStatus.PUBLIC_PUBLISHED, null, 7, 0, 0)));
+        when(this.postRepository.findById(postId)).thenReturn(Optional.of(existingPostEntity));
+        this.postService.getPost(requester, postId);
+
+        // When
+        PostDto post = this.postService.getPost(requester, postId);
+
+        // Then
+        // 조회수는 캐시된 게시글이 아닌 버전에서 가져오므로, 조회수가 반영되어도 게시글을 다시 읽지 않는다.
+        assertEquals(7, post.viewCount());
+        verify(this.postRepository, times(1)).findById(postId);
+    }
+
     @Test
     void shouldThrowExceptionWhenUserCannotAccessPost() {
         // Given
@@ -167,7 +476,7 @@ class PostServiceTest {
             .userId(requestUserId)
             .build();
 
-        when(this.postRepository.findById(postId)).thenReturn(Optional.of(draftingPostEntity));
+        when(this.postRepository.findVersionById(postId)).thenReturn(Optional.of(versionOf(draftingPostEntity)));
         doNothing().when(this.userService).validateUserExistence(otherUserId);
 
         // When & Then
@@ -175,7 +484,7 @@ class PostServiceTest {
     }
 
     @Test
-    void shouldReturnAllPublishedPosts() {
+    void shouldReturnFirstPageOfPublishedPosts() {
         // Given
         long userId = 1L;
         long otherUserId = 2L;
@@ -186,13 +495,6 @@ class PostServiceTest {
             .readStatus(PublicationStatus.PUBLIC_PUBLISHED)
             .userId(userId)
             .build();
-        PostEntity draftPost = PostEntity.builder()
-            .id(2L)
-            .title("Draft Post")
-            .content("This is a draft post.")
-            .readStatus(PublicationStatus.DRAFTING)
-            .userId(userId)
-            .build();
         PostEntity publishedPost2 = PostEntity.builder()
             .id(3L)
             .title("Published Post 2")
@@ -201,15 +503,74 @@ class PostServiceTest {
             .userId(otherUserId)
             .build();
 
-        when(this.postRepository.findAll()).thenReturn(List.of(publishedPost1, draftPost, publishedPost2));
+        when(this.postRepository.findSummariesByReadStatus(PublicationStatus.PUBLIC_PUBLISHED, PageRequest.of(0, 21)))
+            .thenReturn(List.of(publishedPost2.mapToPostSummaryDto(), publishedPost1.mapToPostSummaryDto()));
+
+        // When
+        CursorPage<PostSummaryDto> publishedPosts = this.postService.getPublishedPosts(CursorRequest.first(null));
+
+        // Then
+        assertEquals(2, publishedPosts.contents().size());
+        assertFalse(publishedPosts.hasNext());
+        assertNull(publishedPosts.nextCursorId());
+        assertTrue(publishedPosts.contents().stream().anyMatch((p) -> p.postId().equals(publishedPost1.getId())));
+        assertTrue(publishedPosts.contents().stream().anyMatch((p) -> p.postId().equals(publishedPost2.getId())));
+    }
+
+    @Test
+    void shouldReturnNextCursorWhenMorePublishedPostsExist() {
+        // Given
+        long userId = 1L;
+        LocalDateTime cursorCreatedAt = LocalDateTime.of(2024, 5, 1, 12, 0);
+        long cursorId = 10L;
+        List<PostSummaryDto> fetchedPosts = List.of(new PostSummaryDto(9L, "title 9", userId, null, null, 0),
+                new PostSummaryDto(8L, "title 8", userId, null, null, 0),
+                new PostSummaryDto(7L, "title 7", userId, null, null, 0));
+
+        when(this.postRepository.findSummariesByReadStatusBefore(PublicationStatus.PUBLIC_PUBLISHED, cursorCreatedAt,
+                cursorId, PageRequest.of(0, 3)))
+            .thenReturn(fetchedPosts);
 
         // When
-        List<PostSummaryDto> publishedPosts = this.postService.getAllPublishedPosts();
+        CursorPage<PostSummaryDto> publishedPosts = this.postService
+            .getPublishedPosts(new CursorRequest(cursorCreatedAt, cursorId, 2));
 
         // Then
-        assertEquals(2, publishedPosts.size());
-        assertTrue(publishedPosts.stream().anyMatch((p) -> p.postId().equals(publishedPost1.getId())));
-        assertTrue(publishedPosts.stream().anyMatch((p) -> p.postId().equals(publishedPost2.getId())));
+        assertEquals(2, publishedPosts.contents().size());
+        assertTrue(publishedPosts.hasNext());
+        assertEquals(8L, publishedPosts.nextCursorId());
+    }
+
+    @Test
+    void shouldExportPublishedPostsAndDetachEach() {
+        // Given
+        long userId = 1L;
+        PostEntity publishedPost1 = PostEntity.builder()
+            .id(1L)
+            .title("Published Post 1")
+            .content("This is a published post.")
+            .readStatus(PublicationStatus.PUBLIC_PUBLISHED)
+            .userId(userId)
+            .build();
+        PostEntity publishedPost2 = PostEntity.builder()
+            .id(2L)
+            .title("Published Post 2")
+            .content("This is another published post.")
+            .readStatus(PublicationStatus.PUBLIC_PUBLISHED)
+            .userId(userId)
+            .build();
+        List<PostDto> exportedPosts = new ArrayList<>();
+
+        when(this.postRepository.streamAllByReadStatus(PublicationStatus.PUBLIC_PUBLISHED))
+            .thenReturn(Stream.of(publishedPost1, publishedPost2));
+
+        // When
+        this.postService.exportPublishedPosts(exportedPosts::add);
+
+        // Then
+        assertEquals(List.of(1L, 2L), exportedPosts.stream().map(PostDto::postId).toList());
+        verify(this.entityManager, times(1)).detach(publishedPost1);
+        verify(this.entityManager, times(1)).detach(publishedPost2);
     }
 
     @Test
@@ -229,7 +590,8 @@ class PostServiceTest {
 
         doNothing().when(this.userService).validateUserExistence(requestUserId);
         doNothing().when(this.userService).validateUserExistence(userId);
-        when(this.postRepository.findAllByUserId(userId)).thenReturn(List.of(userDraftPost));
+        when(this.postRepository.findAllSummariesByUserId(userId))
+            .thenReturn(List.of(userDraftPost.mapToPostSummaryDto()));
 
         // When
         List<PostSummaryDto> userPosts = this.postService.getAllPostsByUserId(requester, userId);
@@ -246,10 +608,31 @@ class PostServiceTest {
         RequestUser requester = new RequestUser(userId, Role.USER);
         long postId = 1L;
 
-        when(this.postRepository.findById(postId)).thenReturn(Optional.empty());
+        when(this.postRepository.findVersionById(postId)).thenReturn(Optional.empty());
 
         // When & Then
         assertThrows(ResourceNotFoundException.class, () -> this.postService.getPost(requester, postId));
     }
 
+    @Test
+    void shouldReturnPendingDraftWithoutReadingPost() {
+        // Given
+        RequestUser requester = new RequestUser(1L, Role.USER);
+        PostDraftDto pendingDraft = new PostDraftDto(1L, "제목", "자동 저장된 내용", 1L);
+        when(this.postDraftBuffer.getPendingDraft(1L, 1L)).thenReturn(pendingDraft);
+
+        // When
+        PostDraftDto draft = this.postService.getDraft(requester, 1L);
+
+        // Then
+        assertEquals(pendingDraft, draft);
+        verify(this.postRepository, never()).findById(any());
+    }
+
+    private static PostVersionDto versionOf(PostEntity postEntity) {
+        return new PostVersionDto(postEntity.getId(), postEntity.getUserId(), postEntity.getReadStatus(),
+                postEntity.getModifiedAt(), postEntity.getViewCount(), postEntity.getReplyCount(),
+                postEntity.getReplyVersion());
+    }
+
 }
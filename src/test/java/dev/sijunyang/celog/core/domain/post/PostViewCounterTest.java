@@ -0,0 +1,100 @@
+package dev.sijunyang.celog.core.domain.post;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PostViewCounterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private PostViewCounter postViewCounter;
+
+    @Captor
+    private ArgumentCaptor<List<Object[]>> batchArgsCaptor;
+
+    @BeforeEach
+    void setUp() {
+        // 트랜잭션 콜백을 바로 실행한다.
+        lenient().doAnswer((invocation) -> {
+            Consumer<TransactionStatus> action = invocation.getArgument(0);
+            action.accept(null);
+            return null;
+        }).when(this.transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Test
+    void shouldFlushOneBatchedUpdatePerPostInIdOrder() {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            this.postViewCounter.increment(2L);
+        }
+        this.postViewCounter.increment(1L);
+
+        // When
+        this.postViewCounter.flush();
+
+        // Then
+        verify(this.jdbcTemplate, times(1)).batchUpdate(anyString(), this.batchArgsCaptor.capture());
+        List<Object[]> batchArgs = this.batchArgsCaptor.getValue();
+        assertEquals(2, batchArgs.size());
+        assertArrayEquals(new Object[] { 1L, 1L }, batchArgs.get(0));
+        assertArrayEquals(new Object[] { 3L, 2L }, batchArgs.get(1));
+        assertEquals(0, this.postViewCounter.getPendingCount(2L));
+    }
+
+    @Test
+    void shouldKeepCountsWhenFlushFails() {
+        // Given
+        this.postViewCounter.increment(1L);
+        this.postViewCounter.increment(1L);
+        when(this.jdbcTemplate.batchUpdate(anyString(), anyList())).thenThrow(new QueryTimeoutException("timeout"));
+
+        // When
+        assertThrows(QueryTimeoutException.class, () -> this.postViewCounter.flush());
+
+        // Then
+        assertEquals(2, this.postViewCounter.getPendingCount(1L));
+    }
+
+    @Test
+    void shouldNotTouchDatabaseWhenNothingWasViewed() {
+        // When
+        this.postViewCounter.flush();
+
+        // Then
+        verifyNoInteractions(this.jdbcTemplate, this.transactionTemplate);
+    }
+
+}
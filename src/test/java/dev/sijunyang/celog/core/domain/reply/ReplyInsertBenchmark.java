@@ -0,0 +1,151 @@
+package dev.sijunyang.celog.core.domain.reply;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * 댓글 100,000개를 저장할 때 IDENTITY 방식과 테이블 기반 ID 생성기 + 배치 INSERT 방식의 초당 INSERT 수를 비교합니다.
+ *
+ * <p>
+ * IDENTITY 방식은 Hibernate 가 하는 것처럼 INSERT 를 한 건씩 실행하고 생성된 키를 읽는 방식으로 재현합니다. reply 테이블의 ID는 테이블 기반
+ * 생성기로 채우므로 AUTO_INCREMENT 가 없어, IDENTITY 방식은 reply 와 컬럼과 인덱스가 같고 ID만 AUTO_INCREMENT 인 별도 테이블에서 측정합니다.
+ * 로컬 MySQL(compose.yaml)이 필요하므로 {@code ./gradlew benchmark} 로만 실행합니다.
+ *
+ * @author Sijun Yang
+ */
+@Tag("benchmark")
+@ActiveProfiles("local")
+@SpringBootTest(properties = { "github-client-id=benchmark", "github-client-secret=benchmark",
+        "redirect-uri=http://localhost", "npc-end-point=http://localhost", "ncp-region=benchmark",
+        "npc-access-key=benchmark", "npc-secret-key=benchmark", "npc-bucket-name=benchmark",
+        "spring.jpa.show-sql=false" })
+class ReplyInsertBenchmark {
+
+    private static final int REPLY_COUNT = 100_000;
+
+    private static final int CHUNK_SIZE = 1_000;
+
+    private static final long BENCHMARK_POST_ID = -1L;
+
+    private static final String IDENTITY_TABLE = "reply_identity_benchmark";
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplyInsertBenchmark.class);
+
+    @Autowired
+    private ReplyRepository replyRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        this.jdbcTemplate.execute("DROP TABLE IF EXISTS " + IDENTITY_TABLE);
+        this.jdbcTemplate.execute("CREATE TABLE " + IDENTITY_TABLE + " LIKE reply");
+        this.jdbcTemplate.execute("ALTER TABLE " + IDENTITY_TABLE + " MODIFY id BIGINT NOT NULL AUTO_INCREMENT");
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.jdbcTemplate.update("DELETE FROM reply WHERE post_id = ?", BENCHMARK_POST_ID);
+        this.jdbcTemplate.execute("DROP TABLE IF EXISTS " + IDENTITY_TABLE);
+    }
+
+    @Test
+    void compareIdentityAndPooledBatchInserts() {
+        long identityNanos = measure(this::insertOneByOneWithGeneratedKeys, IDENTITY_TABLE);
+        long pooledNanos = measure(this::saveAllInBatches, "reply");
+
+        logger.info("IDENTITY (row by row) : {} inserts/sec", formatInsertsPerSecond(identityNanos));
+        logger.info("TABLE pooled + batch  : {} inserts/sec", formatInsertsPerSecond(pooledNanos));
+    }
+
+    private long measure(Runnable inserts, String table) {
+        long startedAt = System.nanoTime();
+        inserts.run();
+        long elapsed = System.nanoTime() - startedAt;
+        Long savedCount = this.jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE post_id = ?",
+                Long.class, BENCHMARK_POST_ID);
+        assertEquals(REPLY_COUNT, savedCount);
+        return elapsed;
+    }
+
+    private void insertOneByOneWithGeneratedKeys() {
+        String sql = "INSERT INTO " + IDENTITY_TABLE + " (content, user_id, post_id, path, created_at, modified_at) "
+                + "VALUES (?, ?, ?, '', ?, ?)";
+        for (int chunkStart = 0; chunkStart < REPLY_COUNT; chunkStart += CHUNK_SIZE) {
+            int chunkEnd = Math.min(chunkStart + CHUNK_SIZE, REPLY_COUNT);
+            int start = chunkStart;
+            this.transactionTemplate.executeWithoutResult((status) -> {
+                for (int i = start; i < chunkEnd; i++) {
+                    String content = "benchmark reply " + i;
+                    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+                    GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+                    this.jdbcTemplate.update((connection) -> {
+                        PreparedStatement statement = connection.prepareStatement(sql,
+                                Statement.RETURN_GENERATED_KEYS);
+                        statement.setString(1, content);
+                        statement.setLong(2, 1L);
+                        statement.setLong(3, BENCHMARK_POST_ID);
+                        statement.setTimestamp(4, now);
+                        statement.setTimestamp(5, now);
+                        return statement;
+                    }, keyHolder);
+                    assertNotNull(keyHolder.getKey());
+                }
+            });
+        }
+    }
+
+    private void saveAllInBatches() {
+        for (int chunkStart = 0; chunkStart < REPLY_COUNT; chunkStart += CHUNK_SIZE) {
+            int chunkEnd = Math.min(chunkStart + CHUNK_SIZE, REPLY_COUNT);
+            int start = chunkStart;
+            this.transactionTemplate.executeWithoutResult((status) -> {
+                List<ReplyEntity> replies = new ArrayList<>(chunkEnd - start);
+                for (int i = start; i < chunkEnd; i++) {
+                    replies.add(ReplyEntity.builder()
+                        .content("benchmark reply " + i)
+                        .userId(1L)
+                        .postId(BENCHMARK_POST_ID)
+                        .path("")
+                        .build());
+                }
+                this.replyRepository.saveAll(replies);
+                this.entityManager.flush();
+                this.entityManager.clear();
+            });
+        }
+    }
+
+    private String formatInsertsPerSecond(long nanos) {
+        return String.format("%,10.0f", REPLY_COUNT / (nanos / 1_000_000_000.0));
+    }
+
+}
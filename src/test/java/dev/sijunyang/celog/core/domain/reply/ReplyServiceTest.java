@@ -2,30 +2,53 @@ package dev.sijunyang.celog.core.domain.reply;
 
 import dev.sijunyang.celog.core.domain.post.PostDto;
 import dev.sijunyang.celog.core.domain.post.PostService;
+import dev.sijunyang.celog.core.domain.post.PostVersionDto;
 import dev.sijunyang.celog.core.domain.user.RequestUser;
 import dev.sijunyang.celog.core.domain.user.UserService;
 import dev.sijunyang.celog.core.global.enums.PublicationStatus;
 import dev.sijunyang.celog.core.global.enums.Role;
 import dev.sijunyang.celog.core.global.error.nextVer.InsufficientPermissionException;
 import dev.sijunyang.celog.core.global.error.nextVer.ResourceNotFoundException;
+import dev.sijunyang.celog.core.global.pagination.CursorPage;
+import dev.sijunyang.celog.core.global.pagination.CursorRequest;
+import dev.sijunyang.celog.core.global.pagination.PaginationProperties;
 
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.List;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -42,12 +65,34 @@ class ReplyServiceTest {
     @Mock
     private UserService userService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private PaginationProperties paginationProperties = new PaginationProperties(20, 100);
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
     @InjectMocks
     private ReplyService replyService;
 
     @Captor
     private ArgumentCaptor<ReplyEntity> replyEntity;
 
+    @BeforeEach
+    void setUp() {
+        // 트랜잭션 콜백을 바로 실행한다.
+        lenient().doAnswer((invocation) -> invocation.getArgument(0, TransactionCallback.class).doInTransaction(null))
+            .when(this.transactionTemplate)
+            .execute(any());
+        lenient().doAnswer((invocation) -> {
+            Consumer<TransactionStatus> action = invocation.getArgument(0);
+            action.accept(null);
+            return null;
+        }).when(this.transactionTemplate).executeWithoutResult(any());
+    }
+
     @Test
     void shouldCreateNewReply() {
         // Given
@@ -72,6 +117,38 @@ class ReplyServiceTest {
         Assertions.assertEquals(content, capturedEntity.getContent());
         Assertions.assertEquals(postId, capturedEntity.getPostId());
         Assertions.assertEquals(superReplyId, capturedEntity.getSuperReplyId());
+        verify(this.postService, times(1)).addReplyCount(postId, 1);
+        verify(this.replyRepository, never()).addChildReplyCount(any(), anyLong());
+        verify(this.eventPublisher, times(1)).publishEvent(any(ReplyCreatedEvent.class));
+    }
+
+    @Test
+    void shouldCreateChildReplyUnderSuperReplyPath() {
+        // Given
+        long requestUserId = 1L;
+        RequestUser requester = new RequestUser(requestUserId, Role.USER);
+        long postId = 1L;
+        long superReplyId = 5L;
+        ReplyEntity superReply = ReplyEntity.builder()
+            .id(superReplyId)
+            .postId(postId)
+            .userId(requestUserId)
+            .superReplyId(1L)
+            .path("1/")
+            .build();
+        CreateReplyRequest createReplyRequest = new CreateReplyRequest("content", superReplyId);
+
+        doNothing().when(this.userService).validateUserExistence(requestUserId);
+        doNothing().when(this.postService).validateUserPostAccess(requester, postId);
+        when(this.replyRepository.findById(superReplyId)).thenReturn(Optional.of(superReply));
+
+        // When
+        this.replyService.createReply(requester, postId, createReplyRequest);
+
+        // Then
+        verify(this.replyRepository, times(1)).save(this.replyEntity.capture());
+        assertEquals("1/5/", this.replyEntity.getValue().getPath());
+        verify(this.replyRepository, times(1)).addChildReplyCount(superReplyId, 1);
     }
 
     @Test
@@ -108,6 +185,34 @@ class ReplyServiceTest {
         Assertions.assertEquals(content, capturedEntity.getContent());
         Assertions.assertEquals(postId, capturedEntity.getPostId());
         Assertions.assertEquals(superReplyId, capturedEntity.getSuperReplyId());
+        verify(this.postService, times(1)).increaseReplyVersion(postId);
+    }
+
+    @Test
+    void shouldPatchReplyContentOfManagedEntity() {
+        // Given
+        long replyId = 1L;
+        long requestUserId = 1L;
+        RequestUser requester = new RequestUser(requestUserId, Role.USER);
+        long postId = 1L;
+        ReplyEntity exisitngReplyEntity = ReplyEntity.builder()
+            .id(replyId)
+            .content("Old reply")
+            .userId(requestUserId)
+            .postId(postId)
+            .build();
+
+        doNothing().when(this.userService).validateUserExistence(requestUserId);
+        when(this.replyRepository.findById(replyId)).thenReturn(Optional.of(exisitngReplyEntity));
+        doNothing().when(this.postService).validateUserPostAccess(requester, postId);
+
+        // When
+        this.replyService.patchReply(requester, postId, replyId, new PatchReplyRequest("Patched reply"));
+
+        // Then
+        verify(this.replyRepository, never()).save(any());
+        Assertions.assertEquals("Patched reply", exisitngReplyEntity.getContent());
+        verify(this.postService, times(1)).increaseReplyVersion(postId);
     }
 
     @Test
@@ -126,15 +231,145 @@ class ReplyServiceTest {
         doNothing().when(this.userService).validateUserExistence(requestUserId);
         when(this.replyRepository.findById(replyId)).thenReturn(Optional.of(existingReplyEntity));
         doNothing().when(this.postService).validatePostById(postId);
-        doNothing().when(this.replyRepository).delete(any());
+        when(this.replyRepository.deleteAllByIdIn(List.of(replyId))).thenReturn(1);
 
         // When
         this.replyService.deleteReply(requester, postId, replyId);
 
         // Then
-        verify(this.replyRepository, times(1)).delete(existingReplyEntity);
+        verify(this.replyRepository, times(1)).deleteAllByIdIn(List.of(replyId));
         verify(this.replyRepository, times(1)).findById(replyId);
         verify(this.postService, times(1)).validatePostById(postId);
+        verify(this.postService, times(1)).addReplyCount(postId, -1);
+        verify(this.eventPublisher, times(1)).publishEvent(any(ReplyDeletedEvent.class));
+    }
+
+    @Test
+    void shouldDeleteDescendantsWithReply() {
+        // Given
+        long replyId = 1L;
+        long requestUserId = 1L;
+        RequestUser requester = new RequestUser(requestUserId, Role.USER);
+        long postId = 1L;
+        ReplyEntity existingReplyEntity = ReplyEntity.builder()
+            .id(replyId)
+            .postId(postId)
+            .userId(requestUserId)
+            .build();
+
+        doNothing().when(this.userService).validateUserExistence(requestUserId);
+        when(this.replyRepository.findById(replyId)).thenReturn(Optional.of(existingReplyEntity));
+        doNothing().when(this.postService).validatePostById(postId);
+        when(this.replyRepository.findIdsBySuperReplyIdIn(List.of(replyId))).thenReturn(List.of(2L, 3L));
+        when(this.replyRepository.findIdsBySuperReplyIdIn(List.of(2L, 3L))).thenReturn(List.of(4L));
+        when(this.replyRepository.findIdsBySuperReplyIdIn(List.of(4L))).thenReturn(List.of());
+
+        // When
+        this.replyService.deleteReply(requester, postId, replyId);
+
+        // Then
+        // 하위 댓글은 깊이 단위로 조회하고, 가장 깊은 댓글부터 묶음 단위로 지운 뒤 댓글 자신을 지운다.
+        InOrder deleteOrder = inOrder(this.replyRepository);
+        deleteOrder.verify(this.replyRepository).deleteAllByIdIn(List.of(4L, 3L, 2L));
+        deleteOrder.verify(this.replyRepository).deleteAllByIdIn(List.of(replyId));
+        verify(this.replyRepository, never()).delete(any());
+    }
+
+    @Test
+    void shouldDeleteDescendantsByPathPrefix() {
+        // Given
+        long replyId = 5L;
+        long requestUserId = 1L;
+        RequestUser requester = new RequestUser(requestUserId, Role.USER);
+        long postId = 1L;
+        ReplyEntity existingReplyEntity = ReplyEntity.builder()
+            .id(replyId)
+            .postId(postId)
+            .userId(requestUserId)
+            .superReplyId(1L)
+            .path("1/")
+            .build();
+
+        doNothing().when(this.userService).validateUserExistence(requestUserId);
+        when(this.replyRepository.findById(replyId)).thenReturn(Optional.of(existingReplyEntity));
+        doNothing().when(this.postService).validatePostById(postId);
+        when(this.replyRepository.existsByPostIdAndPathIsNull(postId)).thenReturn(false);
+        when(this.replyRepository.deleteAllByIdIn(List.of(replyId))).thenReturn(1);
+        when(this.replyRepository.deleteChunkByPostIdAndPathStartingWith(postId, "1/5/", 1000)).thenReturn(3);
+
+        // When
+        this.replyService.deleteReply(requester, postId, replyId);
+
+        // Then
+        // 경로가 채워진 댓글은 하위 댓글 ID를 깊이 단위로 조회하지 않는다. 댓글 수는 지운 트랜잭션마다 뺀다.
+        verify(this.replyRepository, never()).findIdsBySuperReplyIdIn(any());
+        verify(this.postService, times(1)).addReplyCount(postId, -3);
+        verify(this.postService, times(1)).addReplyCount(postId, -1);
+        verify(this.replyRepository, times(1)).addChildReplyCount(1L, -1);
+    }
+
+    @Test
+    void shouldDeleteDescendantsBySuperReplyWhilePathsAreBackfilled() {
+        // Given
+        long replyId = 5L;
+        long requestUserId = 1L;
+        RequestUser requester = new RequestUser(requestUserId, Role.USER);
+        long postId = 1L;
+        ReplyEntity existingReplyEntity = ReplyEntity.builder()
+            .id(replyId)
+            .postId(postId)
+            .userId(requestUserId)
+            .superReplyId(1L)
+            .path("1/")
+            .build();
+
+        doNothing().when(this.userService).validateUserExistence(requestUserId);
+        when(this.replyRepository.findById(replyId)).thenReturn(Optional.of(existingReplyEntity));
+        doNothing().when(this.postService).validatePostById(postId);
+        // 경로가 채워진 댓글 아래에 아직 경로가 없는 하위 댓글이 있을 수 있다.
+        when(this.replyRepository.existsByPostIdAndPathIsNull(postId)).thenReturn(true);
+        when(this.replyRepository.findIdsBySuperReplyIdIn(List.of(replyId))).thenReturn(List.of(6L));
+        when(this.replyRepository.findIdsBySuperReplyIdIn(List.of(6L))).thenReturn(List.of());
+        when(this.replyRepository.deleteAllByIdIn(List.of(6L))).thenReturn(1);
+        when(this.replyRepository.deleteAllByIdIn(List.of(replyId))).thenReturn(1);
+
+        // When
+        this.replyService.deleteReply(requester, postId, replyId);
+
+        // Then
+        verify(this.replyRepository, never()).deleteChunkByPostIdAndPathStartingWith(any(), any(), anyInt());
+        verify(this.postService, times(2)).addReplyCount(postId, -1);
+    }
+
+    @Test
+    void shouldDecreaseReplyCountsByDeletedReplies() {
+        // Given
+        long replyId = 2L;
+        long requestUserId = 1L;
+        RequestUser requester = new RequestUser(requestUserId, Role.USER);
+        long postId = 1L;
+        ReplyEntity existingReplyEntity = ReplyEntity.builder()
+            .id(replyId)
+            .postId(postId)
+            .userId(requestUserId)
+            .superReplyId(1L)
+            .build();
+
+        doNothing().when(this.userService).validateUserExistence(requestUserId);
+        when(this.replyRepository.findById(replyId)).thenReturn(Optional.of(existingReplyEntity));
+        doNothing().when(this.postService).validatePostById(postId);
+        when(this.replyRepository.findIdsBySuperReplyIdIn(List.of(replyId))).thenReturn(List.of(3L));
+        when(this.replyRepository.findIdsBySuperReplyIdIn(List.of(3L))).thenReturn(List.of());
+        when(this.replyRepository.deleteAllByIdIn(List.of(3L))).thenReturn(1);
+        when(this.replyRepository.deleteAllByIdIn(List.of(replyId))).thenReturn(1);
+
+        // When
+        this.replyService.deleteReply(requester, postId, replyId);
+
+        // Then
+        // 게시글의 댓글 수는 삭제된 서브트리 전체만큼, 상위 댓글의 하위 댓글 수는 1만큼 줄어든다.
+        verify(this.postService, times(2)).addReplyCount(postId, -1);
+        verify(this.replyRepository, times(1)).addChildReplyCount(1L, -1);
     }
 
     @Test
@@ -145,21 +380,43 @@ class ReplyServiceTest {
         long postId = 1L;
         long userId = 1L;
         PostDto existingPostDto = new PostDto(postId, "title", "content", PublicationStatus.PUBLIC_PUBLISHED, userId,
-                null, null);
+                null, null, 0);
 
         doNothing().when(this.userService).validateUserExistence(requestUserId);
         when(this.postService.getPost(requester, postId)).thenReturn(existingPostDto);
-        when(this.replyRepository.deleteAllByPostId(postId)).thenReturn(null); // 반환 값
-                                                                               // 사용하지 않음
+        when(this.replyRepository.deleteChunkByPostId(postId, 1000)).thenReturn(0);
 
         // When
         this.replyService.deleteAllByPostId(requester, postId);
 
         // Then
-        verify(this.replyRepository, times(1)).deleteAllByPostId(postId);
+        verify(this.replyRepository, times(1)).deleteChunkByPostId(postId, 1000);
         verify(this.postService, times(1)).getPost(requester, postId);
     }
 
+    @Test
+    void shouldDeleteAllReplyByPostInOneTransactionPerChunk() {
+        // Given
+        long requestUserId = 1L;
+        RequestUser requester = new RequestUser(requestUserId, Role.USER);
+        long postId = 1L;
+        PostDto existingPostDto = new PostDto(postId, "title", "content", PublicationStatus.PUBLIC_PUBLISHED,
+                requestUserId, null, null, 0);
+
+        doNothing().when(this.userService).validateUserExistence(requestUserId);
+        when(this.postService.getPost(requester, postId)).thenReturn(existingPostDto);
+        when(this.replyRepository.deleteChunkByPostId(postId, 1000)).thenReturn(1000, 5);
+
+        // When
+        this.replyService.deleteAllByPostId(requester, postId);
+
+        // Then
+        // 묶음마다 트랜잭션을 나누고, 지운 수만큼 게시글의 댓글 수를 같은 트랜잭션에서 뺀다.
+        verify(this.transactionTemplate, times(2)).execute(any());
+        verify(this.postService, times(1)).addReplyCount(postId, -1000);
+        verify(this.postService, times(1)).addReplyCount(postId, -5);
+    }
+
     @Test
     void shouldReturnRootReplies() {
         // Given
@@ -176,13 +433,68 @@ class ReplyServiceTest {
 
         doNothing().when(this.userService).validateUserExistence(requestUserId);
         doNothing().when(this.postService).validateUserPostAccess(requester, postId);
-        when(this.replyRepository.findAllByPostIdAndSuperReplyIdIsNull(postId)).thenReturn(zeroDepthReplies);
+        when(this.replyRepository.findRootsByPostId(postId, PageRequest.of(0, 21))).thenReturn(zeroDepthReplies);
+
+        // When
+        CursorPage<ReplyDto> rt = this.replyService.getRootRepliesByPostId(requester, postId,
+                CursorRequest.first(null));
+
+        // Then
+        rt.contents().forEach((replyDto) -> assertNull(replyDto.getSuperReplyId()));
+        assertFalse(rt.hasNext());
+    }
+
+    @Test
+    void shouldReadReplyListVersionFromPostAndReuseItsAccessCheck() {
+        // Given
+        long requestUserId = 1L;
+        RequestUser requester = new RequestUser(requestUserId, Role.USER);
+        long postId = 1L;
+        List<ReplyEntity> rootReplies = List
+            .of(ReplyEntity.builder().id(1L).postId(postId).userId(requestUserId).superReplyId(null).build());
+
+        when(this.postService.getPostVersion(requester, postId)).thenReturn(new PostVersionDto(postId, requestUserId,
+                PublicationStatus.PUBLIC_PUBLISHED, LocalDateTime.now(), 0, 1, 4));
+        when(this.replyRepository.findRootsByPostId(postId, PageRequest.of(0, 21))).thenReturn(rootReplies);
+
+        // When
+        ReplyListVersionDto version = this.replyService.getReplyListVersion(requester, postId);
+        CursorPage<ReplyDto> rt = this.replyService.getRootRepliesByPostId(version, CursorRequest.first(null));
+
+        // Then
+        // 댓글 목록 버전은 게시글에 유지하는 값으로 만들고, 버전을 읽을 때 확인한 접근 권한을 목록 조회에서 다시 확인하지 않는다.
+        assertEquals(new ReplyListVersionDto(postId, 1, 4), version);
+        assertEquals(1, rt.contents().size());
+        verify(this.postService, never()).validateUserPostAccess(any(), anyLong());
+        verify(this.userService, never()).validateUserExistence(anyLong());
+    }
+
+    @Test
+    void shouldReturnNextCursorWhenMoreRootRepliesExist() {
+        // Given
+        long requestUserId = 1L;
+        RequestUser requester = new RequestUser(requestUserId, Role.USER);
+        long postId = 1L;
+        LocalDateTime cursorCreatedAt = LocalDateTime.of(2024, 5, 1, 12, 0);
+        List<ReplyEntity> fetchedReplies = List.of(createReplyCreatedAt(11L, postId, cursorCreatedAt.plusMinutes(1)),
+                createReplyCreatedAt(12L, postId, cursorCreatedAt.plusMinutes(2)),
+                createReplyCreatedAt(13L, postId, cursorCreatedAt.plusMinutes(3)));
+
+        doNothing().when(this.userService).validateUserExistence(requestUserId);
+        doNothing().when(this.postService).validateUserPostAccess(requester, postId);
+        when(this.replyRepository.findRootsByPostIdAfter(postId, cursorCreatedAt, 10L, PageRequest.of(0, 3)))
+            .thenReturn(fetchedReplies);
 
         // When
-        List<ReplyDto> rt = this.replyService.getRootRepliesByPostId(requester, postId);
+        CursorPage<ReplyDto> page = this.replyService.getRootRepliesByPostId(requester, postId,
+                new CursorRequest(cursorCreatedAt, 10L, 2));
 
         // Then
-        rt.forEach((replyDto) -> assertNull(replyDto.getSuperReplyId()));
+        // 페이지 크기보다 하나 더 조회되었으므로 다음 페이지 커서는 두 번째 댓글을 가리킨다.
+        assertEquals(List.of(11L, 12L), page.contents().stream().map(ReplyDto::getReplyId).toList());
+        assertTrue(page.hasNext());
+        assertEquals(cursorCreatedAt.plusMinutes(2), page.nextCursorCreatedAt());
+        assertEquals(12L, page.nextCursorId());
     }
 
     @Test
@@ -209,13 +521,75 @@ class ReplyServiceTest {
         doNothing().when(this.userService).validateUserExistence(requestUserId);
         when(this.replyRepository.findById(parentReplyId)).thenReturn(Optional.of(superReply));
         doNothing().when(this.postService).validateUserPostAccess(requester, postId);
-        when(this.replyRepository.findAllBySuperReplyId(postId)).thenReturn(zeroDepthReplies);
+        when(this.replyRepository.findChildrenByPostIdAndSuperReplyId(postId, parentReplyId, PageRequest.of(0, 21)))
+            .thenReturn(zeroDepthReplies);
+
+        // When
+        CursorPage<ReplyDto> rt = this.replyService.getChildRepliesById(requester, postId, parentReplyId,
+                CursorRequest.first(null));
+
+        // Then
+        rt.contents().forEach((replyDto) -> assertEquals(parentReplyId, replyDto.getSuperReplyId()));
+    }
+
+    @Test
+    void shouldAssembleReplyThreadWithOneQuery() {
+        // Given
+        long requestUserId = 1L;
+        RequestUser requester = new RequestUser(requestUserId, Role.USER);
+        long postId = 1L;
+        List<ReplyEntity> replies = List.of(
+                ReplyEntity.builder().id(1L).postId(postId).userId(requestUserId).superReplyId(null).build(),
+                ReplyEntity.builder().id(2L).postId(postId).userId(requestUserId).superReplyId(1L).build(),
+                ReplyEntity.builder().id(3L).postId(postId).userId(requestUserId).superReplyId(null).build(),
+                ReplyEntity.builder().id(4L).postId(postId).userId(requestUserId).superReplyId(2L).build(),
+                ReplyEntity.builder().id(5L).postId(postId).userId(requestUserId).superReplyId(1L).build());
+
+        doNothing().when(this.userService).validateUserExistence(requestUserId);
+        doNothing().when(this.postService).validateUserPostAccess(requester, postId);
+        when(this.replyRepository.findAllByPostIdOrderByCreatedAtAscIdAsc(postId)).thenReturn(replies);
+
+        // When
+        List<ReplyThreadDto> thread = this.replyService.getReplyThread(requester, postId, null, null);
+
+        // Then
+        verify(this.replyRepository, times(1)).findAllByPostIdOrderByCreatedAtAscIdAsc(postId);
+        assertEquals(2, thread.size());
+        ReplyThreadDto firstRoot = thread.get(0);
+        assertEquals(1L, firstRoot.reply().getReplyId());
+        assertEquals(List.of(2L, 5L), firstRoot.children().stream().map((node) -> node.reply().getReplyId()).toList());
+        assertEquals(4L, firstRoot.children().get(0).children().get(0).reply().getReplyId());
+        assertFalse(firstRoot.hasMoreChildren());
+        assertEquals(3L, thread.get(1).reply().getReplyId());
+    }
+
+    @Test
+    void shouldLimitReplyThreadByDepthAndLevel() {
+        // Given
+        long requestUserId = 1L;
+        RequestUser requester = new RequestUser(requestUserId, Role.USER);
+        long postId = 1L;
+        List<ReplyEntity> replies = List.of(
+                ReplyEntity.builder().id(1L).postId(postId).userId(requestUserId).superReplyId(null).build(),
+                ReplyEntity.builder().id(2L).postId(postId).userId(requestUserId).superReplyId(1L).build(),
+                ReplyEntity.builder().id(3L).postId(postId).userId(requestUserId).superReplyId(1L).build(),
+                ReplyEntity.builder().id(4L).postId(postId).userId(requestUserId).superReplyId(2L).build());
+
+        doNothing().when(this.userService).validateUserExistence(requestUserId);
+        doNothing().when(this.postService).validateUserPostAccess(requester, postId);
+        when(this.replyRepository.findAllByPostIdOrderByCreatedAtAscIdAsc(postId)).thenReturn(replies);
 
         // When
-        List<ReplyDto> rt = this.replyService.getChildRepliesById(requester, parentReplyId, postId);
+        List<ReplyThreadDto> thread = this.replyService.getReplyThread(requester, postId, 2, 1);
 
         // Then
-        rt.forEach((replyDto) -> assertEquals(parentReplyId, replyDto.getSuperReplyId()));
+        ReplyThreadDto root = thread.get(0);
+        assertTrue(root.hasMoreChildren());
+        assertEquals(1, root.children().size());
+        ReplyThreadDto child = root.children().get(0);
+        assertEquals(2L, child.reply().getReplyId());
+        assertTrue(child.hasMoreChildren());
+        assertTrue(child.children().isEmpty());
     }
 
     @Test
@@ -258,4 +632,42 @@ class ReplyServiceTest {
                 () -> this.replyService.updateReply(requester, postId, replyId, updateReplyRequest));
     }
 
+    @Test
+    void shouldReturnAncestorsFromRootByPath() {
+        // Given
+        long requestUserId = 1L;
+        RequestUser requester = new RequestUser(requestUserId, Role.USER);
+        long postId = 1L;
+        long replyId = 9L;
+        ReplyEntity reply = ReplyEntity.builder()
+            .id(replyId)
+            .postId(postId)
+            .userId(requestUserId)
+            .superReplyId(5L)
+            .path("1/5/")
+            .build();
+
+        doNothing().when(this.userService).validateUserExistence(requestUserId);
+        when(this.replyRepository.findById(replyId)).thenReturn(Optional.of(reply));
+        doNothing().when(this.postService).validatePostById(postId);
+        doNothing().when(this.postService).validateUserPostAccess(requester, postId);
+        // 기본 키 IN 조회는 순서를 보장하지 않는다.
+        when(this.replyRepository.findAllById(List.of(1L, 5L))).thenReturn(List.of(
+                ReplyEntity.builder().id(5L).postId(postId).userId(requestUserId).superReplyId(1L).path("1/").build(),
+                ReplyEntity.builder().id(1L).postId(postId).userId(requestUserId).path("").build()));
+
+        // When
+        List<ReplyDto> ancestors = this.replyService.getAncestors(requester, postId, replyId);
+
+        // Then
+        assertEquals(List.of(1L, 5L), ancestors.stream().map(ReplyDto::getReplyId).toList());
+        verify(this.replyRepository, never()).findById(5L);
+    }
+
+    private ReplyEntity createReplyCreatedAt(Long replyId, Long postId, LocalDateTime createdAt) {
+        ReplyEntity reply = ReplyEntity.builder().id(replyId).postId(postId).userId(1L).build();
+        ReflectionTestUtils.setField(reply, "createdAt", createdAt);
+        return reply;
+    }
+
 }
@@ -0,0 +1,117 @@
+package dev.sijunyang.celog.core.domain.reply;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ReplyStreamHubTest {
+
+    // 전송 작업은 바로 실행하지 않고, 테스트에서 필요할 때 직접 실행한다.
+    @Mock
+    private ExecutorService senderExecutor;
+
+    // 테스트에서 전송에 걸린 시간을 정할 수 있도록 직접 움직이는 시계
+    private final AtomicLong nanoTime = new AtomicLong();
+
+    private ReplyStreamProperties properties;
+
+    private ReplyStreamHub replyStreamHub;
+
+    @BeforeEach
+    void setUp() {
+        this.properties = new ReplyStreamProperties(2, Duration.ofSeconds(15), Duration.ofMinutes(30), 1,
+                Duration.ofSeconds(5));
+        this.replyStreamHub = new ReplyStreamHub(this.properties, this.senderExecutor, this.nanoTime::get);
+    }
+
+    @Test
+    void shouldScheduleOneSenderPerSubscriber() {
+        // Given
+        long postId = 1L;
+        this.replyStreamHub.subscribe(postId);
+
+        // When
+        this.replyStreamHub.publish(postId, "first");
+        this.replyStreamHub.publish(postId, "second");
+
+        // Then
+        // 이미 전송 작업이 예약된 구독자에게는 대기열에만 넣는다.
+        ArgumentCaptor<Runnable> sender = ArgumentCaptor.forClass(Runnable.class);
+        verify(this.senderExecutor, times(1)).execute(sender.capture());
+
+        sender.getValue().run();
+        this.replyStreamHub.publish(postId, "third");
+        verify(this.senderExecutor, times(2)).execute(sender.capture());
+        assertEquals(1, this.replyStreamHub.getSubscriberCount(postId));
+    }
+
+    @Test
+    void shouldEvictSubscriberWhenBufferOverflows() {
+        // Given
+        long postId = 1L;
+        this.replyStreamHub.subscribe(postId);
+        this.replyStreamHub.subscribe(postId);
+
+        // When
+        this.replyStreamHub.publish(postId, "first");
+        this.replyStreamHub.publish(postId, "second");
+        this.replyStreamHub.sendHeartbeats();
+
+        // Then
+        assertEquals(0, this.replyStreamHub.getSubscriberCount(postId));
+        assertFalse(this.replyStreamHub.hasSubscribers(postId));
+    }
+
+    @Test
+    void shouldEvictSubscriberWhenSendExceedsTimeout() {
+        // Given
+        long postId = 1L;
+        this.replyStreamHub.subscribe(postId);
+        // 시계를 읽을 때마다 보내기 제한 시간보다 많이 흐르게 하여 모든 전송이 느린 것으로 만든다.
+        AtomicLong slowNanoTime = new AtomicLong();
+        long step = this.properties.sendTimeout().plusSeconds(1).toNanos();
+        ReplyStreamHub slowHub = new ReplyStreamHub(this.properties, this.senderExecutor,
+                () -> slowNanoTime.addAndGet(step));
+        slowHub.subscribe(postId);
+
+        // When
+        this.replyStreamHub.publish(postId, "first");
+        slowHub.publish(postId, "first");
+
+        // Then
+        ArgumentCaptor<Runnable> sender = ArgumentCaptor.forClass(Runnable.class);
+        verify(this.senderExecutor, times(2)).execute(sender.capture());
+        sender.getAllValues().forEach(Runnable::run);
+        assertEquals(1, this.replyStreamHub.getSubscriberCount(postId));
+        assertEquals(0, slowHub.getSubscriberCount(postId));
+    }
+
+    @Test
+    void shouldRemoveAllSubscribersOfPost() {
+        // Given
+        this.replyStreamHub.subscribe(1L);
+        this.replyStreamHub.subscribe(2L);
+
+        // When
+        this.replyStreamHub.completeAll(1L);
+
+        // Then
+        assertFalse(this.replyStreamHub.hasSubscribers(1L));
+        assertTrue(this.replyStreamHub.hasSubscribers(2L));
+    }
+
+}
@@ -0,0 +1,208 @@
+package dev.sijunyang.celog.core.domain.revision;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import dev.sijunyang.celog.core.domain.post.PostDeletedEvent;
+import dev.sijunyang.celog.core.domain.post.PostEntity;
+import dev.sijunyang.celog.core.domain.post.PostRepository;
+import dev.sijunyang.celog.core.domain.post.PostService;
+import dev.sijunyang.celog.core.domain.post.PostUpdatedEvent;
+import dev.sijunyang.celog.core.domain.post.PostVersionDto;
+import dev.sijunyang.celog.core.domain.user.RequestUser;
+import dev.sijunyang.celog.core.global.enums.PublicationStatus;
+import dev.sijunyang.celog.core.global.enums.Role;
+import dev.sijunyang.celog.core.global.error.nextVer.InsufficientPermissionException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PostRevisionServiceTest {
+
+    @Mock
+    private PostRevisionRepository postRevisionRepository;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private PostService postService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private PostRevisionService postRevisionService;
+
+    @Test
+    void shouldRestoreRevisionFromNearestSnapshot() {
+        // Given
+        RequestUser owner = new RequestUser(1L, Role.USER);
+        when(this.postService.getPostVersion(owner, 1L)).thenReturn(createPostVersionDto(1L));
+        // 12번 수정 이력은 11번 스냅샷부터 복원한다.
+        when(this.postRevisionRepository.findAllByPostIdAndRevisionNumberBetweenOrderByRevisionNumberAsc(1L, 11, 12))
+            .thenReturn(List.of(createSnapshot(11, "안녕하세요"), createDelta(12, 2, 3, " 여러분 ")));
+
+        // When
+        PostRevisionDto revision = this.postRevisionService.getRevision(owner, 1L, 12);
+
+        // Then
+        assertEquals("안녕 여러분 하세요", revision.content());
+        assertEquals(12, revision.revisionNumber());
+    }
+
+    @Test
+    void shouldRejectRevisionsOfOtherUsersPost() {
+        // Given
+        RequestUser otherUser = new RequestUser(2L, Role.USER);
+        when(this.postService.getPostVersion(otherUser, 1L)).thenReturn(createPostVersionDto(1L));
+
+        // When & Then
+        assertThrows(InsufficientPermissionException.class, () -> this.postRevisionService.getRevisions(otherUser, 1L));
+        verify(this.postRevisionRepository, never()).findAllSummariesByPostId(any());
+    }
+
+    @Test
+    void shouldSaveDeltaAgainstLatestRevision() {
+        // Given
+        givenTransactionRunsImmediately();
+        PostEntity post = createPostEntity("안녕 여러분 하세요", LocalDateTime.now());
+        PostRevisionEntity latest = createSnapshot(1, "안녕하세요");
+        when(this.postRepository.findWithShareLockById(1L)).thenReturn(Optional.of(post));
+        when(this.postRevisionRepository.findTopByPostIdOrderByRevisionNumberDesc(1L)).thenReturn(Optional.of(latest));
+        when(this.postRevisionRepository.findAllByPostIdAndRevisionNumberBetweenOrderByRevisionNumberAsc(1L, 1, 1))
+            .thenReturn(List.of(latest));
+
+        // When
+        this.postRevisionService.handlePostUpdated(new PostUpdatedEvent(1L, PublicationStatus.PUBLIC_PUBLISHED,
+                PublicationStatus.PUBLIC_PUBLISHED));
+
+        // Then
+        ArgumentCaptor<PostRevisionEntity> saved = ArgumentCaptor.forClass(PostRevisionEntity.class);
+        verify(this.postRevisionRepository).saveAndFlush(saved.capture());
+        assertEquals(2, saved.getValue().getRevisionNumber());
+        assertFalse(saved.getValue().isSnapshot());
+        assertEquals(" 여러분 ", saved.getValue().getBody());
+    }
+
+    @Test
+    void shouldSkipAlreadyRecordedModification() {
+        // Given
+        givenTransactionRunsImmediately();
+        LocalDateTime modifiedAt = LocalDateTime.now();
+        PostEntity post = createPostEntity("안녕하세요", modifiedAt);
+        PostRevisionEntity latest = PostRevisionEntity.builder()
+            .postId(1L)
+            .revisionNumber(1)
+            .title("제목")
+            .snapshot(true)
+            .body("안녕하세요")
+            .postModifiedAt(modifiedAt)
+            .build();
+        when(this.postRepository.findWithShareLockById(1L)).thenReturn(Optional.of(post));
+        when(this.postRevisionRepository.findTopByPostIdOrderByRevisionNumberDesc(1L)).thenReturn(Optional.of(latest));
+
+        // When
+        this.postRevisionService.handlePostUpdated(new PostUpdatedEvent(1L, PublicationStatus.PUBLIC_PUBLISHED,
+                PublicationStatus.PUBLIC_PUBLISHED));
+
+        // Then
+        verify(this.postRevisionRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void shouldSkipRevisionOfDeletedPost() {
+        // Given
+        givenTransactionRunsImmediately();
+        when(this.postRepository.findWithShareLockById(1L)).thenReturn(Optional.empty());
+
+        // When
+        this.postRevisionService.handlePostUpdated(new PostUpdatedEvent(1L, PublicationStatus.PUBLIC_PUBLISHED,
+                PublicationStatus.PUBLIC_PUBLISHED));
+
+        // Then
+        verify(this.postRevisionRepository, never()).findTopByPostIdOrderByRevisionNumberDesc(any());
+        verify(this.postRevisionRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void shouldDeletePostRowBeforeRevisions() {
+        // Given
+        givenTransactionRunsImmediately();
+
+        // When
+        this.postRevisionService.handlePostDeleted(new PostDeletedEvent(1L));
+
+        // Then
+        InOrder inOrder = inOrder(this.postRepository, this.postRevisionRepository);
+        inOrder.verify(this.postRepository).flush();
+        inOrder.verify(this.postRevisionRepository).deleteAllByPostId(1L);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenTransactionRunsImmediately() {
+        doAnswer((invocation) -> {
+            invocation.getArgument(0, Consumer.class).accept(null);
+            return null;
+        }).when(this.transactionTemplate).executeWithoutResult(any());
+    }
+
+    private PostVersionDto createPostVersionDto(long userId) {
+        return new PostVersionDto(1L, userId, PublicationStatus.PUBLIC_PUBLISHED, LocalDateTime.now(), 0, 0, 0);
+    }
+
+    private PostEntity createPostEntity(String content, LocalDateTime modifiedAt) {
+        PostEntity post = PostEntity.builder()
+            .id(1L)
+            .title("제목")
+            .content(content)
+            .readStatus(PublicationStatus.PUBLIC_PUBLISHED)
+            .userId(1L)
+            .build();
+        ReflectionTestUtils.setField(post, "modifiedAt", modifiedAt);
+        return post;
+    }
+
+    private PostRevisionEntity createSnapshot(int revisionNumber, String content) {
+        return PostRevisionEntity.builder()
+            .postId(1L)
+            .revisionNumber(revisionNumber)
+            .title("제목")
+            .snapshot(true)
+            .body(content)
+            .postModifiedAt(LocalDateTime.now().minusDays(1))
+            .build();
+    }
+
+    private PostRevisionEntity createDelta(int revisionNumber, int prefixLength, int suffixLength, String body) {
+        return PostRevisionEntity.builder()
+            .postId(1L)
+            .revisionNumber(revisionNumber)
+            .title("제목")
+            .prefixLength(prefixLength)
+            .suffixLength(suffixLength)
+            .body(body)
+            .postModifiedAt(LocalDateTime.now().minusDays(1))
+            .build();
+    }
+
+}
@@ -0,0 +1,40 @@
+package dev.sijunyang.celog.core.domain.revision;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RevisionDeltaTest {
+
+    @Test
+    void shouldStoreOnlyChangedMiddlePart() {
+        // Given
+        String previous = "# 제목\n첫 문단입니다.\n마지막 문단입니다.";
+        String current = "# 제목\n수정한 첫 문단입니다.\n마지막 문단입니다.";
+
+        // When
+        RevisionDelta delta = RevisionDelta.between(previous, current);
+
+        // Then
+        assertEquals("수정한 ", delta.insertedText());
+        assertEquals(current, delta.applyTo(previous));
+    }
+
+    @Test
+    void shouldRestoreWhenContentIsRemovedOrRepeated() {
+        // Given
+        String previous = "aaaa";
+        String current = "aa";
+
+        // When
+        RevisionDelta removed = RevisionDelta.between(previous, current);
+        RevisionDelta appended = RevisionDelta.between(current, previous);
+        RevisionDelta cleared = RevisionDelta.between(previous, "");
+
+        // Then
+        assertEquals(current, removed.applyTo(previous));
+        assertEquals(previous, appended.applyTo(current));
+        assertEquals("", cleared.applyTo(previous));
+    }
+
+}
@@ -0,0 +1,115 @@
+package dev.sijunyang.celog.core.domain.search;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import dev.sijunyang.celog.core.domain.post.PostDto;
+import dev.sijunyang.celog.core.domain.post.PostSummaryDto;
+import dev.sijunyang.celog.core.global.enums.PublicationStatus;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PostSearchIndexTest {
+
+    private final PostSearchIndex postSearchIndex = new PostSearchIndex();
+
+    @Test
+    void shouldTokenizeKoreanIntoBigramsAndLatinIntoWords() {
+        // When
+        List<String> tokens = BigramTokenizer.tokenize("스프링부트 Spring, 글!");
+
+        // Then
+        assertEquals(List.of("스프", "프링", "링부", "부트", "spring", "글"), tokens);
+    }
+
+    @Test
+    void shouldFindKoreanPostsWithoutWhitespaceBoundaries() {
+        // Given
+        this.postSearchIndex.put(createPost(1L, "스프링부트 시작하기", "첫 번째 게시글", LocalDateTime.now()), 0);
+        this.postSearchIndex.put(createPost(2L, "자바 기초", "스프링 없이 자바만 다룹니다", LocalDateTime.now()), 0);
+        this.postSearchIndex.put(createPost(3L, "여행 일기", "제주도 여행", LocalDateTime.now()), 0);
+
+        // When
+        PostSearchResultDto result = this.postSearchIndex.search("스프링", 0, 10);
+
+        // Then
+        assertEquals(2, result.totalCount());
+        // 제목에 검색어가 포함된 게시글이 본문에만 포함된 게시글보다 먼저 와야 한다.
+        assertEquals(List.of(1L, 2L), result.contents().stream().map(PostSummaryDto::postId).toList());
+    }
+
+    @Test
+    void shouldReplaceAndRemoveIndexedPost() {
+        // Given
+        LocalDateTime createdAt = LocalDateTime.now();
+        this.postSearchIndex.put(createPost(1L, "스프링", "본문", createdAt), 0);
+        this.postSearchIndex.put(createPost(1L, "코틀린", "본문", createdAt.plusMinutes(1)), 0);
+
+        // When
+        PostSearchResultDto oldTermResult = this.postSearchIndex.search("스프링", 0, 10);
+        PostSearchResultDto newTermResult = this.postSearchIndex.search("코틀린", 0, 10);
+        this.postSearchIndex.remove(1L);
+        PostSearchResultDto removedResult = this.postSearchIndex.search("코틀린", 0, 10);
+
+        // Then
+        assertTrue(oldTermResult.contents().isEmpty());
+        assertEquals(1, newTermResult.totalCount());
+        assertTrue(removedResult.contents().isEmpty());
+    }
+
+    @Test
+    void shouldIgnoreOlderRevisionOfIndexedPost() {
+        // Given
+        LocalDateTime modifiedAt = LocalDateTime.now();
+        this.postSearchIndex.put(createPost(1L, "코틀린", "본문", modifiedAt), 0);
+
+        // When
+        this.postSearchIndex.put(createPost(1L, "스프링", "본문", modifiedAt.minusMinutes(1)), 0);
+
+        // Then
+        assertEquals(1, this.postSearchIndex.search("코틀린", 0, 10).totalCount());
+        assertEquals(0, this.postSearchIndex.search("스프링", 0, 10).totalCount());
+    }
+
+    @Test
+    void shouldIgnoreLatePutOfDeletedPost() {
+        // Given
+        LocalDateTime modifiedAt = LocalDateTime.now();
+        this.postSearchIndex.put(createPost(1L, "스프링", "본문", modifiedAt), 0);
+        this.postSearchIndex.put(createPost(2L, "스프링", "본문", modifiedAt), 0);
+
+        // When
+        // 삭제가 커밋되기 전에 읽은 게시글이 삭제 뒤에 색인되더라도 다시 추가되지 않아야 한다.
+        this.postSearchIndex.delete(1L);
+        this.postSearchIndex.put(createPost(1L, "스프링", "본문", modifiedAt), 0);
+        // 비공개로 바뀌었던 게시글은 다시 공개되면 색인된다.
+        this.postSearchIndex.remove(2L);
+        this.postSearchIndex.put(createPost(2L, "스프링", "본문", modifiedAt.plusMinutes(1)), 0);
+
+        // Then
+        PostSearchResultDto result = this.postSearchIndex.search("스프링", 0, 10);
+        assertEquals(List.of(2L), result.contents().stream().map(PostSummaryDto::postId).toList());
+    }
+
+    @Test
+    void shouldServeReplyCountsKeptInIndex() {
+        // Given
+        this.postSearchIndex.put(createPost(1L, "스프링", "본문", LocalDateTime.now()), 3);
+
+        // When
+        this.postSearchIndex.updateReplyCounts(Map.of(1L, 5L, 2L, 7L));
+
+        // Then
+        // 색인되지 않은 게시글의 댓글 수는 색인에 추가되지 않는다.
+        assertEquals(List.of(1L), this.postSearchIndex.filterIndexed(List.of(1L, 2L)));
+        assertEquals(5, this.postSearchIndex.search("스프링", 0, 10).contents().get(0).replyCount());
+    }
+
+    private PostDto createPost(Long postId, String title, String content, LocalDateTime modifiedAt) {
+        return new PostDto(postId, title, content, PublicationStatus.PUBLIC_PUBLISHED, 1L, modifiedAt, modifiedAt, 0);
+    }
+
+}
@@ -0,0 +1,211 @@
+package dev.sijunyang.celog.core.domain.timeline;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import dev.sijunyang.celog.core.domain.follow.FollowService;
+import dev.sijunyang.celog.core.domain.follow.FollowerDto;
+import dev.sijunyang.celog.core.domain.post.PostCreatedEvent;
+import dev.sijunyang.celog.core.domain.post.PostRepository;
+import dev.sijunyang.celog.core.domain.post.PostSummaryDto;
+import dev.sijunyang.celog.core.domain.post.PostUpdatedEvent;
+import dev.sijunyang.celog.core.domain.user.RequestUser;
+import dev.sijunyang.celog.core.domain.user.UserService;
+import dev.sijunyang.celog.core.global.enums.PublicationStatus;
+import dev.sijunyang.celog.core.global.enums.Role;
+import dev.sijunyang.celog.core.global.pagination.CursorPage;
+import dev.sijunyang.celog.core.global.pagination.CursorRequest;
+import dev.sijunyang.celog.core.global.pagination.PaginationProperties;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TimelineServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 3, 1, 12, 0);
+
+    @Mock
+    private TimelineEntryRepository timelineEntryRepository;
+
+    @Mock
+    private TimelineFanOutRepository timelineFanOutRepository;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private FollowService followService;
+
+    @Mock
+    private UserService userService;
+
+    @Spy
+    private TimelineProperties timelineProperties = new TimelineProperties(100, 2, 500,
+            Duration.ofMinutes(5));
+
+    @Spy
+    private PaginationProperties paginationProperties = new PaginationProperties(20, 100);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private TimelineService timelineService;
+
+    @Captor
+    private ArgumentCaptor<List<Object[]>> batchArgsCaptor;
+
+    @Test
+    void shouldMergeStoredEntriesWithPostsOfPopularAuthors() {
+        // Given
+        RequestUser requester = new RequestUser(1L, Role.USER);
+        when(this.timelineEntryRepository.findEntriesByUserId(1L, PageRequest.of(0, 3)))
+            .thenReturn(List.of(new TimelineEntryDto(30L, NOW.minusMinutes(1)),
+                    new TimelineEntryDto(10L, NOW.minusMinutes(3))));
+        when(this.followService.getFolloweeIdsWithFollowerCountAtLeast(1L, 100)).thenReturn(List.of(9L));
+        // 팔로워가 많은 9번 사용자의 게시글은 타임라인을 조회할 때 읽는다.
+        PostSummaryDto popularPost = createSummary(20L, 9L, NOW.minusMinutes(2));
+        when(this.postRepository.findSummariesByUserIdInAndReadStatus(List.of(9L),
+                PublicationStatus.PUBLIC_PUBLISHED, PageRequest.of(0, 3)))
+            .thenReturn(List.of(popularPost));
+        PostSummaryDto storedPost = createSummary(30L, 2L, NOW.minusMinutes(1));
+        when(this.postRepository.findSummariesByIdInAndReadStatus(List.of(30L), PublicationStatus.PUBLIC_PUBLISHED))
+            .thenReturn(List.of(storedPost));
+
+        // When
+        CursorPage<PostSummaryDto> page = this.timelineService.getHomeTimeline(requester, CursorRequest.first(2));
+
+        // Then
+        assertEquals(List.of(storedPost, popularPost), page.contents());
+        assertTrue(page.hasNext());
+        assertEquals(NOW.minusMinutes(2), page.nextCursorCreatedAt());
+        assertEquals(20L, page.nextCursorId());
+    }
+
+    @Test
+    void shouldInsertEntriesForEveryFollowerInBatches() {
+        // Given
+        when(this.postRepository.findSummariesByIdInAndReadStatus(List.of(5L), PublicationStatus.PUBLIC_PUBLISHED))
+            .thenReturn(List.of(createSummary(5L, 2L, NOW)));
+        when(this.userService.getFollowerCount(2L)).thenReturn(3L);
+        when(this.followService.getFollowersAfter(2L, 0, 2))
+            .thenReturn(List.of(new FollowerDto(100L, 1L), new FollowerDto(101L, 3L)));
+        when(this.followService.getFollowersAfter(2L, 101L, 2)).thenReturn(List.of(new FollowerDto(102L, 4L)));
+
+        // When
+        this.timelineService.handlePostCreated(new PostCreatedEvent(5L));
+
+        // Then
+        verify(this.jdbcTemplate, times(2)).batchUpdate(anyString(), this.batchArgsCaptor.capture());
+        List<List<Object[]>> batches = this.batchArgsCaptor.getAllValues();
+        assertEquals(2, batches.get(0).size());
+        assertArrayEquals(new Object[] { 4L, 5L, 2L, NOW }, batches.get(1).get(0));
+        // 묶음마다 진행 위치를 기록하고, 모두 넣으면 진행 위치를 지운다.
+        verify(this.jdbcTemplate, times(1)).update(startsWith("UPDATE timeline_fan_out"), eq(101L), any(), eq(5L));
+        verify(this.jdbcTemplate, times(1)).update(startsWith("UPDATE timeline_fan_out"), eq(102L), any(), eq(5L));
+        verify(this.jdbcTemplate, times(1)).update(startsWith("DELETE FROM timeline_fan_out"), eq(5L));
+    }
+
+    @Test
+    void shouldFanOutWhenDraftIsPublished() {
+        // Given
+        when(this.postRepository.findSummariesByIdInAndReadStatus(List.of(5L), PublicationStatus.PUBLIC_PUBLISHED))
+            .thenReturn(List.of(createSummary(5L, 2L, NOW)));
+        when(this.userService.getFollowerCount(2L)).thenReturn(1L);
+        when(this.followService.getFollowersAfter(2L, 0, 2)).thenReturn(List.of(new FollowerDto(100L, 1L)));
+
+        // When
+        this.timelineService.handlePostUpdated(
+                new PostUpdatedEvent(5L, PublicationStatus.DRAFTING, PublicationStatus.PUBLIC_PUBLISHED));
+
+        // Then
+        verify(this.jdbcTemplate, times(1)).batchUpdate(anyString(), this.batchArgsCaptor.capture());
+        assertArrayEquals(new Object[] { 1L, 5L, 2L, NOW }, this.batchArgsCaptor.getValue().get(0));
+    }
+
+    @Test
+    void shouldNotFanOutAgainWhenPublishedPostIsEdited() {
+        // When
+        this.timelineService.handlePostUpdated(
+                new PostUpdatedEvent(5L, PublicationStatus.PUBLIC_PUBLISHED, PublicationStatus.PUBLIC_PUBLISHED));
+
+        // Then
+        verifyNoInteractions(this.postRepository, this.followService, this.jdbcTemplate);
+    }
+
+    @Test
+    void shouldResumeStalledFanOutFromRecordedFollower() {
+        // Given
+        // 101번 팔로우까지 저장하고 실패한 fan-out 이다.
+        TimelineFanOutEntity stalledFanOut = new TimelineFanOutEntity();
+        ReflectionTestUtils.setField(stalledFanOut, "postId", 5L);
+        ReflectionTestUtils.setField(stalledFanOut, "lastFollowId", 101L);
+        when(this.timelineFanOutRepository.findAllByUpdatedAtBeforeOrderByUpdatedAt(any(),
+                eq(PageRequest.of(0, TimelineService.RESUME_BATCH_SIZE))))
+            .thenReturn(List.of(stalledFanOut));
+        when(this.postRepository.findSummariesByIdInAndReadStatus(List.of(5L), PublicationStatus.PUBLIC_PUBLISHED))
+            .thenReturn(List.of(createSummary(5L, 2L, NOW)));
+        when(this.userService.getFollowerCount(2L)).thenReturn(3L);
+        when(this.followService.getFollowersAfter(2L, 101L, 2)).thenReturn(List.of(new FollowerDto(102L, 4L)));
+
+        // When
+        this.timelineService.resumeStalledFanOuts();
+
+        // Then
+        // 이미 저장한 팔로워는 다시 처리하지 않는다.
+        verify(this.followService, never()).getFollowersAfter(2L, 0, 2);
+        verify(this.jdbcTemplate, times(1)).batchUpdate(anyString(), this.batchArgsCaptor.capture());
+        assertArrayEquals(new Object[] { 4L, 5L, 2L, NOW }, this.batchArgsCaptor.getValue().get(0));
+        verify(this.jdbcTemplate, times(1)).update(startsWith("DELETE FROM timeline_fan_out"), eq(5L));
+    }
+
+    @Test
+    void shouldNotFanOutPostsOfPopularAuthors() {
+        // Given
+        when(this.postRepository.findSummariesByIdInAndReadStatus(List.of(5L), PublicationStatus.PUBLIC_PUBLISHED))
+            .thenReturn(List.of(createSummary(5L, 2L, NOW)));
+        when(this.userService.getFollowerCount(2L)).thenReturn(100L);
+
+        // When
+        this.timelineService.handlePostCreated(new PostCreatedEvent(5L));
+
+        // Then
+        verify(this.followService, never()).getFollowersAfter(2L, 0, 2);
+        verifyNoInteractions(this.jdbcTemplate);
+    }
+
+    @Test
+    void shouldTrimEachTimelineOnlyOccasionally() {
+        assertTrue(TimelineService.shouldTrim(6L, 10L));
+        assertFalse(TimelineService.shouldTrim(7L, 10L));
+    }
+
+    private PostSummaryDto createSummary(Long postId, Long userId, LocalDateTime createdAt) {
+        return new PostSummaryDto(postId, "제목", userId, createdAt, createdAt, 0);
+    }
+
+}
@@ -0,0 +1,131 @@
+package dev.sijunyang.celog.core.domain.trending;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Consumer;
+
+import dev.sijunyang.celog.core.domain.trending.TrendingScoreBoard.ScoredPost;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TrendingScoreBoardTest {
+
+    private static final long HOUR_MILLIS = Duration.ofHours(1).toMillis();
+
+    private static final long NOW = 1_700_000_000_000L;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ResultSet resultSet;
+
+    private TrendingScoreBoard trendingScoreBoard;
+
+    @BeforeEach
+    void setUp() {
+        TrendingProperties trendingProperties = new TrendingProperties(Duration.ofHours(1), 1, 5, 1000, 0.01);
+        this.trendingScoreBoard = new TrendingScoreBoard(trendingProperties, this.jdbcTemplate,
+                this.transactionTemplate);
+        // 트랜잭션 콜백을 바로 실행한다.
+        lenient().doAnswer((invocation) -> {
+            Consumer<TransactionStatus> action = invocation.getArgument(0);
+            action.accept(null);
+            return null;
+        }).when(this.transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Test
+    void shouldRankRecentReactionsAboveOlderOnes() {
+        // Given
+        // 두 시간 전의 점수 4는 반감기 두 번이 지나 1이 되므로, 방금 더한 점수 2보다 낮다.
+        this.trendingScoreBoard.add(1L, 4, NOW - 2 * HOUR_MILLIS);
+        this.trendingScoreBoard.add(2L, 2, NOW);
+        this.trendingScoreBoard.add(3L, 1, NOW - HOUR_MILLIS);
+        this.trendingScoreBoard.add(3L, 1, NOW);
+
+        // When
+        List<ScoredPost> topPosts = this.trendingScoreBoard.getTopPosts(3, NOW);
+
+        // Then
+        assertEquals(List.of(2L, 3L, 1L), topPosts.stream().map(ScoredPost::postId).toList());
+        assertEquals(2, topPosts.get(0).score(), 1e-6);
+        assertEquals(1.5, topPosts.get(1).score(), 1e-6);
+        assertEquals(1, topPosts.get(2).score(), 1e-6);
+    }
+
+    @Test
+    void shouldReplaceRankingWithSavedScoresAfterCheckpoint() throws SQLException {
+        // Given
+        this.trendingScoreBoard.add(1L, 1, NOW);
+        this.trendingScoreBoard.add(2L, 1, NOW);
+        // 다른 인스턴스가 더한 점수까지 합쳐진 2번 게시글의 점수 3만 상위 점수로 저장되어 있다.
+        when(this.resultSet.getLong("post_id")).thenReturn(2L);
+        when(this.resultSet.getDouble("log_score")).thenReturn(logScoreAt(3, NOW));
+        when(this.jdbcTemplate.query(anyString(), any(RowMapper.class), eq(1000)))
+            .thenAnswer((invocation) -> List.of(invocation.<RowMapper<?>>getArgument(1).mapRow(this.resultSet, 0)));
+
+        // When
+        this.trendingScoreBoard.checkpoint(NOW);
+
+        // Then
+        verify(this.jdbcTemplate, times(1)).batchUpdate(anyString(), anyList());
+        List<ScoredPost> topPosts = this.trendingScoreBoard.getTopPosts(10, NOW);
+        assertEquals(1, topPosts.size());
+        assertEquals(2L, topPosts.get(0).postId());
+        assertEquals(3, topPosts.get(0).score(), 1e-6);
+    }
+
+    @Test
+    void shouldKeepScoresWhenCheckpointFails() {
+        // Given
+        this.trendingScoreBoard.add(1L, 1, NOW);
+        when(this.jdbcTemplate.batchUpdate(anyString(), anyList())).thenThrow(new QueryTimeoutException("timeout"));
+
+        // When
+        assertThrows(QueryTimeoutException.class, () -> this.trendingScoreBoard.checkpoint(NOW));
+
+        // Then
+        List<ScoredPost> topPosts = this.trendingScoreBoard.getTopPosts(10, NOW);
+        assertEquals(1L, topPosts.get(0).postId());
+        assertEquals(1, topPosts.get(0).score(), 1e-6);
+    }
+
+    @Test
+    void shouldAddLogScoresWithoutOverflow() {
+        assertEquals(1000 + Math.log(2), TrendingScoreBoard.logAdd(1000, 1000), 1e-6);
+        assertEquals(Math.log(3), TrendingScoreBoard.logAdd(Math.log(1), Math.log(2)), 1e-6);
+    }
+
+    // TrendingScoreBoard 와 같은 방식으로 1970-01-01T00:00Z 시점으로 되돌린 로그 점수를 계산한다.
+    private double logScoreAt(double score, long epochMillis) {
+        return Math.log(score) + Math.log(2) / Duration.ofHours(1).toSeconds() * (epochMillis / 1000.0);
+    }
+
+}
@@ -1,8 +1,10 @@
 package dev.sijunyang.celog.core.domain.user;
 
+import dev.sijunyang.celog.core.global.cache.CacheNames;
 import dev.sijunyang.celog.core.global.enums.AuthenticationType;
 import dev.sijunyang.celog.core.global.enums.Role;
 import dev.sijunyang.celog.core.global.error.nextVer.InvalidInputException;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
@@ -10,6 +12,8 @@ import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
 
 import java.util.Optional;
 
@@ -22,12 +26,21 @@ class UserServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private CacheManager cacheManager;
+
     @InjectMocks
     private UserService userService;
 
     @Captor
     private ArgumentCaptor<UserEntity> userEntityCaptor;
 
+    @BeforeEach
+    void setUp() {
+        lenient().when(cacheManager.getCache(CacheNames.USER_EXISTENCE))
+            .thenReturn(new ConcurrentMapCache(CacheNames.USER_EXISTENCE));
+    }
+
     @Test
     void shouldCreateNewUser() {
         // Given
@@ -89,7 +102,8 @@ class UserServiceTest {
 
         // Then
         // 의존하는 Mock 객체가 올바르게 호출되었는가?
-        verify(userRepository, times(2)).existsById(userId);
+        // 요청자와 수정 대상이 같으므로 두 번째 존재 확인은 캐시에서 처리된다.
+        verify(userRepository, times(1)).existsById(userId);
         verify(userRepository, times(1)).save(userEntityCaptor.capture());
 
         UserEntity capturedUserEntity = userEntityCaptor.getValue();
@@ -113,7 +127,7 @@ class UserServiceTest {
         userService.deleteUser(requester, userId);
 
         // Then
-        verify(userRepository, times(2)).existsById(userId);
+        verify(userRepository, times(1)).existsById(userId);
         verify(userRepository, times(1)).deleteById(userId);
     }
 
@@ -187,6 +201,46 @@ class UserServiceTest {
         assertFalse(userService.existUserByOAuthInfo(providerName, oauthUserId));
     }
 
+    @Test
+    void shouldCacheExistingUserOnValidation() {
+        // Given
+        long userId = 1L;
+        when(userRepository.existsById(userId)).thenReturn(true);
+
+        // When
+        userService.validateUserExistence(userId);
+        userService.validateUserExistence(userId);
+
+        // Then
+        verify(userRepository, times(1)).existsById(userId);
+    }
+
+    @Test
+    void shouldNotCacheMissingUserOnValidation() {
+        // Given
+        long userId = 1L;
+        when(userRepository.existsById(userId)).thenReturn(false, true);
+
+        // When & Then
+        assertThrows(InvalidInputException.class, () -> userService.validateUserExistence(userId));
+        assertDoesNotThrow(() -> userService.validateUserExistence(userId));
+        verify(userRepository, times(2)).existsById(userId);
+    }
+
+    @Test
+    void shouldEvictUserExistenceWhenUserDeleted() {
+        // Given
+        long userId = 1L;
+        RequestUser requester = new RequestUser(userId, Role.USER);
+        when(userRepository.existsById(userId)).thenReturn(true, false);
+
+        // When
+        userService.deleteUser(requester, userId);
+
+        // Then
+        assertThrows(InvalidInputException.class, () -> userService.validateUserExistence(userId));
+    }
+
     @Test
     void shouldThrowDuplicatedEmailException() {
         // Given
@@ -0,0 +1,138 @@
+package dev.sijunyang.celog.surpport.datasource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import dev.sijunyang.celog.core.global.cache.ReplicaReads;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicationRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primaryDataSource;
+
+    @Mock
+    private HikariDataSource replicaDataSource;
+
+    private final Connection primaryConnection = mock(Connection.class);
+
+    private final Connection replicaConnection = mock(Connection.class);
+
+    private ReplicationRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        this.routingDataSource = new ReplicationRoutingDataSource(this.primaryDataSource,
+                List.of(this.replicaDataSource));
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        PrimaryReadContext.clear();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void shouldRouteReadOnlyTransactionToReplica() throws SQLException {
+        // Given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(this.replicaDataSource.getConnection()).thenReturn(this.replicaConnection);
+
+        // When
+        Connection connection = this.routingDataSource.getConnection();
+
+        // Then
+        assertSame(this.replicaConnection, connection);
+        verifyNoInteractions(this.primaryDataSource);
+    }
+
+    @Test
+    void shouldMarkTransactionReadFromReplicaUntilCompletion() throws SQLException {
+        // Given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        TransactionSynchronizationManager.initSynchronization();
+        when(this.replicaDataSource.getConnection()).thenReturn(this.replicaConnection);
+
+        // When
+        this.routingDataSource.getConnection();
+
+        // Then
+        // 복제 데이터베이스에서 읽은 트랜잭션은 공유 캐시를 채우지 않으며, 기록은 트랜잭션이 끝나면 지워진다.
+        assertTrue(ReplicaReads.isCurrentTransactionReadFromReplica());
+        TransactionSynchronizationUtils.invokeAfterCompletion(TransactionSynchronizationManager.getSynchronizations(),
+                TransactionSynchronization.STATUS_COMMITTED);
+        assertFalse(ReplicaReads.isCurrentTransactionReadFromReplica());
+    }
+
+    @Test
+    void shouldRouteReadWriteTransactionToPrimary() throws SQLException {
+        // Given
+        when(this.primaryDataSource.getConnection()).thenReturn(this.primaryConnection);
+
+        // When
+        Connection connection = this.routingDataSource.getConnection();
+
+        // Then
+        assertSame(this.primaryConnection, connection);
+        verifyNoInteractions(this.replicaDataSource);
+    }
+
+    @Test
+    void shouldReadFromPrimaryAfterOwnWrite() throws SQLException {
+        // Given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        PrimaryReadContext.require();
+        when(this.primaryDataSource.getConnection()).thenReturn(this.primaryConnection);
+
+        // When
+        Connection connection = this.routingDataSource.getConnection();
+
+        // Then
+        assertSame(this.primaryConnection, connection);
+        verifyNoInteractions(this.replicaDataSource);
+    }
+
+    @Test
+    void shouldFallBackToPrimaryAndSkipFailedReplica() throws SQLException {
+        // Given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(this.replicaDataSource.getConnection()).thenThrow(new SQLException("connection refused"));
+        when(this.primaryDataSource.getConnection()).thenReturn(this.primaryConnection);
+
+        // When
+        Connection first = this.routingDataSource.getConnection();
+        Connection second = this.routingDataSource.getConnection();
+
+        // Then
+        assertSame(this.primaryConnection, first);
+        assertSame(this.primaryConnection, second);
+        // 실패한 복제 데이터베이스는 다음 상태 확인 전까지 다시 시도하지 않는다.
+        verify(this.replicaDataSource, times(1)).getConnection();
+    }
+
+}